@@ -0,0 +1,23 @@
+package com.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.certificados.assinatura")
+public class AssinaturaCertificadoProperties {
+
+    // Identificador da chave usada para assinar novos códigos
+    private String chaveAtiva;
+
+    // Chaves HMAC aceitas na verificação, por identificador (valores em Base64).
+    // Para rotacionar: inclua a nova chave, troque a chave ativa e remova a antiga
+    // somente quando os códigos assinados com ela puderem deixar de ser aceitos.
+    private Map<String, String> chaves = new HashMap<>();
+}
@@ -0,0 +1,36 @@
+package com.config;
+
+import java.time.Duration;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches em memória dos dados de referência (cursos e palestrantes), limitados por
+ * tamanho e validade. Gravações e remoções no cache só acontecem após o commit da
+ * transação, então uma leitura concorrente não repõe um valor ainda não confirmado.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CURSOS = "cursos";
+    public static final String PALESTRANTES = "palestrantes";
+
+    @Bean
+    public CacheManager cacheManager(CacheReferenciaProperties properties) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(CURSOS, PALESTRANTES);
+        caffeine.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntradas())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSegundos()))
+                .recordStats());
+        caffeine.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,18 @@
+package com.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.cache.referencia")
+public class CacheReferenciaProperties {
+
+    // Máximo de entradas por cache (cursos e palestrantes são tabelas pequenas)
+    private long maxEntradas = 1_000;
+
+    // Validade de uma entrada; cobre alterações feitas fora dos serviços (ex.: direto no banco)
+    private long ttlSegundos = 600;
+}
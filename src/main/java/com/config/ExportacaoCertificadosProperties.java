@@ -0,0 +1,18 @@
+package com.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.certificados.exportacao")
+public class ExportacaoCertificadosProperties {
+
+    // Threads que renderizam os PDFs (compartilhadas entre as exportações)
+    private int threads = 4;
+
+    // Certificados lidos do banco e renderizados por vez; limita a memória de cada exportação
+    private int tamanhoPagina = 64;
+}
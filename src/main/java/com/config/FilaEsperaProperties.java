@@ -0,0 +1,27 @@
+package com.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.fila")
+public class FilaEsperaProperties {
+
+    // Vazão padrão de admissões por evento quando a fila é ativada sem informar a taxa
+    private int admissoesPorSegundo = 50;
+
+    // Limite de tickets aguardando por evento
+    private int capacidadeMaxima = 50_000;
+
+    // Threads que executam as inscrições admitidas (limita as conexões usadas pela fila)
+    private int threadsAdmissao = 4;
+
+    // Intervalo entre as rodadas de admissão (usado pelo agendamento)
+    private long intervaloAdmissaoMs = 100;
+
+    // Por quanto tempo um ticket finalizado continua consultável
+    private long retencaoTicketsSegundos = 900;
+}
@@ -0,0 +1,27 @@
+package com.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.certificados.geracao")
+public class GeracaoCertificadosProperties {
+
+    // Alunos processados (e confirmados no banco) por transação
+    private int tamanhoLote = 500;
+
+    // Gerações executadas em paralelo
+    private int threads = 2;
+
+    // Gerações aguardando execução; acima disso o pedido recebe 503
+    private int capacidadeFila = 100;
+
+    // Sem heartbeat por esse tempo, a geração pode ser assumida por outra instância
+    private long expiracaoPosseMs = 120_000;
+
+    // Intervalo da busca por gerações abandonadas (sem dono ou com o heartbeat vencido)
+    private long intervaloRetomadaMs = 60_000;
+}
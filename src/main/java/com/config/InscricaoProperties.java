@@ -0,0 +1,40 @@
+package com.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.inscricoes")
+public class InscricaoProperties {
+
+    public enum Estrategia {
+        // Cada requisição reserva a vaga e insere a inscrição na própria transação
+        SINCRONA,
+        // Um consumidor por evento aplica as inscrições em memória e grava em micro-lotes
+        PIPELINE
+    }
+
+    private volatile Estrategia estrategia = Estrategia.SINCRONA;
+
+    private Pipeline pipeline = new Pipeline();
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+
+        // Capacidade do buffer circular de cada evento; cheio, a requisição recebe 503
+        private int capacidadeBuffer = 4096;
+
+        // Máximo de inscrições gravadas por transação
+        private int tamanhoLote = 128;
+
+        // Tempo máximo que a requisição aguarda o consumidor confirmar a inscrição
+        private long timeoutRespostaMs = 30_000;
+
+        // Após esse tempo sem pedidos, o consumidor do evento é encerrado
+        private long ociosidadeMs = 60_000;
+    }
+}
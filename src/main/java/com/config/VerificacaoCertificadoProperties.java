@@ -0,0 +1,33 @@
+package com.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eventos.certificados.verificacao")
+public class VerificacaoCertificadoProperties {
+
+    // Quantidade de hashes para a qual o filtro de Bloom é dimensionado (cresce na reconstrução)
+    private int capacidadeFiltro = 1_000_000;
+
+    // Taxa de falso positivo desejada do filtro
+    private double taxaFalsoPositivo = 0.001;
+
+    // Máximo de resumos de certificados mantidos em memória (LRU)
+    private int maxResumos = 10_000;
+
+    // Validade de um resumo em cache; cobre remoções em cascata (evento, aluno, palestrante)
+    private long ttlResumoSegundos = 300;
+
+    // Intervalo de reconstrução do filtro a partir do banco (descarta hashes removidas)
+    private long intervaloReconstrucaoMs = 3_600_000;
+
+    // Máximo de hashes aceitas em uma verificação em lote
+    private int maxHashesPorRequisicao = 10_000;
+
+    // Hashes resolvidas por consulta (um IN por bloco) na verificação em lote
+    private int tamanhoConsulta = 500;
+}
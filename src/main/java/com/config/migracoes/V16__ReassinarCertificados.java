@@ -0,0 +1,60 @@
+package com.config.migracoes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import com.model.domain.Certificado;
+import com.model.domain.HashCertificadoConverter;
+import com.model.services.GeradorHashCertificado;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Dá um código assinado, com a chave ativa, aos certificados que a V15 deixou sem
+ * assinatura: hashes SHA-256 anteriores aos códigos assinados, textos enviados na emissão
+ * e códigos que não eram do próprio aluno e evento. O novo código é o mesmo que a emissão
+ * geraria hoje para o par; o código antigo continua aceito pela chave em {@code hash_legado}.
+ * É uma migração Java porque precisa da chave de assinatura; o Spring Boot entrega ao
+ * Flyway os beans de {@code JavaMigration}.
+ */
+@Component
+@RequiredArgsConstructor
+public class V16__ReassinarCertificados extends BaseJavaMigration {
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private final GeradorHashCertificado geradorHash;
+    private final HashCertificadoConverter converter = new HashCertificadoConverter();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexao = context.getConnection();
+        try (Statement select = conexao.createStatement();
+             ResultSet pendentes = select.executeQuery(
+                 "SELECT id, aluno_id, evento_id FROM certificados WHERE hash_certificado IS NULL");
+             PreparedStatement update = conexao.prepareStatement(
+                 "UPDATE certificados SET chave_assinatura = ?, hash_certificado = ? WHERE id = ?")) {
+            int emLote = 0;
+            while (pendentes.next()) {
+                String codigo = geradorHash.gerar(pendentes.getInt("aluno_id"), pendentes.getInt("evento_id"));
+                update.setString(1, codigo.substring(0, codigo.indexOf('.')));
+                update.setBytes(2, converter.convertToDatabaseColumn(Certificado.assinaturaDe(codigo)));
+                update.setInt(3, pendentes.getInt("id"));
+                update.addBatch();
+                if (++emLote == TAMANHO_LOTE) {
+                    update.executeBatch();
+                    emLote = 0;
+                }
+            }
+            if (emLote > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+}
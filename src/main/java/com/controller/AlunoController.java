@@ -1,7 +1,5 @@
 package com.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,10 +8,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.model.domain.Aluno;
+import com.model.dto.DetalheAluno;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoAluno;
 import com.model.services.AlunoService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,24 +28,26 @@ public class AlunoController {
     private final AlunoService alunoService;
 
     @GetMapping
-    public List<Aluno> listar() {
-        return alunoService.listarTodos();
+    public Pagina<ResumoAluno> listar(@RequestParam(required = false) Integer after,
+                                      @RequestParam(required = false) Integer limit) {
+        return alunoService.listar(after, limit);
     }
 
     @GetMapping("/{id}")
-    public Aluno buscar(@PathVariable Integer id) {
-        return alunoService.buscarPorId(id);
+    public DetalheAluno buscar(@PathVariable Integer id) {
+        return alunoService.detalhar(id);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Aluno criar(@RequestBody Aluno aluno) {
-        return alunoService.criar(aluno);
+    public DetalheAluno criar(@RequestBody Aluno aluno) {
+        return alunoService.detalhar(alunoService.criar(aluno).getId());
     }
 
     @PutMapping("/{id}")
-    public Aluno atualizar(@PathVariable Integer id, @RequestBody Aluno aluno) {
-        return alunoService.atualizar(id, aluno);
+    public DetalheAluno atualizar(@PathVariable Integer id, @RequestBody Aluno aluno) {
+        alunoService.atualizar(id, aluno);
+        return alunoService.detalhar(id);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,28 @@
+package com.controller;
+
+import java.util.List;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.model.dto.EstatisticasCache;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    @GetMapping
+    public List<EstatisticasCache> estatisticas() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(nome -> EstatisticasCache.de(cacheManager.getCache(nome)))
+                .toList();
+    }
+}
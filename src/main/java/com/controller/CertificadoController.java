@@ -1,21 +1,52 @@
 package com.controller;
 
-import java.util.List;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 
 import com.model.domain.Certificado;
+import com.model.domain.GeracaoCertificados;
+import com.model.domain.LoteCertificados;
+import com.model.dto.AuditoriaLote;
+import com.model.dto.CodigoCertificado;
+import com.model.dto.DetalheCertificado;
+import com.model.dto.Pagina;
+import com.model.dto.ProvaInclusao;
+import com.model.dto.ResumoCertificado;
 import com.model.services.CertificadoService;
+import com.model.services.ExportacaoCertificadosService;
+import com.model.services.ExportacaoJson;
+import com.model.services.GeracaoCertificadosService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -24,31 +55,159 @@ import lombok.RequiredArgsConstructor;
 public class CertificadoController {
 
     private final CertificadoService certificadoService;
+    private final GeracaoCertificadosService geracaoCertificadosService;
+    private final ExportacaoCertificadosService exportacaoCertificadosService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public List<Certificado> listarTodos(@RequestParam(required = false) Integer alunoId,
-                                         @RequestParam(required = false) Integer eventoId) {
+    public Pagina<ResumoCertificado> listar(@RequestParam(required = false) Integer alunoId,
+                                            @RequestParam(required = false) Integer eventoId,
+                                            @RequestParam(required = false) Integer after,
+                                            @RequestParam(required = false) Integer limit) {
         if (alunoId != null) {
-            return certificadoService.listarPorAluno(alunoId);
+            return certificadoService.listarPorAluno(alunoId, after, limit);
         }
         if (eventoId != null) {
-            return certificadoService.listarPorEvento(eventoId);
+            return certificadoService.listarPorEvento(eventoId, after, limit);
         }
-        return certificadoService.listarTodos();
+        return certificadoService.listar(after, limit);
+    }
+
+    /**
+     * Certificados dos eventos iniciados entre {@code inicio} e {@code fim} (inclusive),
+     * transmitidos como array JSON ou, com {@code Accept: application/x-ndjson}, um por linha.
+     */
+    @GetMapping(value = "/exportacao",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        certificadoService.validarPeriodo(inicio, fim);
+        boolean ndjson = ExportacaoJson.pedeNdjson(accept);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(saida -> certificadoService.exportarPorPeriodo(inicio, fim, ndjson, saida));
     }
 
     @GetMapping("/hash/{hash}")
-    public Certificado buscarPorHash(@PathVariable String hash) {
-        return certificadoService.buscarPorHash(hash);
+    public DetalheCertificado buscarPorHash(@PathVariable String hash) {
+        return DetalheCertificado.de(certificadoService.buscarPorHash(hash));
+    }
+
+    /**
+     * Verificação pública de autenticidade: devolve apenas os dados do certificado
+     * necessários para conferência.
+     */
+    @GetMapping("/verificar/{hash}")
+    public ResumoCertificado verificar(@PathVariable String hash) {
+        return certificadoService.verificar(hash);
+    }
+
+    /**
+     * Verificação em lote: recebe um array JSON ou NDJSON (uma hash entre aspas por linha)
+     * e devolve um resultado NDJSON por hash, na ordem de entrada, à medida que cada bloco
+     * é resolvido. Um erro depois do início da resposta vira uma linha {@code {"erro": ...}}.
+     */
+    @PostMapping(value = "/verificar",
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void verificarEmLote(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream saida = new BufferedOutputStream(response.getOutputStream());
+        try (MappingIterator<String> hashes = objectMapper.readerFor(String.class).readValues(request.getInputStream())) {
+            certificadoService.verificarEmLote(hashes, resultado -> escreverLinha(saida, resultado));
+        } catch (RuntimeJsonMappingException | JsonProcessingException e) {
+            falharVerificacao(response, saida, new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Esperado um array JSON ou NDJSON de hashes", e));
+        } catch (ResponseStatusException e) {
+            falharVerificacao(response, saida, e);
+        }
+        saida.flush();
+    }
+
+    private void falharVerificacao(HttpServletResponse response, OutputStream saida, ResponseStatusException erro) {
+        if (!response.isCommitted()) {
+            throw erro;
+        }
+        escreverLinha(saida, Map.of("erro", String.valueOf(erro.getReason())));
+    }
+
+    private void escreverLinha(OutputStream saida, Object valor) {
+        try {
+            saida.write(objectMapper.writeValueAsBytes(valor));
+            saida.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping("/hash/{hash}/prova")
+    public ProvaInclusao provaInclusao(@PathVariable String hash) {
+        return certificadoService.provaInclusao(hash);
+    }
+
+    @GetMapping("/validar/{codigo}")
+    public CodigoCertificado validar(@PathVariable String codigo) {
+        return certificadoService.validar(codigo);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Certificado emitir(@RequestParam Integer alunoId,
-                              @RequestParam Integer eventoId,
-                              @RequestParam Integer palestranteId,
-                              @RequestBody Certificado payload) {
-        return certificadoService.emitir(alunoId, eventoId, palestranteId, payload);
+    public DetalheCertificado emitir(@RequestParam Integer alunoId,
+                                     @RequestParam Integer eventoId,
+                                     @RequestParam Integer palestranteId,
+                                     @RequestBody Certificado payload) {
+        return DetalheCertificado.de(certificadoService.emitir(alunoId, eventoId, palestranteId, payload));
+    }
+
+    /**
+     * Inicia a geração dos certificados de todos os alunos presentes no evento.
+     * Responde na hora com a geração criada (ou com a que já está em andamento para o
+     * evento); o andamento é consultado pelo id.
+     */
+    @PostMapping("/eventos/{eventoId}/geracoes")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public GeracaoCertificados gerarParaEvento(@PathVariable Integer eventoId,
+                                               @RequestParam Integer palestranteId,
+                                               @RequestParam(required = false) String nomeInstituicao,
+                                               @RequestParam(required = false) String identidadeInstituicao) {
+        return geracaoCertificadosService.iniciar(eventoId, palestranteId, nomeInstituicao, identidadeInstituicao);
+    }
+
+    @GetMapping("/eventos/{eventoId}/lotes")
+    public Pagina<LoteCertificados> listarLotes(@PathVariable Integer eventoId,
+                                                @RequestParam(required = false) Integer after,
+                                                @RequestParam(required = false) Integer limit) {
+        return certificadoService.listarLotes(eventoId, after, limit);
+    }
+
+    @GetMapping("/lotes/{loteId}/auditoria")
+    public AuditoriaLote auditarLote(@PathVariable Integer loteId) {
+        return certificadoService.auditarLote(loteId);
+    }
+
+    /**
+     * Todos os certificados do evento em PDF, em um ZIP transmitido à medida que os
+     * arquivos são renderizados.
+     */
+    @GetMapping(value = "/eventos/{eventoId}/pdfs", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> exportarPdfs(@PathVariable Integer eventoId) {
+        exportacaoCertificadosService.validarEvento(eventoId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename("certificados-evento-" + eventoId + ".zip").build().toString())
+                .body(saida -> exportacaoCertificadosService.exportarPdfs(eventoId, saida));
+    }
+
+    @GetMapping("/geracoes/{geracaoId}")
+    public GeracaoCertificados consultarGeracao(@PathVariable String geracaoId) {
+        return geracaoCertificadosService.consultar(geracaoId);
+    }
+
+    @PostMapping("/{id}/revogacao")
+    public DetalheCertificado revogar(@PathVariable Integer id, @RequestParam(required = false) String motivo) {
+        return DetalheCertificado.de(certificadoService.revogar(id, motivo));
     }
 
     @DeleteMapping("/{id}")
@@ -1,7 +1,5 @@
 package com.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,10 +8,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.model.domain.Colaborador;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoColaborador;
 import com.model.services.ColaboradorService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,8 +27,9 @@ public class ColaboradorController {
     private final ColaboradorService colaboradorService;
 
     @GetMapping
-    public List<Colaborador> listar() {
-        return colaboradorService.listarTodos();
+    public Pagina<ResumoColaborador> listar(@RequestParam(required = false) Integer after,
+                                            @RequestParam(required = false) Integer limit) {
+        return colaboradorService.listar(after, limit);
     }
 
     @GetMapping("/{id}")
@@ -1,8 +1,8 @@
 package com.controller;
 
-import java.util.List;
-
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,10 +10,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.model.domain.Curso;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoCurso;
 import com.model.services.CursoService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,25 +29,35 @@ public class CursoController {
 
     private final CursoService cursoService;
 
+    /**
+     * Responde 304 quando o {@code If-None-Match} ainda corresponde à versão da página.
+     */
     @GetMapping
-    public List<Curso> listar() {
-        return cursoService.listarTodos();
+    public ResponseEntity<Pagina<ResumoCurso>> listar(@RequestParam(required = false) Integer after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      WebRequest request) {
+        String versao = cursoService.versaoCatalogo(after, limit);
+        if (request.checkNotModified(versao)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(versao)
+                .body(cursoService.listar(after, limit));
     }
 
     @GetMapping("/{id}")
-    public Curso buscar(@PathVariable Integer id) {
-        return cursoService.buscarPorId(id);
+    public ResumoCurso buscar(@PathVariable Integer id) {
+        return ResumoCurso.de(cursoService.buscarPorId(id));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Curso criar(@RequestBody Curso curso) {
-        return cursoService.criar(curso);
+    public ResumoCurso criar(@RequestBody Curso curso) {
+        return ResumoCurso.de(cursoService.criar(curso));
     }
 
     @PutMapping("/{id}")
-    public Curso atualizar(@PathVariable Integer id, @RequestBody Curso curso) {
-        return cursoService.atualizar(id, curso);
+    public ResumoCurso atualizar(@PathVariable Integer id, @RequestBody Curso curso) {
+        return ResumoCurso.de(cursoService.atualizar(id, curso));
     }
 
     @DeleteMapping("/{id}")
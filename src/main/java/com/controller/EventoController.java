@@ -2,22 +2,40 @@ package com.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.model.domain.Evento;
-import com.model.domain.Inscricao;
+import com.model.dto.DetalheEvento;
+import com.model.dto.FacetaCategoria;
+import com.model.dto.Pagina;
+import com.model.dto.ResultadoSorteio;
+import com.model.dto.ResumoEvento;
+import com.model.dto.ResumoInscricao;
+import com.model.dto.TicketFila;
+import com.model.services.BuscaEventosService;
+import com.model.services.CategoriaService;
 import com.model.services.EventoService;
+import com.model.services.ExportacaoJson;
+import com.model.services.FilaEsperaService;
 import com.model.services.InscricaoService;
+import com.model.services.SorteioService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,27 +45,65 @@ import lombok.RequiredArgsConstructor;
 public class EventoController {
 
     private final EventoService eventoService;
+    private final BuscaEventosService buscaEventosService;
+    private final CategoriaService categoriaService;
     private final InscricaoService inscricaoService;
+    private final FilaEsperaService filaEsperaService;
+    private final SorteioService sorteioService;
 
+    /**
+     * Responde 304 quando o {@code If-None-Match} ainda corresponde à versão da página,
+     * calculada sobre as linhas do mesmo filtro, cursor e limite.
+     */
     @GetMapping
-    public List<Evento> listar(@RequestParam(value = "categoria", required = false) String categoria) {
-        return eventoService.buscarPorCategoria(categoria);
+    public ResponseEntity<Pagina<ResumoEvento>> listar(
+            @RequestParam(value = "categoria", required = false) String categoria,
+            @RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        String versao = eventoService.versaoCatalogo(categoria, after, limit);
+        if (request.checkNotModified(versao)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(versao)
+                .body(eventoService.listar(categoria, after, limit));
+    }
+
+    /**
+     * Busca textual em nome, descrição, categorias e palestrantes, ordenada por relevância.
+     */
+    @GetMapping("/search")
+    public List<ResumoEvento> pesquisar(@RequestParam("q") String consulta,
+                                        @RequestParam(required = false) Integer limit) {
+        return buscaEventosService.buscar(consulta, limit);
+    }
+
+    /**
+     * Categorias com a quantidade de eventos em cada uma, da maior para a menor.
+     * {@code proximos} considera só eventos que ainda não começaram e {@code cursoId},
+     * só os eventos em que alunos do curso podem se inscrever.
+     */
+    @GetMapping("/categorias")
+    public List<FacetaCategoria> facetas(@RequestParam(defaultValue = "false") boolean proximos,
+                                         @RequestParam(required = false) Integer cursoId) {
+        return categoriaService.facetas(proximos, cursoId);
     }
 
     @GetMapping("/{id}")
-    public Evento buscar(@PathVariable Integer id) {
-        return eventoService.buscarPorId(id);
+    public DetalheEvento buscar(@PathVariable Integer id) {
+        return eventoService.detalhar(id);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Evento criar(@RequestBody Evento evento) {
-        return eventoService.criar(evento);
+    public DetalheEvento criar(@RequestBody Evento evento) {
+        return eventoService.detalhar(eventoService.criar(evento).getId());
     }
 
     @PutMapping("/{id}")
-    public Evento atualizar(@PathVariable Integer id, @RequestBody Evento evento) {
-        return eventoService.atualizar(id, evento);
+    public DetalheEvento atualizar(@PathVariable Integer id, @RequestBody Evento evento) {
+        eventoService.atualizar(id, evento);
+        return eventoService.detalhar(id);
     }
 
     @DeleteMapping("/{id}")
@@ -56,14 +112,68 @@ public class EventoController {
         eventoService.remover(id);
     }
 
+    /**
+     * Com a fila de espera ativa, responde 202 com o ticket; caso contrário,
+     * registra a inscrição na hora e responde 201.
+     */
     @PostMapping("/{eventoId}/inscricoes")
-    @ResponseStatus(HttpStatus.CREATED)
-    public Inscricao inscrever(@PathVariable Integer eventoId, @RequestParam Integer alunoId) {
-        return inscricaoService.registrar(eventoId, alunoId);
+    public ResponseEntity<?> inscrever(@PathVariable Integer eventoId, @RequestParam Integer alunoId) {
+        if (filaEsperaService.isAtiva(eventoId)) {
+            return ResponseEntity.accepted().body(filaEsperaService.entrar(eventoId, alunoId));
+        }
+        Integer inscricaoId = inscricaoService.registrar(eventoId, alunoId).getId();
+        return ResponseEntity.status(HttpStatus.CREATED).body(inscricaoService.resumir(inscricaoId));
     }
 
     @GetMapping("/{eventoId}/inscricoes")
-    public List<Inscricao> listarInscricoes(@PathVariable Integer eventoId) {
-        return inscricaoService.listarPorEvento(eventoId);
+    public Pagina<ResumoInscricao> listarInscricoes(@PathVariable Integer eventoId,
+                                                    @RequestParam(required = false) Integer after,
+                                                    @RequestParam(required = false) Integer limit) {
+        return inscricaoService.listarPorEvento(eventoId, after, limit);
+    }
+
+    /**
+     * Todas as inscrições do evento, transmitidas como array JSON ou, com
+     * {@code Accept: application/x-ndjson}, uma por linha.
+     */
+    @GetMapping(value = "/{eventoId}/inscricoes/exportacao",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportarInscricoes(
+            @PathVariable Integer eventoId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        inscricaoService.validarEvento(eventoId);
+        boolean ndjson = ExportacaoJson.pedeNdjson(accept);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(saida -> inscricaoService.exportarPorEvento(eventoId, ndjson, saida));
+    }
+
+    @PutMapping("/{eventoId}/fila")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void ativarFila(@PathVariable Integer eventoId,
+                           @RequestParam(required = false) Integer admissoesPorSegundo) {
+        filaEsperaService.ativar(eventoId, admissoesPorSegundo);
+    }
+
+    @DeleteMapping("/{eventoId}/fila")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void desativarFila(@PathVariable Integer eventoId) {
+        filaEsperaService.desativar(eventoId);
+    }
+
+    @GetMapping("/{eventoId}/fila/{ticket}")
+    public TicketFila consultarTicket(@PathVariable Integer eventoId, @PathVariable String ticket) {
+        return filaEsperaService.consultar(eventoId, ticket);
+    }
+
+    @PostMapping("/{eventoId}/intencoes")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void registrarIntencao(@PathVariable Integer eventoId, @RequestParam Integer alunoId) {
+        sorteioService.registrarIntencao(eventoId, alunoId);
+    }
+
+    @PostMapping("/{eventoId}/sorteio")
+    public ResultadoSorteio realizarSorteio(@PathVariable Integer eventoId) {
+        return sorteioService.realizarSorteio(eventoId);
     }
 }
\ No newline at end of file
@@ -1,18 +1,18 @@
 package com.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.model.domain.Inscricao;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoInscricao;
+import com.model.services.FilaEsperaService;
 import com.model.services.InscricaoService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,20 +23,27 @@ import lombok.RequiredArgsConstructor;
 public class InscricaoController {
 
     private final InscricaoService inscricaoService;
+    private final FilaEsperaService filaEsperaService;
 
     @GetMapping
-    public List<Inscricao> listarPorAluno(@RequestParam Integer alunoId) {
-        return inscricaoService.listarPorAluno(alunoId);
+    public Pagina<ResumoInscricao> listarPorAluno(@RequestParam Integer alunoId,
+                                                  @RequestParam(required = false) Integer after,
+                                                  @RequestParam(required = false) Integer limit) {
+        return inscricaoService.listarPorAluno(alunoId, after, limit);
     }
 
     @PutMapping("/{id}/presenca")
-    public Inscricao registrarPresenca(@PathVariable Integer id, @RequestParam Boolean presente) {
-        return inscricaoService.atualizarPresenca(id, presente);
+    public ResumoInscricao registrarPresenca(@PathVariable Integer id, @RequestParam Boolean presente) {
+        inscricaoService.atualizarPresenca(id, presente);
+        return inscricaoService.resumir(id);
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public Inscricao registrar(@RequestParam Integer eventoId, @RequestParam Integer alunoId) {
-        return inscricaoService.registrar(eventoId, alunoId);
+    public ResponseEntity<?> registrar(@RequestParam Integer eventoId, @RequestParam Integer alunoId) {
+        if (filaEsperaService.isAtiva(eventoId)) {
+            return ResponseEntity.accepted().body(filaEsperaService.entrar(eventoId, alunoId));
+        }
+        Integer inscricaoId = inscricaoService.registrar(eventoId, alunoId).getId();
+        return ResponseEntity.status(HttpStatus.CREATED).body(inscricaoService.resumir(inscricaoId));
     }
 }
\ No newline at end of file
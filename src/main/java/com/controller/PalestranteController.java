@@ -1,8 +1,8 @@
 package com.controller;
 
-import java.util.List;
-
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,10 +10,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.model.domain.Palestrante;
+import com.model.dto.DetalhePalestrante;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoPalestrante;
 import com.model.services.PalestranteService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,25 +30,35 @@ public class PalestranteController {
 
     private final PalestranteService palestranteService;
 
+    /**
+     * Responde 304 quando o {@code If-None-Match} ainda corresponde à versão da página.
+     */
     @GetMapping
-    public List<Palestrante> listar() {
-        return palestranteService.listarTodos();
+    public ResponseEntity<Pagina<ResumoPalestrante>> listar(@RequestParam(required = false) Integer after,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            WebRequest request) {
+        String versao = palestranteService.versaoCatalogo(after, limit);
+        if (request.checkNotModified(versao)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(versao)
+                .body(palestranteService.listar(after, limit));
     }
 
     @GetMapping("/{id}")
-    public Palestrante buscar(@PathVariable Integer id) {
-        return palestranteService.buscarPorId(id);
+    public DetalhePalestrante buscar(@PathVariable Integer id) {
+        return DetalhePalestrante.de(palestranteService.buscarPorId(id));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Palestrante criar(@RequestBody Palestrante palestrante) {
-        return palestranteService.criar(palestrante);
+    public DetalhePalestrante criar(@RequestBody Palestrante palestrante) {
+        return DetalhePalestrante.de(palestranteService.criar(palestrante));
     }
 
     @PutMapping("/{id}")
-    public Palestrante atualizar(@PathVariable Integer id, @RequestBody Palestrante palestrante) {
-        return palestranteService.atualizar(id, palestrante);
+    public DetalhePalestrante atualizar(@PathVariable Integer id, @RequestBody Palestrante palestrante) {
+        return DetalhePalestrante.de(palestranteService.atualizar(id, palestrante));
     }
 
     @DeleteMapping("/{id}")
@@ -3,6 +3,8 @@ package com.model.domain;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
@@ -25,15 +27,18 @@ import lombok.Setter;
 @PrimaryKeyJoinColumn(name = "id")
 public class Aluno extends Pessoa {
 
+    @BatchSize(size = 50)
     @ManyToMany
     @JoinTable(name = "aluno_curso",
             joinColumns = @JoinColumn(name = "aluno_id"),
             inverseJoinColumns = @JoinColumn(name = "curso_id"))
     private List<Curso> cursos = new ArrayList<>();
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "aluno", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Certificado> certificados = new ArrayList<>();
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "aluno", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Inscricao> inscricoes = new ArrayList<>();
 
@@ -0,0 +1,58 @@
+package com.model.domain;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Categoria de eventos. No JSON continua sendo só o nome ({@code "categorias": ["Workshop"]});
+ * nomes que diferem só em maiúsculas e espaços nas pontas são a mesma categoria.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "categorias")
+public class Categoria {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categorias_seq")
+    @SequenceGenerator(name = "categorias_seq", sequenceName = "categorias_seq", allocationSize = 50)
+    private Integer id;
+
+    @JsonValue
+    private String nome;
+
+    // Nome normalizado, com índice único; é por ela que as categorias são procuradas
+    private String chave;
+
+    // Quantidade de eventos na categoria, mantida via CategoriaRepository.ajustarEventos
+    @Column(name = "eventos", insertable = false, updatable = false)
+    private Integer eventos = 0;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Categoria de(String nome) {
+        Categoria categoria = new Categoria();
+        categoria.setNome(nome != null ? nome.trim() : null);
+        categoria.setChave(chave(nome));
+        return categoria;
+    }
+
+    public static String chave(String nome) {
+        return nome != null ? nome.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -1,12 +1,23 @@
 package com.model.domain;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,10 +30,19 @@ import lombok.Setter;
 @NoArgsConstructor
 @Entity
 @Table(name = "certificados")
+@JsonIgnoreProperties({"hashCertificado", "chaveAssinatura", "assinatura", "hashLegado"})
 public class Certificado {
 
+    // A assinatura são os 32 bytes do HMAC em Base64 URL sem padding: o último dos 43
+    // caracteres só carrega 2 bits, então a forma canônica termina em um destes 16
+    static final Pattern HEX_SHA256 = Pattern.compile("[0-9A-F]{64}");
+
+    private static final Pattern FORMATO_CODIGO = Pattern.compile(
+        "[A-Za-z0-9_-]{1,32}\\.(0|[1-9][0-9]{0,8})\\.(0|[1-9][0-9]{0,8})\\.[A-Za-z0-9_-]{42}[AEIMQUYcgkosw048]");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certificados_seq")
+    @SequenceGenerator(name = "certificados_seq", sequenceName = "certificados_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
@@ -37,8 +57,20 @@ public class Certificado {
     @JoinColumn(name = "palestrante_id", nullable = false)
     private Palestrante palestrante;
     
-    @Column(name = "hash_certificado")
-    private String hashCertificado;
+    // Código validador chave.alunoId.eventoId.assinatura (ver GeradorHashCertificado): só a
+    // chave e a assinatura são gravadas, os ids são os do aluno e do evento do certificado
+    @Column(name = "chave_assinatura", nullable = false)
+    private String chaveAssinatura;
+
+    @Convert(converter = HashCertificadoConverter.class)
+    @Column(name = "hash_certificado", nullable = false)
+    private String assinatura;
+
+    // Código emitido antes das assinaturas (hash SHA-256 em hexadecimal ou texto enviado na
+    // emissão), ainda aceito na busca e na verificação. Ver hashLegadoDe
+    @Convert(converter = HashLegadoConverter.class)
+    @Column(name = "hash_legado")
+    private String hashLegado;
     
     @Column(name = "nome_instituicao")
     private String nomeInstituicao;
@@ -46,6 +78,76 @@ public class Certificado {
     @Column(name = "identidade_instituicao")
     private String identidadeInstituicao;
 
+    // Lote em que o certificado foi gravado e a sua prova de inclusão na árvore de Merkle
+    @Column(name = "lote_id")
+    private Integer loteId;
+
+    @Column(name = "indice_lote")
+    private Integer indiceLote;
+
+    @Column(name = "prova_merkle")
+    private String provaMerkle;
+
+    @Column(nullable = false)
+    private boolean revogado;
+
+    @Column(name = "revogado_em")
+    private LocalDateTime revogadoEm;
+
+    @Column(name = "motivo_revogacao")
+    private String motivoRevogacao;
+
+    public String getHashCertificado() {
+        return assinatura == null ? null : codigo(chaveAssinatura, aluno.getId(), evento.getId(), assinatura);
+    }
+
+    /**
+     * Guarda a chave e a assinatura de um código gerado para o aluno e o evento deste certificado.
+     *
+     * @throws IllegalArgumentException se o texto não tiver o formato de um código assinado
+     */
+    public void setHashCertificado(String codigo) {
+        String assinaturaCodigo = assinaturaDe(codigo);
+        if (assinaturaCodigo == null) {
+            throw new IllegalArgumentException("Código de certificado inválido: " + codigo);
+        }
+        this.chaveAssinatura = codigo.substring(0, codigo.indexOf('.'));
+        this.assinatura = assinaturaCodigo;
+    }
+
+    public static String codigo(String chave, Integer alunoId, Integer eventoId, String assinatura) {
+        return chave + '.' + alunoId + '.' + eventoId + '.' + assinatura;
+    }
+
+    /**
+     * Assinatura de um código no formato {@code chave.alunoId.eventoId.assinatura}, usada nas
+     * buscas pelo índice de {@code hash_certificado}.
+     *
+     * @return a assinatura, ou {@code null} se o texto não tiver o formato de um código assinado
+     */
+    public static String assinaturaDe(String codigo) {
+        return codigo != null && FORMATO_CODIGO.matcher(codigo).matches()
+                ? codigo.substring(codigo.lastIndexOf('.') + 1)
+                : null;
+    }
+
+    /**
+     * Chave de busca de um código emitido antes das assinaturas: o próprio código quando é
+     * uma hash SHA-256 em hexadecimal maiúsculo (gravada como os seus 32 bytes) e, para
+     * qualquer outro texto, o SHA-256 do texto em UTF-8. A mesma regra da migração V15.
+     */
+    public static String hashLegadoDe(String codigo) {
+        if (HEX_SHA256.matcher(codigo).matches()) {
+            return codigo;
+        }
+        try {
+            byte[] resumo = MessageDigest.getInstance("SHA-256").digest(codigo.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().withUpperCase().formatHex(resumo);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 não disponível", e);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
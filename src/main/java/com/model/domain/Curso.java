@@ -3,11 +3,13 @@ package com.model.domain;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -23,10 +25,15 @@ import lombok.Setter;
 public class Curso {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cursos_seq")
+    @SequenceGenerator(name = "cursos_seq", sequenceName = "cursos_seq", allocationSize = 50)
     private Integer id;
     private String nome;
 
+    // Incrementada pelo banco a cada escrita; compõe a ETag da listagem de cursos
+    @Column(name = "versao", insertable = false, updatable = false)
+    private Long versao = 1L;
+
     @ManyToMany(mappedBy = "cursos")
     private List<Aluno> alunos = new ArrayList<>();
 
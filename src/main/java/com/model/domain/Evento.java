@@ -4,10 +4,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -16,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -31,22 +32,27 @@ import lombok.Setter;
 public class Evento {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_seq")
+    @SequenceGenerator(name = "eventos_seq", sequenceName = "eventos_seq", allocationSize = 50)
     private Integer id;
     private String nome;
 
+    // Coleções em lote: percorrer vários eventos busca cada coleção de até 50 deles por consulta
+    @BatchSize(size = 50)
     @ManyToMany
     @JoinTable(name = "evento_curso",
             joinColumns = @JoinColumn(name = "evento_id"),
             inverseJoinColumns = @JoinColumn(name = "curso_id"))
     private List<Curso> cursos = new ArrayList<>();
 
+    @BatchSize(size = 50)
     @ManyToMany
     @JoinTable(name = "evento_palestrante",
             joinColumns = @JoinColumn(name = "evento_id"),
             inverseJoinColumns = @JoinColumn(name = "palestrante_id"))
     private List<Palestrante> palestrantes = new ArrayList<>();
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "evento", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Inscricao> inscricoes = new ArrayList<>();
 
@@ -59,18 +65,42 @@ public class Evento {
     private LocalDateTime horaFim;
     private String descricao;
 
-    @ElementCollection
-    @CollectionTable(name = "evento_categorias", joinColumns = @JoinColumn(name = "evento_id"))
-    @Column(name = "categoria")
-    private List<String> categorias = new ArrayList<>();
+    @BatchSize(size = 50)
+    @ManyToMany
+    @JoinTable(name = "evento_categoria",
+            joinColumns = @JoinColumn(name = "evento_id"),
+            inverseJoinColumns = @JoinColumn(name = "categoria_id"))
+    private List<Categoria> categorias = new ArrayList<>();
     
     @Column(name = "carga_horaria")
     private Integer cargaHoraria;
     private Integer vagas;
+
+    // Mantido exclusivamente pelo banco via EventoRepository.reservarVaga/liberarVaga
+    @Column(name = "vagas_ocupadas", insertable = false, updatable = false)
+    private Integer vagasOcupadas = 0;
+
+    // Presenças confirmadas, mantido pelo banco via EventoRepository.ajustarPresentes
+    @Column(name = "presentes", insertable = false, updatable = false)
+    private Integer presentes = 0;
     
     @Column(name = "banner_url")
     private String bannerUrl;
 
+    // Modo sorteio: inscrições viram intenções e as vagas são sorteadas no encerramento
+    @Column(name = "modo_sorteio")
+    private boolean modoSorteio;
+
+    @Column(name = "sorteio_encerramento")
+    private LocalDateTime sorteioEncerramento;
+
+    @Column(name = "sorteio_realizado", insertable = false, updatable = false)
+    private boolean sorteioRealizado;
+
+    // Incrementada pelo banco a cada escrita; compõe a ETag da listagem de eventos
+    @Column(name = "versao", insertable = false, updatable = false)
+    private Long versao = 1L;
+
     public boolean isAbertoATodos() {
         return cursos == null || cursos.isEmpty();
     }
@@ -117,8 +147,8 @@ public class Evento {
             return 0;
         }
         
-        long inscritos = inscricoes != null ? inscricoes.size() : 0;
-        return Math.max(0, vagas - (int) inscritos);
+        int ocupadas = vagasOcupadas != null ? vagasOcupadas : 0;
+        return Math.max(0, vagas - ocupadas);
     }
 
     public boolean temVagasDisponiveis() {
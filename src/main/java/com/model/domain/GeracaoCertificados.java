@@ -0,0 +1,70 @@
+package com.model.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Geração assíncrona dos certificados de um evento. Os alunos presentes são
+ * processados em ordem de id, em lotes; {@code ultimoAlunoId} marca o último
+ * lote confirmado no banco. {@code dono} e {@code heartbeatEm} indicam qual
+ * instância está executando a geração e quando ela deu sinal de vida pela última vez.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "geracoes_certificados")
+public class GeracaoCertificados {
+
+    @Id
+    private String id;
+
+    @Column(name = "evento_id", nullable = false)
+    private Integer eventoId;
+
+    // Igual a eventoId enquanto a geração está em andamento (índice único); nulo depois
+    @Column(name = "evento_ativo")
+    private Integer eventoAtivo;
+
+    @Column(name = "palestrante_id", nullable = false)
+    private Integer palestranteId;
+
+    @Column(name = "nome_instituicao")
+    private String nomeInstituicao;
+
+    @Column(name = "identidade_instituicao")
+    private String identidadeInstituicao;
+
+    @Enumerated(EnumType.STRING)
+    private StatusGeracao status;
+
+    private int total;
+    private int processados;
+    private int gerados;
+    private int falhas;
+
+    @Column(name = "ultimo_aluno_id")
+    private int ultimoAlunoId;
+
+    private String mensagem;
+
+    private String dono;
+
+    @Column(name = "heartbeat_em")
+    private LocalDateTime heartbeatEm;
+
+    @Column(name = "criado_em")
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em")
+    private LocalDateTime atualizadoEm;
+}
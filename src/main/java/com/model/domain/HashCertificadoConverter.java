@@ -0,0 +1,36 @@
+package com.model.domain;
+
+import java.util.Base64;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Grava a assinatura do código validador, em Base64 URL sem padding, como os 32 bytes do
+ * HMAC-SHA256 em {@code hash_certificado}.
+ */
+@Converter
+public class HashCertificadoConverter implements AttributeConverter<String, byte[]> {
+
+    public static final int TAMANHO = 32;
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String assinatura) {
+        if (assinatura == null) {
+            return null;
+        }
+        byte[] valor = BASE64_DECODER.decode(assinatura);
+        if (valor.length != TAMANHO || !BASE64.encodeToString(valor).equals(assinatura)) {
+            throw new IllegalArgumentException("Assinatura de certificado inválida: " + assinatura);
+        }
+        return valor;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] valor) {
+        return valor == null ? null : BASE64.encodeToString(valor);
+    }
+}
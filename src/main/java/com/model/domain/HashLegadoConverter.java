@@ -0,0 +1,32 @@
+package com.model.domain;
+
+import java.util.HexFormat;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Grava em {@code hash_legado} os 32 bytes de uma chave legada em hexadecimal maiúsculo
+ * (ver {@link Certificado#hashLegadoDe(String)}).
+ */
+@Converter
+public class HashLegadoConverter implements AttributeConverter<String, byte[]> {
+
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        if (!Certificado.HEX_SHA256.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Hash legada de certificado inválida: " + hash);
+        }
+        return HEX.parseHex(hash);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] valor) {
+        return valor == null ? null : HEX.formatHex(valor);
+    }
+}
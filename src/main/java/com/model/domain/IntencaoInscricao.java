@@ -0,0 +1,46 @@
+package com.model.domain;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pedido de participação em um evento em modo sorteio. Não reserva vaga:
+ * as vagas são distribuídas entre as intenções quando a janela se encerra.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "intencoes_inscricao")
+public class IntencaoInscricao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intencoes_inscricao_seq")
+    @SequenceGenerator(name = "intencoes_inscricao_seq", sequenceName = "intencoes_inscricao_seq", allocationSize = 50)
+    private Integer id;
+
+    @ManyToOne
+    @JoinColumn(name = "aluno_id", nullable = false)
+    private Aluno aluno;
+
+    @ManyToOne
+    @JoinColumn(name = "evento_id", nullable = false)
+    private Evento evento;
+
+    @Column(name = "data_intencao")
+    private Date dataIntencao;
+}
@@ -0,0 +1,43 @@
+package com.model.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lote de certificados gravados juntos. {@code raizMerkle} é a raiz da árvore de
+ * Merkle sobre as hashes dos certificados do lote, na ordem de {@code indiceLote}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "lotes_certificados")
+public class LoteCertificados {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lotes_certificados_seq")
+    @SequenceGenerator(name = "lotes_certificados_seq", sequenceName = "lotes_certificados_seq", allocationSize = 50)
+    private Integer id;
+
+    @Column(name = "evento_id", nullable = false)
+    private Integer eventoId;
+
+    @Column(name = "raiz_merkle", nullable = false)
+    private String raizMerkle;
+
+    @Column(nullable = false)
+    private int quantidade;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+}
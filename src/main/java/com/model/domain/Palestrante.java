@@ -27,6 +27,10 @@ public class Palestrante extends Pessoa{
     @Column(name = "foto_url")
     private String fotoUrl;
 
+    // Incrementada pelo banco a cada escrita; compõe a ETag da listagem de palestrantes
+    @Column(name = "versao", insertable = false, updatable = false)
+    private Long versao = 1L;
+
     @ManyToMany(mappedBy = "palestrantes")
     private List<Evento> eventos = new ArrayList<>();
 }
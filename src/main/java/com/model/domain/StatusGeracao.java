@@ -0,0 +1,8 @@
+package com.model.domain;
+
+public enum StatusGeracao {
+    PENDENTE,
+    EXECUTANDO,
+    CONCLUIDA,
+    FALHOU
+}
@@ -0,0 +1,15 @@
+package com.model.dto;
+
+/**
+ * Resultado da auditoria de um lote: a raiz registrada na gravação comparada com a raiz
+ * recalculada a partir das hashes atualmente no banco.
+ */
+public record AuditoriaLote(
+        Integer loteId,
+        Integer eventoId,
+        int quantidadeRegistrada,
+        int quantidadeEncontrada,
+        String raizRegistrada,
+        String raizCalculada,
+        boolean integro) {
+}
@@ -0,0 +1,20 @@
+package com.model.dto;
+
+import com.model.domain.Certificado;
+
+/**
+ * Conteúdo de um código de certificado com assinatura válida.
+ *
+ * @param chave identificador da chave que assinou o código
+ */
+public record CodigoCertificado(
+        String codigo,
+        String chave,
+        Integer alunoId,
+        Integer eventoId) {
+
+    // Usado nas consultas JPQL: monta o código a partir das colunas gravadas
+    public CodigoCertificado(String chave, Integer alunoId, Integer eventoId, String assinatura) {
+        this(Certificado.codigo(chave, alunoId, eventoId, assinatura), chave, alunoId, eventoId);
+    }
+}
@@ -0,0 +1,33 @@
+package com.model.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import com.model.domain.Aluno;
+
+/**
+ * Dados de um aluno com os cursos em que está matriculado. Inscrições e certificados
+ * ficam de fora; são consultados pelas listagens paginadas de cada recurso.
+ */
+public record DetalheAluno(
+        Integer id,
+        String nome,
+        String cpf,
+        String contato,
+        String email,
+        Date dataNascimento,
+        String periodo,
+        List<ResumoCurso> cursos) {
+
+    public static DetalheAluno de(Aluno aluno) {
+        return new DetalheAluno(
+            aluno.getId(),
+            aluno.getNome(),
+            aluno.getCpf(),
+            aluno.getContato(),
+            aluno.getEmail(),
+            aluno.getDataNascimento(),
+            aluno.getPeriodo(),
+            aluno.getCursos().stream().map(ResumoCurso::de).toList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.model.domain.Certificado;
+
+/**
+ * Dados completos de um certificado para a administração; a verificação pública usa
+ * {@link ResumoCertificado}.
+ */
+public record DetalheCertificado(
+        Integer id,
+        String hashCertificado,
+        Integer alunoId,
+        String nomeAluno,
+        Integer eventoId,
+        String nomeEvento,
+        Integer palestranteId,
+        String nomePalestrante,
+        String nomeInstituicao,
+        String identidadeInstituicao,
+        Integer loteId,
+        boolean revogado,
+        LocalDateTime revogadoEm,
+        String motivoRevogacao) {
+
+    public static DetalheCertificado de(Certificado certificado) {
+        return new DetalheCertificado(
+            certificado.getId(),
+            certificado.getHashCertificado(),
+            certificado.getAluno().getId(),
+            certificado.getAluno().getNome(),
+            certificado.getEvento().getId(),
+            certificado.getEvento().getNome(),
+            certificado.getPalestrante().getId(),
+            certificado.getPalestrante().getNome(),
+            certificado.getNomeInstituicao(),
+            certificado.getIdentidadeInstituicao(),
+            certificado.getLoteId(),
+            certificado.isRevogado(),
+            certificado.getRevogadoEm(),
+            certificado.getMotivoRevogacao());
+    }
+}
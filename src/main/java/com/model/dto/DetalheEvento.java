@@ -0,0 +1,50 @@
+package com.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.model.domain.Categoria;
+import com.model.domain.Evento;
+
+/**
+ * Dados de um evento com categorias, cursos permitidos e palestrantes. As inscrições
+ * ficam de fora; são consultadas pela listagem paginada do evento.
+ */
+public record DetalheEvento(
+        Integer id,
+        String nome,
+        String descricao,
+        String local,
+        LocalDateTime horaInicio,
+        LocalDateTime horaFim,
+        Integer cargaHoraria,
+        Integer vagas,
+        Integer vagasOcupadas,
+        String bannerUrl,
+        boolean modoSorteio,
+        LocalDateTime sorteioEncerramento,
+        boolean sorteioRealizado,
+        List<String> categorias,
+        List<ResumoCurso> cursos,
+        List<ResumoPalestrante> palestrantes) {
+
+    public static DetalheEvento de(Evento evento) {
+        return new DetalheEvento(
+            evento.getId(),
+            evento.getNome(),
+            evento.getDescricao(),
+            evento.getLocal(),
+            evento.getHoraInicio(),
+            evento.getHoraFim(),
+            evento.getCargaHoraria(),
+            evento.getVagas(),
+            evento.getVagasOcupadas(),
+            evento.getBannerUrl(),
+            evento.isModoSorteio(),
+            evento.getSorteioEncerramento(),
+            evento.isSorteioRealizado(),
+            evento.getCategorias().stream().map(Categoria::getNome).toList(),
+            evento.getCursos().stream().map(ResumoCurso::de).toList(),
+            evento.getPalestrantes().stream().map(ResumoPalestrante::de).toList());
+    }
+}
@@ -0,0 +1,31 @@
+package com.model.dto;
+
+import java.util.Date;
+
+import com.model.domain.Palestrante;
+
+/**
+ * Dados de um palestrante, sem a lista de eventos.
+ */
+public record DetalhePalestrante(
+        Integer id,
+        String nome,
+        String cpf,
+        String contato,
+        String email,
+        Date dataNascimento,
+        String descricao,
+        String fotoUrl) {
+
+    public static DetalhePalestrante de(Palestrante palestrante) {
+        return new DetalhePalestrante(
+            palestrante.getId(),
+            palestrante.getNome(),
+            palestrante.getCpf(),
+            palestrante.getContato(),
+            palestrante.getEmail(),
+            palestrante.getDataNascimento(),
+            palestrante.getDescricao(),
+            palestrante.getFotoUrl());
+    }
+}
@@ -0,0 +1,32 @@
+package com.model.dto;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Acertos, faltas e remoções (por tamanho ou validade) de um cache desde a subida.
+ */
+public record EstatisticasCache(
+        String nome,
+        long entradas,
+        long acertos,
+        long faltas,
+        double taxaAcerto,
+        long remocoes) {
+
+    public static EstatisticasCache de(Cache cache) {
+        Cache alvo = cache instanceof TransactionAwareCacheDecorator decorador ? decorador.getTargetCache() : cache;
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine = ((CaffeineCache) alvo).getNativeCache();
+        CacheStats stats = caffeine.stats();
+        return new EstatisticasCache(
+            cache.getName(),
+            caffeine.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount());
+    }
+}
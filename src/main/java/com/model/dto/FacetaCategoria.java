@@ -0,0 +1,7 @@
+package com.model.dto;
+
+/**
+ * Categoria com a quantidade de eventos nela, para os filtros do catálogo.
+ */
+public record FacetaCategoria(String categoria, Long eventos) {
+}
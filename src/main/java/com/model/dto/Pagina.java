@@ -0,0 +1,59 @@
+package com.model.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Página de uma listagem paginada por cursor (keyset): os itens vêm em ordem de id e
+ * {@code proximo} é o valor a passar em {@code after} para buscar a página seguinte,
+ * ou null quando não há mais itens.
+ *
+ * Cada página é uma busca pelo índice a partir do último id, então o custo não cresce
+ * com a posição na listagem como acontece com OFFSET.
+ */
+public record Pagina<T>(List<T> itens, Integer proximo) {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 200;
+
+    /**
+     * Primeira busca da página: um item além do limite, para saber se há próxima página.
+     */
+    public static Pageable requisicao(Integer limite) {
+        return PageRequest.of(0, limite(limite) + 1);
+    }
+
+    /**
+     * Id a partir do qual a página começa (exclusivo); sem cursor, a listagem começa do início.
+     */
+    public static int cursor(Integer after) {
+        return after != null ? after : 0;
+    }
+
+    public static <T> Pagina<T> de(List<T> itens, Integer limite, Function<T, Integer> id) {
+        int tamanho = limite(limite);
+        if (itens.size() <= tamanho) {
+            return new Pagina<>(itens, null);
+        }
+        List<T> pagina = itens.subList(0, tamanho);
+        return new Pagina<>(List.copyOf(pagina), id.apply(pagina.get(tamanho - 1)));
+    }
+
+    /**
+     * Tamanho efetivo da página: o padrão quando ausente, limitado ao máximo permitido.
+     */
+    public static int limite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PADRAO;
+        }
+        if (limite < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve ser maior que zero");
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+}
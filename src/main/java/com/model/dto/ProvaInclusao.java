@@ -0,0 +1,17 @@
+package com.model.dto;
+
+import java.util.List;
+
+/**
+ * Prova de inclusão de um certificado na árvore de Merkle do seu lote. A raiz é
+ * recalculada a partir de SHA-256(0x00 || hash) combinando, em ordem, as hashes irmãs
+ * com SHA-256(0x01 || esquerda || direita); {@code E}/{@code D} indicam o lado da irmã.
+ */
+public record ProvaInclusao(
+        String hashCertificado,
+        Integer eventoId,
+        Integer loteId,
+        Integer indice,
+        String raizMerkle,
+        List<String> prova) {
+}
@@ -0,0 +1,16 @@
+package com.model.dto;
+
+/**
+ * Resumo de uma rodada de sorteio, incluindo a vazão da alocação em lote.
+ *
+ * @param vagasSorteadas vagas livres no momento do sorteio
+ * @param contemplados inscrições efetivamente criadas
+ */
+public record ResultadoSorteio(
+        Integer eventoId,
+        long intencoes,
+        int vagasSorteadas,
+        int contemplados,
+        long duracaoMs,
+        double inscricoesPorSegundo) {
+}
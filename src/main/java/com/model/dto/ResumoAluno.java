@@ -0,0 +1,7 @@
+package com.model.dto;
+
+/**
+ * Linha da listagem de alunos.
+ */
+public record ResumoAluno(Integer id, String nome, String email, String periodo) {
+}
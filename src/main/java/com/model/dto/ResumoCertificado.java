@@ -0,0 +1,39 @@
+package com.model.dto;
+
+import com.model.domain.Certificado;
+
+/**
+ * Dados públicos de um certificado, devolvidos na verificação por hash.
+ */
+public record ResumoCertificado(
+        Integer id,
+        String hashCertificado,
+        Integer eventoId,
+        String nomeAluno,
+        String nomeEvento,
+        String nomePalestrante,
+        String nomeInstituicao,
+        boolean revogado,
+        String motivoRevogacao) {
+
+    // Usado nas consultas JPQL: monta o código a partir das colunas gravadas
+    public ResumoCertificado(Integer id, String chave, Integer alunoId, Integer eventoId, String assinatura,
+                             String nomeAluno, String nomeEvento, String nomePalestrante,
+                             String nomeInstituicao, boolean revogado, String motivoRevogacao) {
+        this(id, Certificado.codigo(chave, alunoId, eventoId, assinatura), eventoId, nomeAluno, nomeEvento,
+            nomePalestrante, nomeInstituicao, revogado, motivoRevogacao);
+    }
+
+    public static ResumoCertificado de(Certificado certificado) {
+        return new ResumoCertificado(
+            certificado.getId(),
+            certificado.getHashCertificado(),
+            certificado.getEvento().getId(),
+            certificado.getAluno().getNome(),
+            certificado.getEvento().getNome(),
+            certificado.getPalestrante().getNome(),
+            certificado.getNomeInstituicao(),
+            certificado.isRevogado(),
+            certificado.getMotivoRevogacao());
+    }
+}
@@ -0,0 +1,7 @@
+package com.model.dto;
+
+/**
+ * Linha da listagem de colaboradores.
+ */
+public record ResumoColaborador(Integer id, String nome, String email, String cargo) {
+}
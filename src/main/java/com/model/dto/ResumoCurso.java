@@ -0,0 +1,13 @@
+package com.model.dto;
+
+import com.model.domain.Curso;
+
+/**
+ * Identificação de um curso, usada na listagem e nos detalhes de alunos e eventos.
+ */
+public record ResumoCurso(Integer id, String nome) {
+
+    public static ResumoCurso de(Curso curso) {
+        return new ResumoCurso(curso.getId(), curso.getNome());
+    }
+}
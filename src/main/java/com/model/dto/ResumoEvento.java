@@ -0,0 +1,20 @@
+package com.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha da listagem de eventos. {@code vagasOcupadas} é a quantidade de inscritos.
+ */
+public record ResumoEvento(
+        Integer id,
+        String nome,
+        String local,
+        LocalDateTime horaInicio,
+        LocalDateTime horaFim,
+        Integer cargaHoraria,
+        Integer vagas,
+        Integer vagasOcupadas,
+        Integer presentes,
+        Integer vagasDisponiveis,
+        boolean modoSorteio) {
+}
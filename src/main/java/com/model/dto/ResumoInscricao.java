@@ -0,0 +1,16 @@
+package com.model.dto;
+
+import java.util.Date;
+
+/**
+ * Inscrição com os nomes do aluno e do evento, para as listagens e respostas de inscrição.
+ */
+public record ResumoInscricao(
+        Integer id,
+        Integer alunoId,
+        String nomeAluno,
+        Integer eventoId,
+        String nomeEvento,
+        Date dataInscricao,
+        Boolean presenca) {
+}
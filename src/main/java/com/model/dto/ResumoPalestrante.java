@@ -0,0 +1,14 @@
+package com.model.dto;
+
+import com.model.domain.Palestrante;
+
+/**
+ * Linha da listagem de palestrantes; também usado nos detalhes de um evento.
+ */
+public record ResumoPalestrante(Integer id, String nome, String email, String fotoUrl) {
+
+    public static ResumoPalestrante de(Palestrante palestrante) {
+        return new ResumoPalestrante(palestrante.getId(), palestrante.getNome(), palestrante.getEmail(),
+            palestrante.getFotoUrl());
+    }
+}
@@ -0,0 +1,8 @@
+package com.model.dto;
+
+public enum StatusTicketFila {
+    AGUARDANDO,
+    PROCESSANDO,
+    CONFIRMADO,
+    RECUSADO
+}
@@ -0,0 +1,18 @@
+package com.model.dto;
+
+/**
+ * Situação de um pedido de inscrição na fila de espera de um evento.
+ *
+ * @param posicao posição atual na fila (0 quando já foi admitido)
+ * @param inscricaoId preenchido quando a inscrição é confirmada
+ * @param mensagem motivo da recusa, quando houver
+ */
+public record TicketFila(
+        String ticket,
+        Integer eventoId,
+        Integer alunoId,
+        StatusTicketFila status,
+        long posicao,
+        Integer inscricaoId,
+        String mensagem) {
+}
@@ -0,0 +1,12 @@
+package com.model.dto;
+
+/**
+ * Resultado da verificação de uma hash na verificação em lote. {@code certificado}
+ * é nulo quando a hash não pertence a nenhum certificado; um certificado revogado
+ * é devolvido com {@code valido} falso.
+ */
+public record VerificacaoHash(
+        String hash,
+        boolean valido,
+        ResumoCertificado certificado) {
+}
@@ -0,0 +1,53 @@
+package com.model.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Versão de uma página de listagem: um resumo SHA-256 da consulta (filtro, cursor e
+ * limite) e dos pares (id, versão) das linhas que a página lê, em ordem de id. Qualquer
+ * escrita nessas linhas muda o conjunto de pares (um UPDATE soma 1 à versão da linha,
+ * INSERT e DELETE incluem ou tiram um par) e, com ele, o resumo; escritas em linhas de
+ * outras páginas não mudam a versão desta.
+ */
+public record VersaoCatalogo(int linhas, String resumo) {
+
+    // 128 bits do SHA-256 bastam para a ETag
+    private static final int TAMANHO_RESUMO = 16;
+
+    /**
+     * @param consulta filtro, cursor e limite da página, já normalizados
+     * @param versoes pares (id, versão) das linhas lidas pela página (o limite mais
+     *                a linha que indica a próxima página), em ordem de id
+     */
+    public static VersaoCatalogo de(String consulta, List<VersaoLinha> versoes) {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        sha256.update(consulta.getBytes(StandardCharsets.UTF_8));
+        sha256.update((byte) 0);
+        ByteBuffer par = ByteBuffer.allocate(Integer.BYTES + Long.BYTES);
+        for (VersaoLinha linha : versoes) {
+            par.clear();
+            par.putInt(linha.id()).putLong(linha.versao());
+            sha256.update(par.array());
+        }
+        byte[] resumo = Arrays.copyOf(sha256.digest(), TAMANHO_RESUMO);
+        return new VersaoCatalogo(versoes.size(), Base64.getUrlEncoder().withoutPadding().encodeToString(resumo));
+    }
+
+    /**
+     * ETag forte da página; o conteúdo de uma mesma URL só muda junto com ela.
+     */
+    public String etag() {
+        return linhas + "-" + resumo;
+    }
+}
@@ -0,0 +1,7 @@
+package com.model.dto;
+
+/**
+ * Id e versão de uma linha de listagem, matéria-prima de {@link VersaoCatalogo}.
+ */
+public record VersaoLinha(Integer id, Long versao) {
+}
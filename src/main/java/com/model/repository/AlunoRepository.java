@@ -1,11 +1,19 @@
 package com.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.model.domain.Aluno;
+import com.model.dto.ResumoAluno;
 
 @Repository
 public interface AlunoRepository extends JpaRepository<Aluno, Integer> {
@@ -13,4 +21,16 @@ public interface AlunoRepository extends JpaRepository<Aluno, Integer> {
     boolean existsByCpf(String cpf);
 
     Optional<Aluno> findByEmail(String email);
+
+    @Query("SELECT new com.model.dto.ResumoAluno(a.id, a.nome, a.email, a.periodo) FROM Aluno a "
+            + "WHERE a.id > :depoisDe ORDER BY a.id")
+    List<ResumoAluno> findResumosApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @EntityGraph(attributePaths = "cursos")
+    @Query("SELECT a FROM Aluno a WHERE a.id = :id")
+    Optional<Aluno> findComCursosById(@Param("id") Integer id);
+
+    @Query("SELECT DISTINCT a.id FROM Aluno a JOIN a.cursos c WHERE a.id IN :alunoIds AND c.id IN :cursoIds")
+    Set<Integer> findIdsComAlgumCurso(@Param("alunoIds") Collection<Integer> alunoIds,
+                                      @Param("cursoIds") Collection<Integer> cursoIds);
 }
\ No newline at end of file
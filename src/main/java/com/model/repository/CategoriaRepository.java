@@ -0,0 +1,67 @@
+package com.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.model.domain.Categoria;
+import com.model.dto.FacetaCategoria;
+
+@Repository
+public interface CategoriaRepository extends JpaRepository<Categoria, Integer> {
+
+    List<Categoria> findByChaveIn(Collection<String> chaves);
+
+    /**
+     * Cria a categoria se ainda não houver uma com a mesma chave. Com duas transações
+     * criando a mesma categoria, a segunda espera a primeira e não insere nada, em vez
+     * de falhar no índice único; a categoria é lida em seguida com {@link #findByChaveIn}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO categorias (nome, chave) VALUES (:nome, :chave) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int inserirSeAusente(@Param("nome") String nome, @Param("chave") String chave);
+
+    /**
+     * Facetas do catálogo inteiro, direto dos contadores, sem percorrer os eventos.
+     */
+    @Query("SELECT new com.model.dto.FacetaCategoria(c.nome, CAST(c.eventos AS Long)) FROM Categoria c "
+            + "WHERE c.eventos > 0 ORDER BY c.eventos DESC, c.nome")
+    List<FacetaCategoria> findFacetas();
+
+    /**
+     * Facetas contadas na hora, para recortes que os contadores não cobrem: eventos a
+     * partir de {@code inicio} e/ou abertos a alunos do curso (sem restrição de curso
+     * ou com o curso entre os permitidos). Parâmetros nulos não filtram.
+     */
+    @Query("SELECT new com.model.dto.FacetaCategoria(c.nome, COUNT(e)) FROM Evento e JOIN e.categorias c "
+            + "WHERE (:inicio IS NULL OR e.horaInicio >= :inicio) "
+            + "AND (:cursoId IS NULL OR NOT EXISTS (SELECT 1 FROM e.cursos x) "
+            + "OR EXISTS (SELECT 1 FROM e.cursos x WHERE x.id = :cursoId)) "
+            + "GROUP BY c.id, c.nome ORDER BY COUNT(e) DESC, c.nome")
+    List<FacetaCategoria> findFacetasFiltradas(@Param("inicio") LocalDateTime inicio,
+                                               @Param("cursoId") Integer cursoId);
+
+    @Modifying
+    @Query("UPDATE Categoria c SET c.eventos = c.eventos + :delta WHERE c.id IN :ids")
+    int ajustarEventos(@Param("ids") Collection<Integer> ids, @Param("delta") int delta);
+
+    /**
+     * Recalcula o contador de eventos a partir de evento_categoria, corrigindo apenas as
+     * categorias cujo contador divergiu.
+     *
+     * @return quantidade de categorias corrigidas
+     */
+    @Modifying
+    @Query(value = "UPDATE categorias SET eventos = "
+            + "(SELECT COUNT(*) FROM evento_categoria ec WHERE ec.categoria_id = categorias.id) "
+            + "WHERE eventos <> (SELECT COUNT(*) FROM evento_categoria ec WHERE ec.categoria_id = categorias.id)",
+            nativeQuery = true)
+    int reconciliarEventos();
+}
@@ -1,19 +1,91 @@
 package com.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.model.domain.Certificado;
+import com.model.dto.CodigoCertificado;
+import com.model.dto.ResumoCertificado;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface CertificadoRepository extends JpaRepository<Certificado, Integer> {
 
-    Optional<Certificado> findByHashCertificado(String hashCertificado);
+    String RESUMO = "SELECT new com.model.dto.ResumoCertificado(c.id, c.chaveAssinatura, a.id, e.id, c.assinatura, "
+            + "a.nome, e.nome, p.nome, c.nomeInstituicao, c.revogado, c.motivoRevogacao) "
+            + "FROM Certificado c JOIN c.aluno a JOIN c.evento e JOIN c.palestrante p ";
+
+    String CODIGO = "SELECT new com.model.dto.CodigoCertificado(c.chaveAssinatura, c.aluno.id, c.evento.id, "
+            + "c.assinatura) FROM Certificado c ";
+
+    // Buscas pela assinatura (índice único de hash_certificado); quem busca por um código
+    // confere depois se a chave e os ids do certificado encontrado são os mesmos
+    boolean existsByAssinatura(String assinatura);
+
+    @EntityGraph(attributePaths = {"aluno", "evento", "palestrante"})
+    List<Certificado> findByAssinaturaIn(Collection<String> assinaturas);
+
+    @EntityGraph(attributePaths = {"aluno", "evento", "palestrante"})
+    List<Certificado> findByHashLegadoIn(Collection<String> hashesLegados);
 
     List<Certificado> findByAlunoId(Integer alunoId);
 
     List<Certificado> findByEventoId(Integer eventoId);
+
+    @EntityGraph(attributePaths = {"aluno", "evento", "palestrante"})
+    List<Certificado> findByEventoIdAndIdGreaterThanOrderById(Integer eventoId, Integer id, Pageable pageable);
+
+    @Query(RESUMO + "WHERE c.id > :depoisDe ORDER BY c.id")
+    List<ResumoCertificado> findResumosApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Query(RESUMO + "WHERE c.aluno.id = :alunoId AND c.id > :depoisDe ORDER BY c.id")
+    List<ResumoCertificado> findResumosPorAlunoApos(@Param("alunoId") Integer alunoId,
+                                                    @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Query(RESUMO + "WHERE c.evento.id = :eventoId AND c.id > :depoisDe ORDER BY c.id")
+    List<ResumoCertificado> findResumosPorEventoApos(@Param("eventoId") Integer eventoId,
+                                                     @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    /**
+     * Certificados dos eventos iniciados no período, lidos do cursor do banco em blocos
+     * de 1000 linhas. Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(RESUMO + "WHERE e.horaInicio >= :inicio AND e.horaInicio < :fim ORDER BY c.id")
+    Stream<ResumoCertificado> streamResumosPorPeriodo(@Param("inicio") LocalDateTime inicio,
+                                                      @Param("fim") LocalDateTime fim);
+
+    @Query("SELECT c.aluno.id FROM Certificado c WHERE c.evento.id = :eventoId")
+    Set<Integer> findAlunoIdsByEventoId(@Param("eventoId") Integer eventoId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(CODIGO)
+    Stream<CodigoCertificado> streamCodigos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.hashLegado FROM Certificado c WHERE c.hashLegado IS NOT NULL")
+    Stream<String> streamHashesLegados();
+
+    @Query(CODIGO + "WHERE c.revogado = true")
+    List<CodigoCertificado> findCodigosRevogados();
+
+    @Query(CODIGO + "WHERE c.loteId = :loteId ORDER BY c.indiceLote")
+    List<CodigoCertificado> findCodigosByLoteId(@Param("loteId") Integer loteId);
+
+    @Query("SELECT c.aluno.id FROM Certificado c WHERE c.evento.id = :eventoId AND c.aluno.id IN :alunoIds")
+    Set<Integer> findAlunoIdsByEventoIdAndAlunoIdIn(@Param("eventoId") Integer eventoId,
+                                                    @Param("alunoIds") Collection<Integer> alunoIds);
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.model.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.model.domain.Colaborador;
+import com.model.dto.ResumoColaborador;
 
 @Repository
 public interface ColaboradorRepository extends JpaRepository<Colaborador, Integer> {
+
+    @Query("SELECT new com.model.dto.ResumoColaborador(c.id, c.nome, c.email, c.cargo) FROM Colaborador c "
+            + "WHERE c.id > :depoisDe ORDER BY c.id")
+    List<ResumoColaborador> findResumosApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
 }
\ No newline at end of file
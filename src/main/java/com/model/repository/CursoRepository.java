@@ -1,12 +1,30 @@
 package com.model.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.model.domain.Curso;
+import com.model.dto.ResumoCurso;
+import com.model.dto.VersaoLinha;
 
 @Repository
 public interface CursoRepository extends JpaRepository<Curso, Integer> {
 
     boolean existsByNomeIgnoreCase(String nome);
+
+    @Query("SELECT new com.model.dto.ResumoCurso(c.id, c.nome) FROM Curso c WHERE c.id > :depoisDe ORDER BY c.id")
+    List<ResumoCurso> findResumosApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Query("SELECT new com.model.dto.VersaoLinha(c.id, c.versao) FROM Curso c WHERE c.id > :depoisDe ORDER BY c.id")
+    List<VersaoLinha> findVersoesApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Curso c SET c.versao = c.versao + 1 WHERE c.id = :id")
+    int incrementarVersao(@Param("id") Integer id);
 }
\ No newline at end of file
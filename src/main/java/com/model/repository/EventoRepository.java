@@ -1,16 +1,164 @@
 package com.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.model.domain.Evento;
+import com.model.dto.ResumoEvento;
+import com.model.dto.VersaoLinha;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface EventoRepository extends JpaRepository<Evento, Integer> {
 
-    List<Evento> findByCategoriasContainingIgnoreCase(String categoria);
+    /**
+     * Linha do catálogo: os números de inscritos e presentes vêm dos contadores
+     * mantidos no próprio evento, sem carregar nem contar as inscrições.
+     */
+    String RESUMO = "SELECT new com.model.dto.ResumoEvento(e.id, e.nome, e.local, e.horaInicio, e.horaFim, "
+            + "e.cargaHoraria, e.vagas, e.vagasOcupadas, e.presentes, "
+            + "CASE WHEN e.vagas > e.vagasOcupadas THEN e.vagas - e.vagasOcupadas ELSE 0 END, "
+            + "e.modoSorteio) FROM Evento e ";
+
+    @Query(RESUMO + "WHERE e.id > :depoisDe ORDER BY e.id")
+    List<ResumoEvento> findResumosApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    /**
+     * @param chave chave da categoria ({@link com.model.domain.Categoria#chave}), buscada
+     *              pelo índice único em vez de comparar nomes
+     */
+    @Query(RESUMO + "WHERE e.id > :depoisDe AND EXISTS "
+            + "(SELECT 1 FROM e.categorias c WHERE c.chave = :chave) ORDER BY e.id")
+    List<ResumoEvento> findResumosPorCategoriaApos(@Param("chave") String chave,
+                                                   @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    /**
+     * Linhas do catálogo dos eventos informados, em ordem de id; usada para montar o
+     * resultado da busca textual, que define a ordem final.
+     */
+    @Query(RESUMO + "WHERE e.id IN :ids ORDER BY e.id")
+    List<ResumoEvento> findResumosPorIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT p.nome FROM Evento e JOIN e.palestrantes p WHERE e.id = :id")
+    List<String> findNomesPalestrantesById(@Param("id") Integer id);
+
+    @Query("SELECT e FROM Evento e JOIN e.palestrantes p WHERE p.id = :palestranteId")
+    List<Evento> findByPalestranteId(@Param("palestranteId") Integer palestranteId);
+
+    /**
+     * Pares (id, versão) das linhas de {@link #findResumosApos}, com o mesmo cursor e limite.
+     */
+    @Query("SELECT new com.model.dto.VersaoLinha(e.id, e.versao) FROM Evento e WHERE e.id > :depoisDe ORDER BY e.id")
+    List<VersaoLinha> findVersoesApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Query("SELECT new com.model.dto.VersaoLinha(e.id, e.versao) FROM Evento e WHERE e.id > :depoisDe AND EXISTS "
+            + "(SELECT 1 FROM e.categorias c WHERE c.chave = :chave) ORDER BY e.id")
+    List<VersaoLinha> findVersoesPorCategoriaApos(@Param("chave") String chave,
+                                                  @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    /**
+     * Registra uma alteração feita pela entidade, já que só os UPDATEs deste repositório
+     * incrementam a versão.
+     */
+    @Modifying
+    @Query("UPDATE Evento e SET e.versao = e.versao + 1 WHERE e.id = :id")
+    int incrementarVersao(@Param("id") Integer id);
+
+    /**
+     * Evento com as categorias; cursos e palestrantes são listas separadas e vêm em
+     * uma consulta cada, para não multiplicar as linhas do join.
+     */
+    @EntityGraph(attributePaths = "categorias")
+    @Query("SELECT e FROM Evento e WHERE e.id = :id")
+    Optional<Evento> findComCategoriasById(@Param("id") Integer id);
+
+    /**
+     * Evento com os cursos permitidos, para a verificação de elegibilidade da inscrição.
+     */
+    @EntityGraph(attributePaths = "cursos")
+    @Query("SELECT e FROM Evento e WHERE e.id = :id")
+    Optional<Evento> findComCursosById(@Param("id") Integer id);
+
+    /**
+     * Reserva uma vaga de forma atômica: o incremento só acontece se ainda
+     * houver vaga livre, então o próprio UPDATE serve de verificação.
+     *
+     * @return 1 se a vaga foi reservada, 0 se o evento está lotado ou não existe
+     */
+    @Modifying
+    @Query("UPDATE Evento e SET e.vagasOcupadas = e.vagasOcupadas + 1, e.versao = e.versao + 1 "
+            + "WHERE e.id = :eventoId AND e.vagasOcupadas < e.vagas")
+    int reservarVaga(@Param("eventoId") Integer eventoId);
+
+    /**
+     * Versão em lote de {@link #reservarVaga}: reserva todas as vagas ou nenhuma.
+     */
+    @Modifying
+    @Query("UPDATE Evento e SET e.vagasOcupadas = e.vagasOcupadas + :quantidade, e.versao = e.versao + 1 "
+            + "WHERE e.id = :eventoId AND e.vagasOcupadas + :quantidade <= e.vagas")
+    int reservarVagas(@Param("eventoId") Integer eventoId, @Param("quantidade") int quantidade);
+
+    @Modifying
+    @Query("UPDATE Evento e SET e.vagasOcupadas = e.vagasOcupadas - 1, e.versao = e.versao + 1 "
+            + "WHERE e.id = :eventoId AND e.vagasOcupadas > 0")
+    int liberarVaga(@Param("eventoId") Integer eventoId);
+
+    @Modifying
+    @Query("UPDATE Evento e SET e.presentes = e.presentes + :delta, e.versao = e.versao + 1 "
+            + "WHERE e.id = :eventoId")
+    int ajustarPresentes(@Param("eventoId") Integer eventoId, @Param("delta") int delta);
+
+    /**
+     * Recalcula o contador de vagas ocupadas a partir das inscrições,
+     * corrigindo apenas os eventos cujo contador divergiu.
+     *
+     * @return quantidade de eventos corrigidos
+     */
+    @Modifying
+    @Query(value = "UPDATE eventos SET versao = versao + 1, vagas_ocupadas = "
+            + "(SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = eventos.id) "
+            + "WHERE vagas_ocupadas <> (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = eventos.id)",
+            nativeQuery = true)
+    int reconciliarVagasOcupadas();
+
+    /**
+     * Mesmo que {@link #reconciliarVagasOcupadas}, para o contador de presenças confirmadas.
+     */
+    @Modifying
+    @Query(value = "UPDATE eventos SET versao = versao + 1, presentes = "
+            + "(SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = eventos.id AND i.presenca = TRUE) "
+            + "WHERE presentes <> "
+            + "(SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = eventos.id AND i.presenca = TRUE)",
+            nativeQuery = true)
+    int reconciliarPresentes();
+
+    @Query("SELECT c.id FROM Evento e JOIN e.cursos c WHERE e.id = :eventoId")
+    Set<Integer> findCursoIdsById(@Param("eventoId") Integer eventoId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Evento e WHERE e.id = :eventoId")
+    Optional<Evento> findByIdComBloqueio(@Param("eventoId") Integer eventoId);
+
+    @Query("SELECT e.id FROM Evento e WHERE e.modoSorteio = true AND e.sorteioRealizado = false "
+            + "AND e.sorteioEncerramento <= :agora")
+    List<Integer> findIdsComSorteioPendente(@Param("agora") LocalDateTime agora);
 
-    List<Evento> findByNomeContainingIgnoreCase(String nome);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Evento e SET e.vagasOcupadas = e.vagasOcupadas + :contemplados, e.sorteioRealizado = true, "
+            + "e.versao = e.versao + 1 "
+            + "WHERE e.id = :eventoId")
+    int concluirSorteio(@Param("eventoId") Integer eventoId, @Param("contemplados") int contemplados);
 }
\ No newline at end of file
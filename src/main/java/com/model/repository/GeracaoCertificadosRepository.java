@@ -0,0 +1,56 @@
+package com.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.model.domain.GeracaoCertificados;
+import com.model.domain.StatusGeracao;
+
+@Repository
+public interface GeracaoCertificadosRepository extends JpaRepository<GeracaoCertificados, String> {
+
+    List<GeracaoCertificados> findByStatusInOrderByCriadoEm(Collection<StatusGeracao> status);
+
+    Optional<GeracaoCertificados> findByEventoAtivo(Integer eventoId);
+
+    /**
+     * Assume a geração para {@code dono} se ela ainda está em andamento e não tem dono
+     * ou o heartbeat do dono anterior é anterior a {@code expiradoAntes}.
+     *
+     * @return 1 se a geração foi assumida
+     */
+    @Modifying
+    @Query("UPDATE GeracaoCertificados g SET g.dono = :dono, g.heartbeatEm = :agora, g.atualizadoEm = :agora, "
+            + "g.status = com.model.domain.StatusGeracao.EXECUTANDO "
+            + "WHERE g.id = :id AND g.status IN (com.model.domain.StatusGeracao.PENDENTE, "
+            + "com.model.domain.StatusGeracao.EXECUTANDO) "
+            + "AND (g.dono IS NULL OR g.heartbeatEm < :expiradoAntes)")
+    int assumir(@Param("id") String id, @Param("dono") String dono, @Param("agora") LocalDateTime agora,
+                @Param("expiradoAntes") LocalDateTime expiradoAntes);
+
+    /**
+     * Renova o heartbeat; na transação de um lote, também trava a linha até o commit.
+     *
+     * @return 0 se {@code dono} perdeu a geração para outra instância
+     */
+    @Modifying
+    @Query("UPDATE GeracaoCertificados g SET g.heartbeatEm = :agora WHERE g.id = :id AND g.dono = :dono")
+    int renovar(@Param("id") String id, @Param("dono") String dono, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Solta as gerações em andamento de {@code dono}, para que outra instância as assuma
+     * sem esperar o heartbeat vencer.
+     */
+    @Modifying
+    @Query("UPDATE GeracaoCertificados g SET g.dono = NULL WHERE g.dono = :dono "
+            + "AND g.status IN (com.model.domain.StatusGeracao.PENDENTE, com.model.domain.StatusGeracao.EXECUTANDO)")
+    int liberar(@Param("dono") String dono);
+}
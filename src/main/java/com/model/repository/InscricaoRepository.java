@@ -1,11 +1,25 @@
 package com.model.repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.model.domain.Aluno;
 import com.model.domain.Inscricao;
+import com.model.dto.ResumoInscricao;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface InscricaoRepository extends JpaRepository<Inscricao, Integer> {
@@ -14,7 +28,68 @@ public interface InscricaoRepository extends JpaRepository<Inscricao, Integer> {
 
     List<Inscricao> findByAlunoId(Integer alunoId);
 
+    String RESUMO = "SELECT new com.model.dto.ResumoInscricao(i.id, a.id, a.nome, e.id, e.nome, "
+            + "i.dataInscricao, i.presenca) FROM Inscricao i JOIN i.aluno a JOIN i.evento e ";
+
+    @Query(RESUMO + "WHERE i.evento.id = :eventoId AND i.id > :depoisDe ORDER BY i.id")
+    List<ResumoInscricao> findResumosPorEventoApos(@Param("eventoId") Integer eventoId,
+                                                   @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Query(RESUMO + "WHERE i.aluno.id = :alunoId AND i.id > :depoisDe ORDER BY i.id")
+    List<ResumoInscricao> findResumosPorAlunoApos(@Param("alunoId") Integer alunoId,
+                                                  @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    /**
+     * Todas as inscrições do evento, lidas do cursor do banco em blocos de 1000 linhas.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(RESUMO + "WHERE i.evento.id = :eventoId ORDER BY i.id")
+    Stream<ResumoInscricao> streamResumosPorEvento(@Param("eventoId") Integer eventoId);
+
+    @Query(RESUMO + "WHERE i.id = :id")
+    Optional<ResumoInscricao> findResumoById(@Param("id") Integer id);
+
     boolean existsByEventoIdAndAlunoId(Integer eventoId, Integer alunoId);
 
+    @EntityGraph(attributePaths = "aluno")
     List<Inscricao> findByEventoIdAndPresenca(Integer eventoId, Boolean presenca);
+
+    long countByEventoIdAndPresenca(Integer eventoId, Boolean presenca);
+
+    /**
+     * Próxima página, em ordem de id, dos alunos com presença confirmada no evento.
+     */
+    @Query("SELECT i.aluno FROM Inscricao i WHERE i.evento.id = :eventoId AND i.presenca = true "
+            + "AND i.aluno.id > :depoisDe ORDER BY i.aluno.id")
+    List<Aluno> findAlunosPresentesApos(@Param("eventoId") Integer eventoId,
+                                        @Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    /**
+     * Confirma a presença se ainda não estava confirmada. Como em
+     * {@link EventoRepository#reservarVaga}, o próprio UPDATE serve de verificação.
+     *
+     * @return 1 se a presença passou a ser confirmada, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inscricao i SET i.presenca = true "
+            + "WHERE i.id = :inscricaoId AND (i.presenca IS NULL OR i.presenca = false)")
+    int confirmarPresenca(@Param("inscricaoId") Integer inscricaoId);
+
+    /**
+     * @return 1 se a inscrição tinha presença confirmada e deixou de ter, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inscricao i SET i.presenca = :presenca WHERE i.id = :inscricaoId AND i.presenca = true")
+    int retirarPresenca(@Param("inscricaoId") Integer inscricaoId, @Param("presenca") Boolean presenca);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inscricao i SET i.presenca = :presenca WHERE i.id = :inscricaoId")
+    int definirPresenca(@Param("inscricaoId") Integer inscricaoId, @Param("presenca") Boolean presenca);
+
+    @Query("SELECT i.evento.id FROM Inscricao i WHERE i.id = :inscricaoId")
+    Optional<Integer> findEventoIdById(@Param("inscricaoId") Integer inscricaoId);
+
+    @Query("SELECT i.aluno.id FROM Inscricao i WHERE i.evento.id = :eventoId")
+    Set<Integer> findAlunoIdsByEventoId(@Param("eventoId") Integer eventoId);
 }
\ No newline at end of file
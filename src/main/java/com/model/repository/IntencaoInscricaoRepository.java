@@ -0,0 +1,47 @@
+package com.model.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.model.domain.IntencaoInscricao;
+
+@Repository
+public interface IntencaoInscricaoRepository extends JpaRepository<IntencaoInscricao, Integer> {
+
+    long countByEventoId(Integer eventoId);
+
+    /**
+     * Grava a intenção somente se o evento estiver em modo sorteio com a janela aberta.
+     *
+     * @return 1 se a intenção foi registrada, 0 se o evento não aceita intenções
+     */
+    @Modifying
+    @Query(value = "INSERT INTO intencoes_inscricao (evento_id, aluno_id, data_intencao) "
+            + "SELECT e.id, :alunoId, CURRENT_TIMESTAMP FROM eventos e "
+            + "WHERE e.id = :eventoId AND e.modo_sorteio = TRUE AND e.sorteio_realizado = FALSE "
+            + "AND (e.sorteio_encerramento IS NULL OR e.sorteio_encerramento > CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int registrar(@Param("eventoId") Integer eventoId, @Param("alunoId") Integer alunoId);
+
+    /**
+     * Sorteia até {@code vagas} intenções elegíveis (aluno ainda não inscrito e, em evento
+     * restrito, com algum curso permitido) e as insere como inscrições em um único comando.
+     *
+     * @return quantidade de inscrições criadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inscricoes (aluno_id, evento_id, data_inscricao) "
+            + "SELECT s.aluno_id, s.evento_id, CURRENT_TIMESTAMP FROM ("
+            + "SELECT i.aluno_id, i.evento_id FROM intencoes_inscricao i "
+            + "WHERE i.evento_id = :eventoId "
+            + "AND NOT EXISTS (SELECT 1 FROM inscricoes x WHERE x.evento_id = i.evento_id AND x.aluno_id = i.aluno_id) "
+            + "AND (NOT EXISTS (SELECT 1 FROM evento_curso ec WHERE ec.evento_id = i.evento_id) "
+            + "OR EXISTS (SELECT 1 FROM evento_curso ec JOIN aluno_curso ac ON ac.curso_id = ec.curso_id "
+            + "WHERE ec.evento_id = i.evento_id AND ac.aluno_id = i.aluno_id)) "
+            + "ORDER BY RANDOM() LIMIT :vagas) s",
+            nativeQuery = true)
+    int sortearInscricoes(@Param("eventoId") Integer eventoId, @Param("vagas") int vagas);
+}
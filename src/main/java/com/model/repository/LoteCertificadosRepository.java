@@ -0,0 +1,15 @@
+package com.model.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.model.domain.LoteCertificados;
+
+@Repository
+public interface LoteCertificadosRepository extends JpaRepository<LoteCertificados, Integer> {
+
+    List<LoteCertificados> findByEventoIdAndIdGreaterThanOrderById(Integer eventoId, Integer id, Pageable pageable);
+}
@@ -1,12 +1,33 @@
 package com.model.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.model.domain.Palestrante;
+import com.model.dto.ResumoPalestrante;
+import com.model.dto.VersaoLinha;
 
 @Repository
 public interface PalestranteRepository extends JpaRepository<Palestrante, Integer> {
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT new com.model.dto.ResumoPalestrante(p.id, p.nome, p.email, p.fotoUrl) FROM Palestrante p "
+            + "WHERE p.id > :depoisDe ORDER BY p.id")
+    List<ResumoPalestrante> findResumosApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    @Query("SELECT new com.model.dto.VersaoLinha(p.id, p.versao) FROM Palestrante p "
+            + "WHERE p.id > :depoisDe ORDER BY p.id")
+    List<VersaoLinha> findVersoesApos(@Param("depoisDe") Integer depoisDe, Pageable pageable);
+
+    // Nativo: a coluna fica só em palestrantes, sem passar pelo UPDATE em várias tabelas da herança
+    @Modifying
+    @Query(value = "UPDATE palestrantes SET versao = versao + 1 WHERE id = :id", nativeQuery = true)
+    int incrementarVersao(@Param("id") Integer id);
 }
\ No newline at end of file
@@ -1,13 +1,14 @@
 package com.model.services;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Aluno;
+import com.model.dto.DetalheAluno;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoAluno;
 import com.model.repository.AlunoRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -19,8 +20,19 @@ public class AlunoService {
 
     private final AlunoRepository alunoRepository;
 
-    public List<Aluno> listarTodos() {
-        return alunoRepository.findAll();
+    public Pagina<ResumoAluno> listar(Integer depoisDe, Integer limite) {
+        return Pagina.de(alunoRepository.findResumosApos(Pagina.cursor(depoisDe), Pagina.requisicao(limite)),
+            limite, ResumoAluno::id);
+    }
+
+    @Transactional(readOnly = true)
+    public DetalheAluno detalhar(Integer id) {
+        if (id == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID não pode ser nulo");
+        }
+        return alunoRepository.findComCursosById(id)
+                .map(DetalheAluno::de)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Aluno não encontrado"));
     }
 
     public Aluno buscarPorId(Integer id) {
@@ -0,0 +1,117 @@
+package com.model.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Árvore de Merkle SHA-256 sobre as hashes dos certificados de um lote.
+ *
+ * Folhas e nós internos usam prefixos distintos (0x00 e 0x01), como na RFC 6962, para que
+ * um nó interno não possa se passar por folha. Em um nível com quantidade ímpar de nós, o
+ * último sobe sem par para o nível seguinte.
+ *
+ * A prova de inclusão é a lista das hashes irmãs da folha até a raiz, cada uma prefixada
+ * pelo lado em que fica: {@code E} (esquerda) ou {@code D} (direita).
+ */
+final class ArvoreMerkle {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final byte FOLHA = 0x00;
+    private static final byte NO = 0x01;
+
+    // niveis.get(0) são as folhas; o último nível contém só a raiz
+    private final List<byte[][]> niveis;
+
+    private ArvoreMerkle(List<byte[][]> niveis) {
+        this.niveis = niveis;
+    }
+
+    static ArvoreMerkle construir(List<String> hashes) {
+        if (hashes.isEmpty()) {
+            throw new IllegalArgumentException("Árvore de Merkle sem folhas");
+        }
+        MessageDigest digest = novoDigest();
+        byte[][] nivel = new byte[hashes.size()][];
+        for (int i = 0; i < nivel.length; i++) {
+            nivel[i] = folha(digest, hashes.get(i));
+        }
+
+        List<byte[][]> niveis = new ArrayList<>();
+        niveis.add(nivel);
+        while (nivel.length > 1) {
+            byte[][] acima = new byte[(nivel.length + 1) / 2][];
+            for (int i = 0; i < acima.length; i++) {
+                int esquerda = 2 * i;
+                acima[i] = esquerda + 1 < nivel.length
+                        ? no(digest, nivel[esquerda], nivel[esquerda + 1])
+                        : nivel[esquerda];
+            }
+            niveis.add(acima);
+            nivel = acima;
+        }
+        return new ArvoreMerkle(niveis);
+    }
+
+    String raiz() {
+        return HEX.formatHex(niveis.get(niveis.size() - 1)[0]);
+    }
+
+    List<String> prova(int indice) {
+        List<String> prova = new ArrayList<>(niveis.size() - 1);
+        for (int n = 0; n < niveis.size() - 1; n++) {
+            byte[][] nivel = niveis.get(n);
+            int irmao = indice ^ 1;
+            if (irmao < nivel.length) {
+                prova.add((irmao < indice ? "E" : "D") + HEX.formatHex(nivel[irmao]));
+            }
+            indice /= 2;
+        }
+        return prova;
+    }
+
+    /**
+     * Recalcula a raiz a partir da hash do certificado e da sua prova de inclusão.
+     */
+    static boolean verificar(String hashCertificado, List<String> prova, String raiz) {
+        MessageDigest digest = novoDigest();
+        byte[] atual = folha(digest, hashCertificado);
+        try {
+            for (String passo : prova) {
+                byte[] irmao = HEX.parseHex(passo, 1, passo.length());
+                switch (passo.charAt(0)) {
+                    case 'E' -> atual = no(digest, irmao, atual);
+                    case 'D' -> atual = no(digest, atual, irmao);
+                    default -> {
+                        return false;
+                    }
+                }
+            }
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            return false;
+        }
+        return HEX.formatHex(atual).equalsIgnoreCase(raiz);
+    }
+
+    private static byte[] folha(MessageDigest digest, String hash) {
+        digest.update(FOLHA);
+        return digest.digest(hash.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] no(MessageDigest digest, byte[] esquerda, byte[] direita) {
+        digest.update(NO);
+        digest.update(esquerda);
+        return digest.digest(direita);
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.model.services;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.model.domain.Evento;
+import com.model.domain.Palestrante;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoEvento;
+import com.model.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Busca textual de eventos por nome, descrição, categorias e nomes dos palestrantes,
+ * sobre um {@link IndiceInvertido} em memória no lugar de {@code LIKE '%x%'} no banco.
+ *
+ * O índice é montado na subida e atualizado a cada evento criado, alterado ou removido
+ * e a cada palestrante renomeado. Dentro de uma transação, a alteração só chega ao
+ * índice após o commit. Cada instância mantém o seu índice: no PostgreSQL o id do evento
+ * alterado é publicado com {@code NOTIFY} no canal {@value #CANAL} e as instâncias
+ * reindexam o evento a partir do banco ({@link #sincronizar}); a carga, e a recarga a
+ * cada reconexão, é feita pela conexão em {@code LISTEN} de {@link ListaRevogacaoCertificados}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BuscaEventosService {
+
+    static final String CANAL = "eventos_indexados";
+
+    private static final double PESO_NOME = 3;
+    private static final double PESO_CATEGORIA = 2;
+    private static final double PESO_PALESTRANTE = 2;
+    private static final double PESO_DESCRICAO = 1;
+
+    private final EventoRepository eventoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile IndiceInvertido indice = new IndiceInvertido();
+    private volatile boolean postgres;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void iniciar() {
+        postgres = ListaRevogacaoCertificados.postgres(jdbcTemplate);
+        if (!postgres) {
+            carregar();
+        }
+    }
+
+    /**
+     * Monta um índice novo com todos os eventos e o coloca no lugar do atual.
+     */
+    @Transactional(readOnly = true)
+    public void carregar() {
+        IndiceInvertido novo = new IndiceInvertido();
+        for (Evento evento : eventoRepository.findAll()) {
+            novo.indexar(evento.getId(), pesos(evento,
+                evento.getPalestrantes().stream().map(Palestrante::getNome).toList()));
+        }
+        indice = novo;
+        log.info("Índice de busca de eventos carregado com {} eventos", novo.tamanho());
+    }
+
+    /**
+     * Reindexa um evento publicado por outra instância (ou por esta) no canal {@value #CANAL}
+     * com o que está no banco; sem o evento no banco, ele sai do índice.
+     */
+    @Transactional(readOnly = true)
+    public void sincronizar(Integer eventoId) {
+        eventoRepository.findById(eventoId).ifPresentOrElse(
+            evento -> indice.indexar(eventoId, pesos(evento, eventoRepository.findNomesPalestrantesById(eventoId))),
+            () -> indice.remover(eventoId));
+    }
+
+    /**
+     * Eventos com todos os termos de {@code consulta}, do mais relevante ao menos relevante.
+     */
+    @Transactional(readOnly = true)
+    public List<ResumoEvento> buscar(String consulta, Integer limite) {
+        List<Integer> ids = indice.buscar(TokenizadorBusca.termos(consulta), Pagina.limite(limite));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Integer> posicoes = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            posicoes.put(ids.get(i), i);
+        }
+        return eventoRepository.findResumosPorIds(ids).stream()
+                .sorted(Comparator.comparing(resumo -> posicoes.get(resumo.id())))
+                .toList();
+    }
+
+    /**
+     * Reindexa o evento já salvo; os nomes dos palestrantes vêm do banco, já que o
+     * evento recebido na requisição traz só os ids.
+     */
+    public void indexar(Evento evento) {
+        Integer id = evento.getId();
+        Map<String, Double> pesos = pesos(evento, eventoRepository.findNomesPalestrantesById(id));
+        publicar(id);
+        aposCommit(() -> indice.indexar(id, pesos));
+    }
+
+    public void remover(Integer eventoId) {
+        publicar(eventoId);
+        aposCommit(() -> indice.remover(eventoId));
+    }
+
+    /**
+     * Reindexa os eventos do palestrante, para que a busca encontre o nome novo.
+     */
+    public void reindexarPalestrante(Integer palestranteId) {
+        for (Evento evento : eventoRepository.findByPalestranteId(palestranteId)) {
+            indexar(evento);
+        }
+    }
+
+    private static Map<String, Double> pesos(Evento evento, List<String> palestrantes) {
+        Map<String, Double> pesos = new HashMap<>();
+        somar(pesos, evento.getNome(), PESO_NOME);
+        somar(pesos, evento.getDescricao(), PESO_DESCRICAO);
+        if (evento.getCategorias() != null) {
+            evento.getCategorias().forEach(categoria -> somar(pesos, categoria.getNome(), PESO_CATEGORIA));
+        }
+        palestrantes.forEach(nome -> somar(pesos, nome, PESO_PALESTRANTE));
+        return pesos;
+    }
+
+    private static void somar(Map<String, Double> pesos, String texto, double peso) {
+        TokenizadorBusca.termos(texto).forEach(termo -> pesos.merge(termo, peso, Double::sum));
+    }
+
+    // Dentro de uma transação, o NOTIFY só é entregue após o commit
+    private void publicar(Integer eventoId) {
+        if (postgres) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) resultado -> { },
+                CANAL, eventoId.toString());
+        }
+    }
+
+    private static void aposCommit(Runnable alteracao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    alteracao.run();
+                }
+            });
+        } else {
+            alteracao.run();
+        }
+    }
+}
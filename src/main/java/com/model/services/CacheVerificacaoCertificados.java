@@ -0,0 +1,259 @@
+package com.model.services;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.config.VerificacaoCertificadoProperties;
+import com.model.dto.CodigoCertificado;
+import com.model.dto.ResumoCertificado;
+import com.model.repository.CertificadoRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache da verificação pública de certificados por hash.
+ *
+ * Um filtro de Bloom cobre todas as hashes válidas e descarta, sem consultar o banco,
+ * as hashes que certamente não existem. Os certificados consultados com frequência
+ * ficam em um mapa LRU de resumos, com validade limitada.
+ *
+ * Novas hashes entram no filtro assim que são gravadas. No PostgreSQL elas também são
+ * publicadas com {@code NOTIFY} no canal {@value #CANAL} e chegam às demais instâncias
+ * pela conexão em {@code LISTEN} de {@link ListaRevogacaoCertificados}, que pede uma
+ * reconstrução a cada (re)conexão para cobrir o que se perdeu.
+ *
+ * Como o filtro não remove valores, ele é reconstruído periodicamente a partir do banco,
+ * em uma thread própria; até lá uma hash removida só custa uma consulta.
+ */
+@Slf4j
+@Component
+public class CacheVerificacaoCertificados {
+
+    static final String CANAL = "certificados_emitidos";
+
+    // O payload de um NOTIFY é limitado a 8000 bytes; as hashes vão separadas por vírgula
+    private static final int TAMANHO_MAXIMO_NOTIFICACAO = 7_900;
+
+    private final CertificadoRepository certificadoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VerificacaoCertificadoProperties properties;
+
+    private final Map<String, Entrada> resumos;
+    private final ScheduledExecutorService reconstrucao;
+    private volatile boolean postgres;
+
+    // Nulo até a primeira construção: enquanto isso toda verificação consulta o banco
+    private volatile FiltroBloom filtro;
+    // Hashes registradas durante uma reconstrução, repassadas ao novo filtro na troca
+    private Set<String> registradasDuranteReconstrucao;
+
+    public CacheVerificacaoCertificados(CertificadoRepository certificadoRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        JdbcTemplate jdbcTemplate,
+                                        VerificacaoCertificadoProperties properties) {
+        this.certificadoRepository = certificadoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.reconstrucao = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "filtro-certificados");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.resumos = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> maisAntiga) {
+                return size() > properties.getMaxResumos();
+            }
+        };
+    }
+
+    /**
+     * @return true somente quando o filtro garante que a hash não pertence a nenhum certificado
+     */
+    public boolean naoExiste(String hash) {
+        FiltroBloom atual = filtro;
+        return atual != null && !atual.podeConter(hash);
+    }
+
+    /**
+     * @return true depois que o filtro foi construído a partir do banco
+     */
+    public boolean pronto() {
+        return filtro != null;
+    }
+
+    public ResumoCertificado resumo(String hash) {
+        synchronized (resumos) {
+            Entrada entrada = resumos.get(hash);
+            if (entrada == null) {
+                return null;
+            }
+            if (entrada.expiraEm - System.nanoTime() < 0) {
+                resumos.remove(hash);
+                return null;
+            }
+            return entrada.resumo;
+        }
+    }
+
+    public void guardar(ResumoCertificado resumo) {
+        long expiraEm = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getTtlResumoSegundos());
+        synchronized (resumos) {
+            resumos.put(resumo.hashCertificado(), new Entrada(resumo, expiraEm));
+        }
+    }
+
+    /**
+     * Inclui hashes recém-gravadas no filtro. A inclusão é repetida após o commit da
+     * transação corrente, para não perder hashes confirmadas durante uma reconstrução.
+     * No PostgreSQL a notificação às outras instâncias sai junto com o commit.
+     */
+    public void registrar(Iterable<String> hashes) {
+        if (postgres) {
+            notificar(hashes);
+        }
+        adicionarAoFiltro(hashes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adicionarAoFiltro(hashes);
+                }
+            });
+        }
+    }
+
+    public void invalidar(String hash) {
+        synchronized (resumos) {
+            resumos.remove(hash);
+        }
+    }
+
+    /**
+     * Agenda a reconstrução periódica. A primeira construção é pedida por
+     * {@link ListaRevogacaoCertificados} na subida (depois do {@code LISTEN}, no PostgreSQL).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        postgres = ListaRevogacaoCertificados.postgres(jdbcTemplate);
+        long intervalo = properties.getIntervaloReconstrucaoMs();
+        reconstrucao.scheduleWithFixedDelay(this::reconstruirComLog, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reconstrói o filtro na thread própria, sem bloquear quem pediu.
+     */
+    public void reconstruirEmSegundoPlano() {
+        try {
+            reconstrucao.execute(this::reconstruirComLog);
+        } catch (RejectedExecutionException e) {
+            // Aplicação encerrando
+        }
+    }
+
+    /**
+     * Hashes publicadas por outra instância (ou por esta) no canal {@value #CANAL}.
+     */
+    void adicionarNotificadas(String payload) {
+        adicionarAoFiltro(List.of(payload.split(",")));
+    }
+
+    private void reconstruirComLog() {
+        try {
+            reconstruir();
+        } catch (RuntimeException e) {
+            // Uma exceção cancelaria o agendamento; o filtro anterior continua valendo
+            log.warn("Falha ao reconstruir o filtro de certificados", e);
+        }
+    }
+
+    void reconstruir() {
+        synchronized (this) {
+            registradasDuranteReconstrucao = ConcurrentHashMap.newKeySet();
+        }
+
+        long quantidade = certificadoRepository.count();
+        FiltroBloom novo = new FiltroBloom(Math.max(properties.getCapacidadeFiltro(), quantidade * 2),
+                properties.getTaxaFalsoPositivo());
+        boolean construido = false;
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                try (Stream<CodigoCertificado> codigos = certificadoRepository.streamCodigos()) {
+                    codigos.forEach(codigo -> novo.adicionar(codigo.codigo()));
+                }
+                // Códigos anteriores às assinaturas entram pela chave legada (ver Certificado.hashLegadoDe)
+                try (Stream<String> legados = certificadoRepository.streamHashesLegados()) {
+                    legados.forEach(novo::adicionar);
+                }
+            });
+            construido = true;
+        } finally {
+            synchronized (this) {
+                if (construido) {
+                    registradasDuranteReconstrucao.forEach(novo::adicionar);
+                    filtro = novo;
+                }
+                registradasDuranteReconstrucao = null;
+            }
+        }
+    }
+
+    private void notificar(Iterable<String> hashes) {
+        StringBuilder payload = new StringBuilder();
+        for (String hash : hashes) {
+            if (payload.length() > 0 && payload.length() + hash.length() >= TAMANHO_MAXIMO_NOTIFICACAO) {
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) resultado -> { },
+                    CANAL, payload.toString());
+                payload.setLength(0);
+            }
+            if (payload.length() > 0) {
+                payload.append(',');
+            }
+            payload.append(hash);
+        }
+        if (payload.length() > 0) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) resultado -> { },
+                CANAL, payload.toString());
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        reconstrucao.shutdownNow();
+    }
+
+    private synchronized void adicionarAoFiltro(Iterable<String> hashes) {
+        FiltroBloom atual = filtro;
+        for (String hash : hashes) {
+            if (atual != null) {
+                atual.adicionar(hash);
+            }
+            if (registradasDuranteReconstrucao != null) {
+                registradasDuranteReconstrucao.add(hash);
+            }
+        }
+    }
+
+    private record Entrada(ResumoCertificado resumo, long expiraEm) {
+    }
+}
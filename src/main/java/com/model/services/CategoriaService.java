@@ -0,0 +1,98 @@
+package com.model.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.model.domain.Categoria;
+import com.model.dto.FacetaCategoria;
+import com.model.repository.CategoriaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CategoriaService {
+
+    private final CategoriaRepository categoriaRepository;
+
+    /**
+     * Troca as categorias recebidas (só com o nome) pelas cadastradas com a mesma chave,
+     * criando as que ainda não existem. Nomes repetidos ou em branco são descartados.
+     * A criação tolera outra requisição criando a mesma categoria ao mesmo tempo.
+     */
+    public List<Categoria> resolver(List<Categoria> categorias) {
+        Map<String, Categoria> porChave = new LinkedHashMap<>();
+        if (categorias != null) {
+            for (Categoria categoria : categorias) {
+                if (categoria != null && categoria.getNome() != null && !categoria.getNome().isBlank()) {
+                    porChave.putIfAbsent(Categoria.chave(categoria.getNome()), categoria);
+                }
+            }
+        }
+        if (porChave.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, Categoria> cadastradas = new LinkedHashMap<>();
+        categoriaRepository.findByChaveIn(porChave.keySet())
+                .forEach(categoria -> cadastradas.put(categoria.getChave(), categoria));
+        // Em ordem de chave: duas transações criando as mesmas categorias não se travam
+        Set<String> novas = new TreeSet<>(porChave.keySet());
+        novas.removeAll(cadastradas.keySet());
+        if (!novas.isEmpty()) {
+            novas.forEach(chave -> categoriaRepository.inserirSeAusente(porChave.get(chave).getNome().trim(), chave));
+            categoriaRepository.findByChaveIn(novas)
+                    .forEach(categoria -> cadastradas.put(categoria.getChave(), categoria));
+        }
+        List<Categoria> resolvidas = new ArrayList<>();
+        porChave.keySet().forEach(chave -> resolvidas.add(cadastradas.get(chave)));
+        return resolvidas;
+    }
+
+    /**
+     * Atualiza os contadores de eventos das categorias que o evento ganhou ou perdeu.
+     */
+    public void registrarAlteracao(List<Categoria> anteriores, List<Categoria> atuais) {
+        Set<Integer> antes = ids(anteriores);
+        Set<Integer> depois = ids(atuais);
+        Set<Integer> removidas = new HashSet<>(antes);
+        removidas.removeAll(depois);
+        Set<Integer> adicionadas = new HashSet<>(depois);
+        adicionadas.removeAll(antes);
+        if (!removidas.isEmpty()) {
+            categoriaRepository.ajustarEventos(removidas, -1);
+        }
+        if (!adicionadas.isEmpty()) {
+            categoriaRepository.ajustarEventos(adicionadas, 1);
+        }
+    }
+
+    /**
+     * Sem filtros, as facetas vêm dos contadores; com {@code proximos} (eventos que ainda
+     * não começaram) ou {@code cursoId}, são contadas a partir dos eventos.
+     */
+    @Transactional(readOnly = true)
+    public List<FacetaCategoria> facetas(boolean proximos, Integer cursoId) {
+        if (!proximos && cursoId == null) {
+            return categoriaRepository.findFacetas();
+        }
+        return categoriaRepository.findFacetasFiltradas(proximos ? LocalDateTime.now() : null, cursoId);
+    }
+
+    private static Set<Integer> ids(List<Categoria> categorias) {
+        Set<Integer> ids = new HashSet<>();
+        if (categorias != null) {
+            categorias.forEach(categoria -> ids.add(categoria.getId()));
+        }
+        return ids;
+    }
+}
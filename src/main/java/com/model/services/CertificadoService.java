@@ -1,27 +1,44 @@
 package com.model.services;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.config.VerificacaoCertificadoProperties;
 import com.model.domain.Aluno;
 import com.model.domain.Certificado;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
+import com.model.domain.LoteCertificados;
 import com.model.domain.Palestrante;
+import com.model.dto.AuditoriaLote;
+import com.model.dto.CodigoCertificado;
+import com.model.dto.Pagina;
+import com.model.dto.ProvaInclusao;
+import com.model.dto.ResumoCertificado;
+import com.model.dto.VerificacaoHash;
 import com.model.repository.AlunoRepository;
 import com.model.repository.CertificadoRepository;
 import com.model.repository.EventoRepository;
 import com.model.repository.InscricaoRepository;
-import com.model.repository.PalestranteRepository;
+import com.model.repository.LoteCertificadosRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,24 +49,170 @@ public class CertificadoService {
     private final CertificadoRepository certificadoRepository;
     private final AlunoRepository alunoRepository;
     private final EventoRepository eventoRepository;
-    private final PalestranteRepository palestranteRepository;
+    private final PalestranteService palestranteService;
     private final InscricaoRepository inscricaoRepository;
+    private final GeradorHashCertificado geradorHash;
+    private final CacheVerificacaoCertificados cacheVerificacao;
+    private final LoteCertificadosRepository loteRepository;
+    private final VerificacaoCertificadoProperties verificacaoProperties;
+    private final ListaRevogacaoCertificados listaRevogacao;
+    private final ExportacaoJson exportacaoJson;
 
-    public List<Certificado> listarTodos() {
-        return certificadoRepository.findAll();
+    public Pagina<ResumoCertificado> listar(Integer depoisDe, Integer limite) {
+        return Pagina.de(certificadoRepository.findResumosApos(Pagina.cursor(depoisDe), Pagina.requisicao(limite)),
+            limite, ResumoCertificado::id);
     }
 
-    public List<Certificado> listarPorAluno(Integer alunoId) {
-        return certificadoRepository.findByAlunoId(alunoId);
+    public Pagina<ResumoCertificado> listarPorAluno(Integer alunoId, Integer depoisDe, Integer limite) {
+        return Pagina.de(certificadoRepository.findResumosPorAlunoApos(alunoId, Pagina.cursor(depoisDe),
+            Pagina.requisicao(limite)), limite, ResumoCertificado::id);
     }
 
-    public List<Certificado> listarPorEvento(Integer eventoId) {
-        return certificadoRepository.findByEventoId(eventoId);
+    public Pagina<ResumoCertificado> listarPorEvento(Integer eventoId, Integer depoisDe, Integer limite) {
+        return Pagina.de(certificadoRepository.findResumosPorEventoApos(eventoId, Pagina.cursor(depoisDe),
+            Pagina.requisicao(limite)), limite, ResumoCertificado::id);
+    }
+
+    /**
+     * Chamado antes de iniciar a exportação, enquanto ainda é possível devolver 400.
+     */
+    public void validarPeriodo(LocalDate inicio, LocalDate fim) {
+        if (inicio == null || fim == null || fim.isBefore(inicio)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Período inválido");
+        }
+    }
+
+    /**
+     * Escreve na saída, à medida que são lidos do banco, os certificados dos eventos
+     * iniciados entre {@code inicio} e {@code fim}, inclusive.
+     */
+    @Transactional(readOnly = true)
+    public void exportarPorPeriodo(LocalDate inicio, LocalDate fim, boolean ndjson, OutputStream saida)
+            throws IOException {
+        try (Stream<ResumoCertificado> certificados = certificadoRepository.streamResumosPorPeriodo(
+                inicio.atStartOfDay(), fim.plusDays(1).atStartOfDay())) {
+            exportacaoJson.escrever(certificados, ndjson, saida);
+        }
     }
 
     public Certificado buscarPorHash(String hash) {
-        return certificadoRepository.findByHashCertificado(hash)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificado não encontrado"));
+        Certificado certificado = hash == null ? null : buscarPorCodigos(List.of(hash)).get(hash);
+        if (certificado == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificado não encontrado");
+        }
+        return certificado;
+    }
+
+    /**
+     * Resolve códigos de certificado: primeiro como códigos assinados, pelo índice de
+     * {@code hash_certificado}, e os que sobrarem como códigos anteriores às assinaturas,
+     * pelo índice de {@code hash_legado}. Em cada etapa, os descartados pelo filtro de
+     * Bloom não chegam ao banco.
+     *
+     * @return os certificados encontrados, pelo código recebido
+     */
+    private Map<String, Certificado> buscarPorCodigos(Collection<String> codigos) {
+        Map<String, Certificado> encontrados = new HashMap<>();
+        Set<String> assinaturas = new HashSet<>();
+        for (String codigo : codigos) {
+            String assinatura = Certificado.assinaturaDe(codigo);
+            if (assinatura != null && !cacheVerificacao.naoExiste(codigo)) {
+                assinaturas.add(assinatura);
+            }
+        }
+        if (!assinaturas.isEmpty()) {
+            // Indexados pelo código gravado: uma assinatura com outra chave ou outros ids não casa
+            for (Certificado certificado : certificadoRepository.findByAssinaturaIn(assinaturas)) {
+                if (codigos.contains(certificado.getHashCertificado())) {
+                    encontrados.put(certificado.getHashCertificado(), certificado);
+                }
+            }
+        }
+
+        Map<String, String> legados = new HashMap<>();
+        for (String codigo : codigos) {
+            if (!encontrados.containsKey(codigo)) {
+                String legado = Certificado.hashLegadoDe(codigo);
+                if (!cacheVerificacao.naoExiste(legado)) {
+                    legados.put(legado, codigo);
+                }
+            }
+        }
+        if (!legados.isEmpty()) {
+            for (Certificado certificado : certificadoRepository.findByHashLegadoIn(legados.keySet())) {
+                encontrados.put(legados.get(certificado.getHashLegado()), certificado);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Verificação pública de um certificado pela hash. Hashes inexistentes são
+     * recusadas pelo filtro de Bloom sem consultar o banco e os certificados mais
+     * verificados são respondidos a partir do cache de resumos.
+     */
+    public ResumoCertificado verificar(String hash) {
+        ResumoCertificado resumo = cacheVerificacao.resumo(hash);
+        if (resumo != null) {
+            return resumo;
+        }
+        resumo = ResumoCertificado.de(buscarPorHash(hash));
+        cacheVerificacao.guardar(resumo);
+        return resumo;
+    }
+
+    /**
+     * Verificação em lote, para sistemas que conferem muitos certificados de uma vez.
+     * As hashes são lidas em blocos; cada bloco é resolvido com uma consulta {@code IN}
+     * sobre o índice único de {@code hash_certificado} e outra, para as que sobrarem, sobre
+     * o de {@code hash_legado}, depois de descartar as hashes recusadas pelo filtro de Bloom
+     * e as já presentes no cache de resumos.
+     * Os resultados são entregues na ordem de entrada, bloco a bloco.
+     *
+     * @throws ResponseStatusException 413 se a quantidade de hashes exceder o limite configurado
+     */
+    public void verificarEmLote(Iterator<String> hashes, Consumer<VerificacaoHash> resultados) {
+        int limite = verificacaoProperties.getMaxHashesPorRequisicao();
+        List<String> bloco = new ArrayList<>(verificacaoProperties.getTamanhoConsulta());
+        int total = 0;
+        while (hashes.hasNext()) {
+            if (++total > limite) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Limite de " + limite + " hashes por verificação excedido");
+            }
+            bloco.add(hashes.next());
+            if (bloco.size() == verificacaoProperties.getTamanhoConsulta()) {
+                verificarBloco(bloco, resultados);
+                bloco.clear();
+            }
+        }
+        if (!bloco.isEmpty()) {
+            verificarBloco(bloco, resultados);
+        }
+    }
+
+    private void verificarBloco(List<String> bloco, Consumer<VerificacaoHash> resultados) {
+        Map<String, ResumoCertificado> encontrados = new HashMap<>();
+        Set<String> consultar = new HashSet<>();
+        for (String hash : bloco) {
+            if (hash == null) {
+                continue;
+            }
+            ResumoCertificado resumo = cacheVerificacao.resumo(hash);
+            if (resumo != null) {
+                encontrados.put(hash, resumo);
+            } else {
+                consultar.add(hash);
+            }
+        }
+        if (!consultar.isEmpty()) {
+            buscarPorCodigos(consultar).forEach((hash, certificado) ->
+                encontrados.put(hash, ResumoCertificado.de(certificado)));
+        }
+        for (String hash : bloco) {
+            ResumoCertificado resumo = encontrados.get(hash);
+            resultados.accept(new VerificacaoHash(hash, resumo != null && !resumo.revogado(), resumo));
+        }
     }
 
     public Certificado emitir(Integer alunoId, Integer eventoId, Integer palestranteId, Certificado certificadoPayload) {
@@ -67,86 +230,147 @@ public class CertificadoService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Aluno não encontrado"));
         Evento evento = eventoRepository.findById(eventoId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
-        Palestrante palestrante = palestranteRepository.findById(palestranteId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Palestrante não encontrado"));
+        Palestrante palestrante = palestranteService.buscarPorId(palestranteId);
 
         Certificado certificado = new Certificado();
         certificado.setAluno(aluno);
         certificado.setEvento(evento);
         certificado.setPalestrante(palestrante);
-        certificado.setHashCertificado(certificadoPayload.getHashCertificado());
+        // O código é sempre gerado aqui; um hash vindo no payload é ignorado
+        certificado.setHashCertificado(geradorHash.gerar(aluno, evento));
         certificado.setNomeInstituicao(certificadoPayload.getNomeInstituicao());
         certificado.setIdentidadeInstituicao(certificadoPayload.getIdentidadeInstituicao());
-        return certificadoRepository.save(certificado);
+        try {
+            certificado = certificadoRepository.saveAndFlush(certificado);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Certificado já emitido para este aluno neste evento", e);
+        }
+        cacheVerificacao.registrar(List.of(certificado.getHashCertificado()));
+        // O código é o mesmo de um certificado removido antes para este aluno e evento
+        listaRevogacao.reemitir(List.of(certificado.getHashCertificado()));
+        return certificado;
     }
 
+    @Transactional
     public void remover(Integer id) {
         if (id == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID não pode ser nulo");
         }
+        certificadoRepository.findById(id).ifPresent(certificado -> {
+            cacheVerificacao.invalidar(certificado.getHashCertificado());
+            listaRevogacao.revogar(certificado.getHashCertificado());
+        });
         certificadoRepository.deleteById(id);
     }
 
     /**
-     * Gera uma hash validador única para um certificado.
-     * A hash é baseada em informações do aluno, evento, palestrante e timestamp,
-     * garantindo unicidade e segurança para validação do certificado.
+     * Revoga um certificado: ele continua registrado, mas deixa de ser aceito na
+     * verificação. A revogação é propagada para a lista em memória de todas as instâncias.
+     */
+    @Transactional
+    public Certificado revogar(Integer id, String motivo) {
+        if (id == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID não pode ser nulo");
+        }
+        Certificado certificado = certificadoRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificado não encontrado"));
+        if (certificado.isRevogado()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Certificado já revogado");
+        }
+        certificado.setRevogado(true);
+        certificado.setRevogadoEm(LocalDateTime.now());
+        certificado.setMotivoRevogacao(motivo);
+        cacheVerificacao.invalidar(certificado.getHashCertificado());
+        listaRevogacao.revogar(certificado.getHashCertificado());
+        return certificado;
+    }
+
+    /**
+     * Gera o código validador de um certificado.
+     * O código identifica o aluno e o evento e é assinado com HMAC-SHA256 pela chave
+     * ativa, então a autenticidade pode ser conferida sem consultar o banco
+     * (ver {@link #validar(String)}). Para o mesmo aluno e evento o código é sempre o mesmo.
      * 
      * @param aluno O aluno que receberá o certificado
      * @param evento O evento para o qual o certificado será emitido
-     * @param palestrante O palestrante do evento
-     * @param identidadeInstituicao A identidade da instituição (opcional, mas recomendado)
-     * @return Uma hash SHA-256 em formato hexadecimal (64 caracteres)
-     * @throws RuntimeException se ocorrer erro ao gerar a hash
+     * @return O código no formato {@code chave.alunoId.eventoId.assinatura}
      */
-    public String gerarHashValidador(Aluno aluno, Evento evento, Palestrante palestrante, String identidadeInstituicao) {
-        try {
-            // Constrói uma string única com informações do certificado
-            StringBuilder dados = new StringBuilder();
-            dados.append(aluno.getId()).append("|");
-            dados.append(aluno.getNome() != null ? aluno.getNome() : "").append("|");
-            dados.append(aluno.getCpf() != null ? aluno.getCpf() : "").append("|");
-            dados.append(evento.getId()).append("|");
-            dados.append(evento.getNome() != null ? evento.getNome() : "").append("|");
-            dados.append(palestrante.getId()).append("|");
-            dados.append(palestrante.getNome() != null ? palestrante.getNome() : "").append("|");
-            dados.append(identidadeInstituicao != null ? identidadeInstituicao : "").append("|");
-            dados.append(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)).append("|");
-            dados.append("CERTIFICADO_VALIDATOR_KEY"); // Chave secreta para aumentar segurança
-
-            // Gera hash SHA-256
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(dados.toString().getBytes(StandardCharsets.UTF_8));
-
-            // Converte para hexadecimal
-            StringBuilder hashHex = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hashHex.append('0');
-                }
-                hashHex.append(hex);
-            }
-
-            return hashHex.toString().toUpperCase();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Erro ao gerar hash do certificado: algoritmo SHA-256 não disponível", e);
-        }
+    public String gerarHashValidador(Aluno aluno, Evento evento) {
+        return geradorHash.gerar(aluno, evento);
     }
 
     /**
-     * Gera uma hash validador para um certificado já criado.
+     * Gera o código validador para um certificado já criado.
      * 
-     * @param certificado O certificado para o qual gerar a hash
-     * @return Uma hash SHA-256 em formato hexadecimal (64 caracteres)
+     * @param certificado O certificado para o qual gerar o código
+     * @return O código no formato {@code chave.alunoId.eventoId.assinatura}
      */
     public String gerarHashValidador(Certificado certificado) {
-        return gerarHashValidador(
-            certificado.getAluno(),
-            certificado.getEvento(),
-            certificado.getPalestrante(),
-            certificado.getIdentidadeInstituicao()
-        );
+        return gerarHashValidador(certificado.getAluno(), certificado.getEvento());
+    }
+
+    /**
+     * Valida um código de certificado. A assinatura é conferida sem acesso ao banco e a
+     * checagem de revogação usa a lista de revogados e o filtro de Bloom, ambos em memória.
+     * Só enquanto eles ainda não foram carregados (na subida) a existência é consultada no banco.
+     *
+     * @throws ResponseStatusException 404 se a assinatura for inválida ou o certificado não
+     *         estiver registrado, 410 se o certificado foi revogado (ou removido)
+     */
+    public CodigoCertificado validar(String codigo) {
+        CodigoCertificado validado = geradorHash.verificar(codigo)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificado não encontrado"));
+        if (listaRevogacao.revogado(codigo)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Certificado revogado");
+        }
+        boolean emMemoria = listaRevogacao.carregada() && cacheVerificacao.pronto();
+        if (cacheVerificacao.naoExiste(codigo)
+                || (!emMemoria && !certificadoRepository.existsByAssinatura(Certificado.assinaturaDe(codigo)))) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificado não encontrado");
+        }
+        return validado;
+    }
+
+    /**
+     * Prova de inclusão do certificado na árvore de Merkle do lote em que foi gravado,
+     * verificável contra a raiz do lote sem buscar os demais certificados do evento.
+     */
+    public ProvaInclusao provaInclusao(String hash) {
+        Certificado certificado = buscarPorHash(hash);
+        if (certificado.getLoteId() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificado não foi emitido em lote");
+        }
+        LoteCertificados lote = buscarLote(certificado.getLoteId());
+        List<String> prova = certificado.getProvaMerkle().isEmpty()
+                ? List.of()
+                : List.of(certificado.getProvaMerkle().split(","));
+        return new ProvaInclusao(certificado.getHashCertificado(), lote.getEventoId(), lote.getId(),
+            certificado.getIndiceLote(), lote.getRaizMerkle(), prova);
+    }
+
+    public Pagina<LoteCertificados> listarLotes(Integer eventoId, Integer depoisDe, Integer limite) {
+        return Pagina.de(loteRepository.findByEventoIdAndIdGreaterThanOrderById(eventoId,
+            Pagina.cursor(depoisDe), Pagina.requisicao(limite)), limite, LoteCertificados::getId);
+    }
+
+    /**
+     * Recalcula a raiz do lote a partir das hashes gravadas e compara com a raiz registrada.
+     * Certificados alterados ou removidos depois da gravação tornam o lote não íntegro.
+     */
+    public AuditoriaLote auditarLote(Integer loteId) {
+        LoteCertificados lote = buscarLote(loteId);
+        List<String> hashes = certificadoRepository.findCodigosByLoteId(loteId).stream()
+                .map(CodigoCertificado::codigo)
+                .toList();
+        String raizCalculada = hashes.isEmpty() ? null : ArvoreMerkle.construir(hashes).raiz();
+        return new AuditoriaLote(lote.getId(), lote.getEventoId(), lote.getQuantidade(), hashes.size(),
+            lote.getRaizMerkle(), raizCalculada, lote.getRaizMerkle().equals(raizCalculada));
+    }
+
+    private LoteCertificados buscarLote(Integer loteId) {
+        return loteRepository.findById(loteId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Lote não encontrado"));
     }
 
     /**
@@ -160,6 +384,7 @@ public class CertificadoService {
      * @return Lista de certificados gerados
      * @throws ResponseStatusException se evento, palestrante ou inscrições não forem encontrados
      */
+    @Transactional
     public List<Certificado> gerarCertificadosParaEvento(
             Integer eventoId, 
             Integer palestranteId, 
@@ -176,8 +401,7 @@ public class CertificadoService {
         Evento evento = eventoRepository.findById(eventoId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
         
-        Palestrante palestrante = palestranteRepository.findById(palestranteId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Palestrante não encontrado"));
+        Palestrante palestrante = palestranteService.buscarPorId(palestranteId);
 
         // Busca todas as inscrições com presença confirmada (presenca = true)
         List<Inscricao> inscricoesComPresenca = inscricaoRepository.findByEventoIdAndPresenca(eventoId, true);
@@ -187,36 +411,85 @@ public class CertificadoService {
                 "Não há alunos com presença confirmada para este evento");
         }
 
-        return inscricoesComPresenca.stream()
-            .map(inscricao -> {
-                // Verifica se já existe certificado para este aluno e evento
-                boolean jaExisteCertificado = certificadoRepository.findByAlunoId(inscricao.getAluno().getId())
-                    .stream()
-                    .anyMatch(cert -> cert.getEvento().getId().equals(eventoId));
+        // Uma única consulta traz os alunos que já possuem certificado deste evento
+        Set<Integer> alunosComCertificado = certificadoRepository.findAlunoIdsByEventoId(eventoId);
 
-                if (jaExisteCertificado) {
-                    return null; // Pula se já existe certificado
-                }
+        List<Aluno> alunos = new ArrayList<>();
+        for (Inscricao inscricao : inscricoesComPresenca) {
+            Aluno aluno = inscricao.getAluno();
+            if (alunosComCertificado.add(aluno.getId())) {
+                alunos.add(aluno);
+            }
+        }
+
+        List<Certificado> certificados = criarCertificados(alunos, evento, palestrante, nomeInstituicao, identidadeInstituicao);
+
+        if (certificados.isEmpty()) {
+            return certificados;
+        }
+        try {
+            // Gravação em lote (hibernate.jdbc.batch_size); o índice único (aluno_id, evento_id)
+            // barra uma geração concorrente para o mesmo evento
+            return gravarEmLote(certificados);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Certificados deste evento já estão sendo gerados", e);
+        }
+    }
+
+    /**
+     * Monta (sem gravar) os certificados dos alunos informados, com as hashes
+     * validador geradas em lote.
+     */
+    List<Certificado> criarCertificados(List<Aluno> alunos, Evento evento, Palestrante palestrante,
+                                        String nomeInstituicao, String identidadeInstituicao) {
+        // Gera as hashes validador de todos os alunos de uma vez, em paralelo
+        List<String> hashes = geradorHash.gerarEmLote(alunos, evento);
+
+        List<Certificado> certificados = new ArrayList<>(alunos.size());
+        for (int i = 0; i < alunos.size(); i++) {
+            Certificado certificado = new Certificado();
+            certificado.setAluno(alunos.get(i));
+            certificado.setEvento(evento);
+            certificado.setPalestrante(palestrante);
+            certificado.setNomeInstituicao(nomeInstituicao);
+            certificado.setIdentidadeInstituicao(identidadeInstituicao);
+            certificado.setHashCertificado(hashes.get(i));
+            certificados.add(certificado);
+        }
+        return certificados;
+    }
+
+    /**
+     * Grava os certificados em lote e inclui as hashes no cache de verificação.
+     * O lote é ancorado em uma árvore de Merkle: a raiz fica em {@code lotes_certificados}
+     * e cada certificado recebe a sua prova de inclusão. Todos devem ser do mesmo evento.
+     */
+    List<Certificado> gravarEmLote(List<Certificado> certificados) {
+        if (certificados.isEmpty()) {
+            return certificados;
+        }
+        ArvoreMerkle arvore = ArvoreMerkle.construir(
+            certificados.stream().map(Certificado::getHashCertificado).toList());
+
+        LoteCertificados lote = new LoteCertificados();
+        lote.setEventoId(certificados.get(0).getEvento().getId());
+        lote.setRaizMerkle(arvore.raiz());
+        lote.setQuantidade(certificados.size());
+        lote.setCriadoEm(LocalDateTime.now());
+        loteRepository.save(lote);
+
+        for (int i = 0; i < certificados.size(); i++) {
+            Certificado certificado = certificados.get(i);
+            certificado.setLoteId(lote.getId());
+            certificado.setIndiceLote(i);
+            certificado.setProvaMerkle(String.join(",", arvore.prova(i)));
+        }
 
-                Certificado certificado = new Certificado();
-                certificado.setAluno(inscricao.getAluno());
-                certificado.setEvento(evento);
-                certificado.setPalestrante(palestrante);
-                certificado.setNomeInstituicao(nomeInstituicao);
-                certificado.setIdentidadeInstituicao(identidadeInstituicao);
-                
-                // Gera a hash validador automaticamente
-                String hash = gerarHashValidador(
-                    inscricao.getAluno(), 
-                    evento, 
-                    palestrante, 
-                    identidadeInstituicao
-                );
-                certificado.setHashCertificado(hash);
-
-                return certificadoRepository.save(certificado);
-            })
-            .filter(certificado -> certificado != null)
-            .collect(Collectors.toList());
+        List<Certificado> gravados = certificadoRepository.saveAllAndFlush(certificados);
+        List<String> codigos = gravados.stream().map(Certificado::getHashCertificado).toList();
+        cacheVerificacao.registrar(codigos);
+        listaRevogacao.reemitir(codigos);
+        return gravados;
     }
 }
\ No newline at end of file
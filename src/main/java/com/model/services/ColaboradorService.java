@@ -1,12 +1,12 @@
 package com.model.services;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Colaborador;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoColaborador;
 import com.model.repository.ColaboradorRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -17,8 +17,9 @@ public class ColaboradorService {
 
     private final ColaboradorRepository colaboradorRepository;
 
-    public List<Colaborador> listarTodos() {
-        return colaboradorRepository.findAll();
+    public Pagina<ResumoColaborador> listar(Integer depoisDe, Integer limite) {
+        return Pagina.de(colaboradorRepository.findResumosApos(Pagina.cursor(depoisDe), Pagina.requisicao(limite)),
+            limite, ResumoColaborador::id);
     }
 
     public Colaborador buscarPorId(Integer id) {
@@ -1,12 +1,17 @@
 package com.model.services;
 
-import java.util.List;
-
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.config.CacheConfig;
 import com.model.domain.Curso;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoCurso;
+import com.model.dto.VersaoCatalogo;
 import com.model.repository.CursoRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -17,10 +22,27 @@ public class CursoService {
 
     private final CursoRepository cursoRepository;
 
-    public List<Curso> listarTodos() {
-        return cursoRepository.findAll();
+    /**
+     * ETag de uma página da listagem de cursos, calculada só sobre id e versão das linhas
+     * que {@link #listar} leria, sem montar a página.
+     */
+    public String versaoCatalogo(Integer depoisDe, Integer limite) {
+        int cursor = Pagina.cursor(depoisDe);
+        return VersaoCatalogo.de("after=" + cursor + "&limit=" + Pagina.limite(limite),
+            cursoRepository.findVersoesApos(cursor, Pagina.requisicao(limite))).etag();
+    }
+
+    public Pagina<ResumoCurso> listar(Integer depoisDe, Integer limite) {
+        return Pagina.de(cursoRepository.findResumosApos(Pagina.cursor(depoisDe), Pagina.requisicao(limite)),
+            limite, ResumoCurso::id);
     }
 
+    /**
+     * Servido do cache de cursos; a instância devolvida é compartilhada e não deve ser
+     * alterada. As chamadas internas (atualizar, remover) não passam pelo cache e leem
+     * a entidade gerenciada do banco.
+     */
+    @Cacheable(CacheConfig.CURSOS)
     public Curso buscarPorId(Integer id) {
         if (id == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID não pode ser nulo");
@@ -36,12 +58,17 @@ public class CursoService {
         return cursoRepository.save(curso);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CURSOS, key = "#id")
     public Curso atualizar(Integer id, Curso cursoAtualizado) {
         Curso existente = buscarPorId(id);
         existente.setNome(cursoAtualizado.getNome());
-        return cursoRepository.save(existente);
+        Curso salvo = cursoRepository.save(existente);
+        cursoRepository.incrementarVersao(id);
+        return salvo;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CURSOS, key = "#id")
     public void remover(Integer id) {
         Curso curso = buscarPorId(id);
         if (curso == null) {
@@ -7,7 +7,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.model.domain.Categoria;
 import com.model.domain.Evento;
+import com.model.dto.DetalheEvento;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoEvento;
+import com.model.dto.VersaoCatalogo;
 import com.model.repository.EventoRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,10 +23,9 @@ import lombok.RequiredArgsConstructor;
 public class EventoService {
 
     private final EventoRepository eventoRepository;
-
-    public List<Evento> listarTodos() {
-        return eventoRepository.findAll();
-    }
+    private final BuscaEventosService buscaEventosService;
+    private final CategoriaService categoriaService;
+    private final InscricaoPipeline inscricaoPipeline;
 
     public Evento buscarPorId(Integer id) {
         if (id == null) {
@@ -31,34 +35,75 @@ public class EventoService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
     }
 
-    public List<Evento> buscarPorCategoria(String categoria) {
+    /**
+     * ETag de uma página da listagem de eventos, calculada só sobre id e versão das linhas
+     * que {@link #listar} leria, sem montar a página.
+     */
+    @Transactional(readOnly = true)
+    public String versaoCatalogo(String categoria, Integer depoisDe, Integer limite) {
+        int cursor = Pagina.cursor(depoisDe);
+        String consulta = "after=" + cursor + "&limit=" + Pagina.limite(limite);
         if (categoria == null || categoria.isBlank()) {
-            return listarTodos();
+            return VersaoCatalogo.de(consulta,
+                eventoRepository.findVersoesApos(cursor, Pagina.requisicao(limite))).etag();
+        }
+        String chave = Categoria.chave(categoria);
+        return VersaoCatalogo.de("categoria=" + chave + "&" + consulta,
+            eventoRepository.findVersoesPorCategoriaApos(chave, cursor, Pagina.requisicao(limite))).etag();
+    }
+
+    public Pagina<ResumoEvento> listar(String categoria, Integer depoisDe, Integer limite) {
+        List<ResumoEvento> eventos = categoria == null || categoria.isBlank()
+                ? eventoRepository.findResumosApos(Pagina.cursor(depoisDe), Pagina.requisicao(limite))
+                : eventoRepository.findResumosPorCategoriaApos(Categoria.chave(categoria), Pagina.cursor(depoisDe),
+                    Pagina.requisicao(limite));
+        return Pagina.de(eventos, limite, ResumoEvento::id);
+    }
+
+    @Transactional(readOnly = true)
+    public DetalheEvento detalhar(Integer id) {
+        if (id == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID não pode ser nulo");
         }
-        return eventoRepository.findByCategoriasContainingIgnoreCase(categoria);
+        return eventoRepository.findComCategoriasById(id)
+                .map(DetalheEvento::de)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
     }
 
     public Evento criar(Evento evento) {
         if (evento == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Evento não pode ser nulo");
         }
-        return eventoRepository.save(evento);
+        evento.setCategorias(categoriaService.resolver(evento.getCategorias()));
+        Evento salvo = eventoRepository.save(evento);
+        categoriaService.registrarAlteracao(List.of(), salvo.getCategorias());
+        buscaEventosService.indexar(salvo);
+        return salvo;
     }
 
     public Evento atualizar(Integer id, Evento eventoAtualizado) {
         Evento existente = buscarPorId(id);
+        List<Categoria> categoriasAnteriores = List.copyOf(existente.getCategorias());
         existente.setNome(eventoAtualizado.getNome());
         existente.setDescricao(eventoAtualizado.getDescricao());
         existente.setLocal(eventoAtualizado.getLocal());
         existente.setHoraInicio(eventoAtualizado.getHoraInicio());
         existente.setHoraFim(eventoAtualizado.getHoraFim());
-        existente.setCategorias(eventoAtualizado.getCategorias());
+        existente.setCategorias(categoriaService.resolver(eventoAtualizado.getCategorias()));
         existente.setCursos(eventoAtualizado.getCursos());
         existente.setCargaHoraria(eventoAtualizado.getCargaHoraria());
         existente.setVagas(eventoAtualizado.getVagas());
         existente.setBannerUrl(eventoAtualizado.getBannerUrl());
         existente.setPalestrantes(eventoAtualizado.getPalestrantes());
-        return eventoRepository.save(existente);
+        existente.setModoSorteio(eventoAtualizado.isModoSorteio());
+        existente.setSorteioEncerramento(eventoAtualizado.getSorteioEncerramento());
+        Evento salvo = eventoRepository.save(existente);
+        eventoRepository.incrementarVersao(id);
+        // Vagas, cursos e modo sorteio fazem parte do estado do consumidor do pipeline
+        inscricaoPipeline.invalidar(id);
+        categoriaService.registrarAlteracao(categoriasAnteriores, salvo.getCategorias());
+        buscaEventosService.indexar(salvo);
+        return salvo;
     }
 
     public void remover(Integer id) {
@@ -66,6 +111,9 @@ public class EventoService {
         if (evento == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado");
         }
+        categoriaService.registrarAlteracao(evento.getCategorias(), List.of());
         eventoRepository.delete(evento);
+        inscricaoPipeline.invalidar(id);
+        buscaEventosService.remover(id);
     }
 }
\ No newline at end of file
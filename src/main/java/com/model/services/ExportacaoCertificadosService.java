@@ -0,0 +1,112 @@
+package com.model.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.ExportacaoCertificadosProperties;
+import com.model.domain.Certificado;
+import com.model.repository.CertificadoRepository;
+import com.model.repository.EventoRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Exporta os certificados de um evento como PDFs dentro de um ZIP, escrito direto
+ * na saída da resposta.
+ *
+ * Os certificados são lidos em páginas ordenadas por id e cada página é renderizada em
+ * paralelo em um pool pequeno, enquanto a página seguinte é buscada. Os PDFs entram no
+ * ZIP na ordem das páginas, então a memória usada depende só do tamanho da página,
+ * e não da quantidade de certificados do evento.
+ */
+@Service
+public class ExportacaoCertificadosService {
+
+    private final CertificadoRepository certificadoRepository;
+    private final EventoRepository eventoRepository;
+    private final RenderizadorCertificadoPdf renderizador;
+    private final ExportacaoCertificadosProperties properties;
+    private final ExecutorService executor;
+
+    public ExportacaoCertificadosService(CertificadoRepository certificadoRepository,
+                                         EventoRepository eventoRepository,
+                                         RenderizadorCertificadoPdf renderizador,
+                                         ExportacaoCertificadosProperties properties) {
+        this.certificadoRepository = certificadoRepository;
+        this.eventoRepository = eventoRepository;
+        this.renderizador = renderizador;
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(properties.getThreads());
+    }
+
+    /**
+     * Chamado antes de iniciar a resposta, enquanto ainda é possível devolver 404.
+     */
+    public void validarEvento(Integer eventoId) {
+        if (!eventoRepository.existsById(eventoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado");
+        }
+    }
+
+    public void exportarPdfs(Integer eventoId, OutputStream saida) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(saida);
+        List<Certificado> pagina = buscarPagina(eventoId, 0);
+        while (!pagina.isEmpty()) {
+            List<Future<byte[]>> pdfs = new ArrayList<>(pagina.size());
+            for (Certificado certificado : pagina) {
+                pdfs.add(executor.submit(() -> renderizador.renderizar(certificado)));
+            }
+            try {
+                // Busca a próxima página enquanto a atual é renderizada
+                List<Certificado> proxima = pagina.size() < properties.getTamanhoPagina()
+                        ? List.of()
+                        : buscarPagina(eventoId, pagina.get(pagina.size() - 1).getId());
+
+                for (int i = 0; i < pagina.size(); i++) {
+                    zip.putNextEntry(new ZipEntry("certificado-" + pagina.get(i).getId() + ".pdf"));
+                    zip.write(aguardar(pdfs.get(i)));
+                    zip.closeEntry();
+                }
+                pagina = proxima;
+            } finally {
+                // Cliente desconectado ou falha no meio da página: descarta o que ainda não rodou
+                pdfs.forEach(pdf -> pdf.cancel(false));
+            }
+        }
+        zip.finish();
+    }
+
+    private List<Certificado> buscarPagina(Integer eventoId, Integer depoisDe) {
+        return certificadoRepository.findByEventoIdAndIdGreaterThanOrderById(
+            eventoId, depoisDe, PageRequest.of(0, properties.getTamanhoPagina()));
+    }
+
+    private static byte[] aguardar(Future<byte[]> pdf) throws IOException {
+        try {
+            return pdf.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Exportação de certificados interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Erro ao renderizar certificado", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+}
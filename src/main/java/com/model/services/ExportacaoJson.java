@@ -0,0 +1,55 @@
+package com.model.services;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Escreve os itens de um {@link Stream} como array JSON ou NDJSON (um objeto por linha)
+ * à medida que são lidos do banco, sem montar a lista inteira em memória.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportacaoJson {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return true se o cabeçalho {@code Accept} pede NDJSON; sem ele, a exportação é um array JSON
+     */
+    public static boolean pedeNdjson(String accept) {
+        return accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    public void escrever(Stream<?> itens, boolean ndjson, OutputStream saida) throws IOException {
+        OutputStream buffer = new BufferedOutputStream(saida);
+        // A resposta é fechada pelo servlet; o writer só esvazia o buffer
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (ndjson) {
+            for (Iterator<?> it = itens.iterator(); it.hasNext(); ) {
+                writer.writeValue(buffer, it.next());
+                buffer.write('\n');
+            }
+        } else {
+            try (SequenceWriter array = writer.writeValuesAsArray(buffer)) {
+                for (Iterator<?> it = itens.iterator(); it.hasNext(); ) {
+                    array.write(it.next());
+                }
+            }
+        }
+        buffer.flush();
+    }
+}
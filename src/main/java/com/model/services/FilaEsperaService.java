@@ -0,0 +1,304 @@
+package com.model.services;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.FilaEsperaProperties;
+import com.model.domain.Inscricao;
+import com.model.dto.StatusTicketFila;
+import com.model.dto.TicketFila;
+import com.model.repository.EventoRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sala de espera para aberturas de inscrição concorridas.
+ *
+ * Enquanto a fila de um evento está ativa, cada pedido de inscrição recebe um ticket
+ * na hora, sem tocar no banco. Um agendador próprio admite os tickets em ordem de
+ * chegada, a uma taxa fixa por evento, e os repassa para {@link InscricaoService#registrar}
+ * em um pool pequeno de threads. Assim o banco recebe um fluxo constante e limitado de
+ * escritas em vez de uma rajada de requisições simultâneas. Com o pool ocupado, o ticket
+ * volta para o início da fila e espera a próxima rodada.
+ *
+ * O estado é mantido em memória, por instância da aplicação.
+ */
+@Slf4j
+@Service
+public class FilaEsperaService {
+
+    private final InscricaoService inscricaoService;
+    private final EventoRepository eventoRepository;
+    private final FilaEsperaProperties properties;
+    private final Executor executor;
+    // Criado na subida; os testes chamam admitir(agora) diretamente
+    private ScheduledExecutorService agendador;
+
+    private final Map<Integer, Fila> filas = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public FilaEsperaService(InscricaoService inscricaoService, EventoRepository eventoRepository,
+                             FilaEsperaProperties properties) {
+        this(inscricaoService, eventoRepository, properties, new ThreadPoolExecutor(
+                properties.getThreadsAdmissao(), properties.getThreadsAdmissao(),
+                0L, TimeUnit.MILLISECONDS,
+                // Pool cheio: a execução é recusada e o ticket continua na fila
+                new LinkedBlockingQueue<>(properties.getThreadsAdmissao())));
+    }
+
+    FilaEsperaService(InscricaoService inscricaoService, EventoRepository eventoRepository,
+                      FilaEsperaProperties properties, Executor executor) {
+        this.inscricaoService = inscricaoService;
+        this.eventoRepository = eventoRepository;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "fila-admissao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(this::admitir,
+            properties.getIntervaloAdmissaoMs(), properties.getIntervaloAdmissaoMs(), TimeUnit.MILLISECONDS);
+    }
+
+    public void ativar(Integer eventoId, Integer admissoesPorSegundo) {
+        if (eventoId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do evento não pode ser nulo");
+        }
+        int taxa = admissoesPorSegundo != null ? admissoesPorSegundo : properties.getAdmissoesPorSegundo();
+        if (taxa <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Taxa de admissão deve ser positiva");
+        }
+        if (!eventoRepository.existsById(eventoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado");
+        }
+        filas.compute(eventoId, (id, atual) -> {
+            Fila fila = atual != null ? atual : new Fila(System.nanoTime());
+            fila.admissoesPorSegundo = taxa;
+            fila.encerrada = false;
+            return fila;
+        });
+    }
+
+    /**
+     * Para de aceitar novos tickets. Os que já estão aguardando continuam sendo
+     * admitidos normalmente até a fila esvaziar.
+     */
+    public void desativar(Integer eventoId) {
+        Fila fila = filas.get(eventoId);
+        if (fila != null) {
+            fila.encerrada = true;
+        }
+    }
+
+    public boolean isAtiva(Integer eventoId) {
+        Fila fila = eventoId != null ? filas.get(eventoId) : null;
+        return fila != null && !fila.encerrada;
+    }
+
+    /**
+     * Coloca o pedido de inscrição na fila do evento. Pedidos repetidos do mesmo aluno
+     * devolvem o ticket já emitido, a não ser que ele tenha sido recusado: nesse caso
+     * (por exemplo, alta concorrência ou vaga liberada depois) o aluno volta ao fim da fila.
+     */
+    public TicketFila entrar(Integer eventoId, Integer alunoId) {
+        if (alunoId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do aluno não pode ser nulo");
+        }
+        Fila fila = eventoId != null ? filas.get(eventoId) : null;
+        if (fila == null || fila.encerrada) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Evento não está com fila de espera ativa");
+        }
+
+        Ticket ticket = fila.porAluno.compute(alunoId, (id, atual) -> {
+            if (atual != null && atual.status != StatusTicketFila.RECUSADO) {
+                return atual;
+            }
+            if (fila.aguardando.get() >= properties.getCapacidadeMaxima()) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Fila de espera lotada, tente novamente");
+            }
+            Ticket novo = new Ticket(UUID.randomUUID().toString(), eventoId, alunoId, fila.emitidos.incrementAndGet());
+            tickets.put(novo.id, novo);
+            fila.aguardando.incrementAndGet();
+            fila.pendentes.add(novo);
+            return novo;
+        });
+        return ticket.resumo(fila);
+    }
+
+    public TicketFila consultar(Integer eventoId, String ticketId) {
+        Ticket ticket = ticketId != null ? tickets.get(ticketId) : null;
+        if (ticket == null || !ticket.eventoId.equals(eventoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Ticket não encontrado");
+        }
+        return ticket.resumo(filas.get(eventoId));
+    }
+
+    public void admitir() {
+        try {
+            admitir(System.nanoTime());
+        } catch (RuntimeException e) {
+            // Uma exceção cancelaria o agendamento
+            log.warn("Falha na rodada de admissão da fila de espera", e);
+        }
+    }
+
+    void admitir(long agora) {
+        filas.forEach((eventoId, fila) -> {
+            // Créditos acumulam no máximo um segundo de admissões, evitando rajadas após pausas
+            double decorrido = (agora - fila.ultimaAdmissao) / 1_000_000_000d;
+            fila.ultimaAdmissao = agora;
+            fila.creditos = Math.min(fila.admissoesPorSegundo, fila.creditos + decorrido * fila.admissoesPorSegundo);
+
+            Ticket ticket;
+            while (fila.creditos >= 1 && (ticket = fila.pendentes.poll()) != null) {
+                fila.aguardando.decrementAndGet();
+                fila.admitidos.incrementAndGet();
+                if (!processar(ticket)) {
+                    // Pool ocupado: o ticket volta para o início e a fila espera a próxima rodada
+                    ticket.status = StatusTicketFila.AGUARDANDO;
+                    fila.admitidos.decrementAndGet();
+                    fila.aguardando.incrementAndGet();
+                    fila.pendentes.addFirst(ticket);
+                    break;
+                }
+                fila.creditos--;
+            }
+
+            if (fila.encerrada && fila.pendentes.isEmpty()) {
+                filas.remove(eventoId, fila);
+            }
+        });
+        expirarTickets(agora);
+    }
+
+    /**
+     * @return false se o pool recusou a inscrição (ocupado ou encerrando)
+     */
+    private boolean processar(Ticket ticket) {
+        ticket.status = StatusTicketFila.PROCESSANDO;
+        try {
+            executor.execute(() -> registrar(ticket));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void registrar(Ticket ticket) {
+        try {
+            Inscricao inscricao = inscricaoService.registrar(ticket.eventoId, ticket.alunoId);
+            ticket.inscricaoId = inscricao.getId();
+            ticket.finalizar(StatusTicketFila.CONFIRMADO);
+        } catch (ResponseStatusException e) {
+            ticket.mensagem = e.getReason();
+            ticket.finalizar(StatusTicketFila.RECUSADO);
+        } catch (RuntimeException e) {
+            ticket.mensagem = "Falha ao processar inscrição";
+            ticket.finalizar(StatusTicketFila.RECUSADO);
+        }
+    }
+
+    private void expirarTickets(long agora) {
+        long retencao = TimeUnit.SECONDS.toNanos(properties.getRetencaoTicketsSegundos());
+        tickets.values().removeIf(ticket -> {
+            if (!ticket.isFinalizado() || agora - ticket.finalizadoEm < retencao) {
+                return false;
+            }
+            Fila fila = filas.get(ticket.eventoId);
+            if (fila != null) {
+                fila.porAluno.remove(ticket.alunoId, ticket);
+            }
+            return true;
+        });
+    }
+
+    @PreDestroy
+    void encerrar() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    private static final class Fila {
+        private final Deque<Ticket> pendentes = new ConcurrentLinkedDeque<>();
+        private final Map<Integer, Ticket> porAluno = new ConcurrentHashMap<>();
+        private final AtomicLong emitidos = new AtomicLong();
+        private final AtomicLong admitidos = new AtomicLong();
+        private final AtomicInteger aguardando = new AtomicInteger();
+        private volatile int admissoesPorSegundo;
+        private volatile boolean encerrada;
+        // Acessados apenas pela thread do agendador
+        private long ultimaAdmissao;
+        private double creditos;
+
+        private Fila(long agora) {
+            this.ultimaAdmissao = agora;
+        }
+    }
+
+    private static final class Ticket {
+        private final String id;
+        private final Integer eventoId;
+        private final Integer alunoId;
+        private final long sequencia;
+        private volatile StatusTicketFila status = StatusTicketFila.AGUARDANDO;
+        private volatile Integer inscricaoId;
+        private volatile String mensagem;
+        private volatile long finalizadoEm;
+
+        private Ticket(String id, Integer eventoId, Integer alunoId, long sequencia) {
+            this.id = id;
+            this.eventoId = eventoId;
+            this.alunoId = alunoId;
+            this.sequencia = sequencia;
+        }
+
+        private void finalizar(StatusTicketFila resultado) {
+            finalizadoEm = System.nanoTime();
+            status = resultado;
+        }
+
+        private boolean isFinalizado() {
+            return status == StatusTicketFila.CONFIRMADO || status == StatusTicketFila.RECUSADO;
+        }
+
+        private TicketFila resumo(Fila fila) {
+            StatusTicketFila atual = status;
+            long posicao = atual == StatusTicketFila.AGUARDANDO && fila != null
+                    ? Math.max(1, sequencia - fila.admitidos.get())
+                    : 0;
+            return new TicketFila(id, eventoId, alunoId, atual, posicao, inscricaoId, mensagem);
+        }
+    }
+}
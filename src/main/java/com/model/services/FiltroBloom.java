@@ -0,0 +1,66 @@
+package com.model.services;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para strings, seguro para leitura e escrita concorrentes.
+ *
+ * {@link #podeConter} nunca devolve falso para um valor adicionado; pode devolver
+ * verdadeiro para um valor nunca adicionado, com a probabilidade configurada.
+ */
+class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long tamanho;
+    private final int funcoes;
+
+    FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        long n = Math.max(1, capacidade);
+        long m = (long) Math.ceil(-n * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+        this.tamanho = bits.length() * 64L;
+        this.funcoes = Math.max(1, (int) Math.round((double) tamanho / n * Math.log(2)));
+    }
+
+    void adicionar(String valor) {
+        long h1 = hash(valor, 0xcbf29ce484222325L);
+        long h2 = hash(valor, 0x84222325cbf29ce4L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, tamanho);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual;
+            while (((atual = bits.get(indice)) & mascara) == 0
+                    && !bits.compareAndSet(indice, atual, atual | mascara)) {
+                // Outra thread alterou a mesma palavra; tenta de novo
+            }
+        }
+    }
+
+    boolean podeConter(String valor) {
+        long h1 = hash(valor, 0xcbf29ce484222325L);
+        long h2 = hash(valor, 0x84222325cbf29ce4L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, tamanho);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a de 64 bits com finalização do MurmurHash3 para espalhar os bits
+    private static long hash(String valor, long semente) {
+        long h = semente;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,344 @@
+package com.model.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.GeracaoCertificadosProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.domain.GeracaoCertificados;
+import com.model.domain.Palestrante;
+import com.model.domain.StatusGeracao;
+import com.model.repository.CertificadoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.GeracaoCertificadosRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.repository.PalestranteRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Geração assíncrona dos certificados de um evento.
+ *
+ * O pedido cria um registro em {@code geracoes_certificados} e volta na hora; o trabalho
+ * roda em um pool limitado, em lotes de alunos presentes ordenados por id. Cada lote grava
+ * os certificados e avança o cursor ({@code ultimoAlunoId}) na mesma transação, então uma
+ * geração interrompida por um reinício é retomada a partir do último lote confirmado.
+ *
+ * Se um lote falhar (por exemplo, um certificado emitido em paralelo para o mesmo aluno),
+ * ele é refeito aluno a aluno e apenas os que falharem de novo entram em {@code falhas}.
+ *
+ * Cada evento tem no máximo uma geração em andamento; um novo pedido devolve a que já
+ * existe. Com várias instâncias, a geração é assumida por uma delas ({@code dono}), que
+ * renova o heartbeat a cada lote; as demais só a retomam depois que ele vence.
+ */
+@Slf4j
+@Service
+public class GeracaoCertificadosService {
+
+    private static final List<StatusGeracao> EM_ANDAMENTO = List.of(StatusGeracao.PENDENTE, StatusGeracao.EXECUTANDO);
+
+    private enum ResultadoLote { PROCESSADO, SEM_ALUNOS, SEM_POSSE }
+
+    private final GeracaoCertificadosRepository geracaoRepository;
+    private final InscricaoRepository inscricaoRepository;
+    private final CertificadoRepository certificadoRepository;
+    private final EventoRepository eventoRepository;
+    private final PalestranteRepository palestranteRepository;
+    private final CertificadoService certificadoService;
+    private final TransactionTemplate transactionTemplate;
+    private final GeracaoCertificadosProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    // Identifica esta instância como dona das gerações que executa
+    private final String instancia = UUID.randomUUID().toString();
+    // Gerações na fila ou em execução nesta instância, para não agendar a mesma duas vezes
+    private final Set<String> agendadas = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean encerrando;
+
+    public GeracaoCertificadosService(GeracaoCertificadosRepository geracaoRepository,
+                                      InscricaoRepository inscricaoRepository,
+                                      CertificadoRepository certificadoRepository,
+                                      EventoRepository eventoRepository,
+                                      PalestranteRepository palestranteRepository,
+                                      CertificadoService certificadoService,
+                                      TransactionTemplate transactionTemplate,
+                                      GeracaoCertificadosProperties properties) {
+        this.geracaoRepository = geracaoRepository;
+        this.inscricaoRepository = inscricaoRepository;
+        this.certificadoRepository = certificadoRepository;
+        this.eventoRepository = eventoRepository;
+        this.palestranteRepository = palestranteRepository;
+        this.certificadoService = certificadoService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getCapacidadeFila()));
+    }
+
+    /**
+     * Cria e agenda a geração do evento. Se já houver uma em andamento para o evento,
+     * ela é devolvida no lugar de uma nova.
+     */
+    public GeracaoCertificados iniciar(Integer eventoId, Integer palestranteId,
+                                       String nomeInstituicao, String identidadeInstituicao) {
+        if (eventoId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do evento não pode ser nulo");
+        }
+        if (palestranteId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do palestrante não pode ser nulo");
+        }
+        if (!eventoRepository.existsById(eventoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado");
+        }
+        if (!palestranteRepository.existsById(palestranteId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Palestrante não encontrado");
+        }
+        Optional<GeracaoCertificados> ativa = geracaoRepository.findByEventoAtivo(eventoId);
+        if (ativa.isPresent()) {
+            return ativa.get();
+        }
+
+        long total = inscricaoRepository.countByEventoIdAndPresenca(eventoId, true);
+        if (total == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Não há alunos com presença confirmada para este evento");
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        GeracaoCertificados geracao = new GeracaoCertificados();
+        geracao.setId(UUID.randomUUID().toString());
+        geracao.setEventoId(eventoId);
+        geracao.setEventoAtivo(eventoId);
+        geracao.setPalestranteId(palestranteId);
+        geracao.setNomeInstituicao(nomeInstituicao);
+        geracao.setIdentidadeInstituicao(identidadeInstituicao);
+        geracao.setStatus(StatusGeracao.PENDENTE);
+        geracao.setTotal((int) total);
+        geracao.setCriadoEm(agora);
+        geracao.setAtualizadoEm(agora);
+        try {
+            geracao = geracaoRepository.saveAndFlush(geracao);
+        } catch (DataIntegrityViolationException e) {
+            // Outro pedido criou a geração do evento ao mesmo tempo
+            return geracaoRepository.findByEventoAtivo(eventoId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Certificados deste evento já estão sendo gerados", e));
+        }
+
+        try {
+            agendar(geracao.getId());
+        } catch (RejectedExecutionException e) {
+            finalizar(geracao.getId(), StatusGeracao.FALHOU, "Fila de geração de certificados cheia");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Muitas gerações de certificados em andamento, tente novamente", e);
+        }
+        return geracao;
+    }
+
+    public GeracaoCertificados consultar(String geracaoId) {
+        return geracaoRepository.findById(geracaoId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Geração não encontrada"));
+    }
+
+    /**
+     * Retoma as gerações que ficaram pendentes, foram interrompidas por um reinício ou
+     * cuja instância dona parou de renovar o heartbeat. Roda na subida e periodicamente;
+     * a posse de cada geração é disputada no banco, em {@link #executar}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${eventos.certificados.geracao.intervalo-retomada-ms:60000}",
+               fixedDelayString = "${eventos.certificados.geracao.intervalo-retomada-ms:60000}")
+    public void retomarPendentes() {
+        LocalDateTime expiradoAntes = LocalDateTime.now().minusNanos(properties.getExpiracaoPosseMs() * 1_000_000);
+        for (GeracaoCertificados geracao : geracaoRepository.findByStatusInOrderByCriadoEm(EM_ANDAMENTO)) {
+            if (geracao.getDono() != null && geracao.getHeartbeatEm() != null
+                    && !geracao.getHeartbeatEm().isBefore(expiradoAntes)) {
+                continue; // Em execução em uma instância viva (ou nesta)
+            }
+            try {
+                agendar(geracao.getId());
+            } catch (RejectedExecutionException e) {
+                return; // As restantes continuam pendentes para a próxima busca
+            }
+        }
+    }
+
+    private void agendar(String geracaoId) {
+        if (!agendadas.add(geracaoId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> executar(geracaoId));
+        } catch (RejectedExecutionException e) {
+            agendadas.remove(geracaoId);
+            throw e;
+        }
+    }
+
+    private void executar(String geracaoId) {
+        try {
+            LocalDateTime agora = LocalDateTime.now();
+            Integer assumida = transactionTemplate.execute(tx -> geracaoRepository.assumir(geracaoId, instancia,
+                agora, agora.minusNanos(properties.getExpiracaoPosseMs() * 1_000_000)));
+            if (assumida == null || assumida == 0) {
+                return; // Concluída ou em execução em outra instância
+            }
+
+            ResultadoLote resultado;
+            while ((resultado = processarLote(geracaoId)) == ResultadoLote.PROCESSADO) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return; // Aplicação encerrando: a geração é liberada e retomada por outra instância
+                }
+            }
+            if (resultado == ResultadoLote.SEM_ALUNOS) {
+                finalizar(geracaoId, StatusGeracao.CONCLUIDA, null);
+            }
+        } catch (RuntimeException e) {
+            if (!encerrando) {
+                String mensagem = e instanceof ResponseStatusException status ? status.getReason() : e.getMessage();
+                finalizar(geracaoId, StatusGeracao.FALHOU,
+                    mensagem != null && mensagem.length() > 255 ? mensagem.substring(0, 255) : mensagem);
+            }
+        } finally {
+            agendadas.remove(geracaoId);
+        }
+    }
+
+    private ResultadoLote processarLote(String geracaoId) {
+        try {
+            return transactionTemplate.execute(tx -> {
+                // Renovar primeiro trava a linha: outra instância não assume a geração no meio do lote
+                if (geracaoRepository.renovar(geracaoId, instancia, LocalDateTime.now()) == 0) {
+                    return ResultadoLote.SEM_POSSE;
+                }
+                GeracaoCertificados geracao = geracaoRepository.findById(geracaoId).orElseThrow();
+                List<Aluno> alunos = proximoLote(geracao);
+                if (alunos.isEmpty()) {
+                    return ResultadoLote.SEM_ALUNOS;
+                }
+                int gerados = gravar(geracao, alunos);
+                avancar(geracao, alunos, gerados, 0);
+                return ResultadoLote.PROCESSADO;
+            });
+        } catch (DataAccessException e) {
+            return processarAlunoAAluno(geracaoId);
+        }
+    }
+
+    private ResultadoLote processarAlunoAAluno(String geracaoId) {
+        GeracaoCertificados geracao = consultar(geracaoId);
+        if (!instancia.equals(geracao.getDono())) {
+            return ResultadoLote.SEM_POSSE;
+        }
+        List<Aluno> alunos = proximoLote(geracao);
+        if (alunos.isEmpty()) {
+            return ResultadoLote.SEM_ALUNOS;
+        }
+
+        int gerados = 0;
+        int falhas = 0;
+        for (Aluno aluno : alunos) {
+            try {
+                gerados += transactionTemplate.execute(tx -> gravar(geracao, List.of(aluno)));
+            } catch (DataAccessException e) {
+                falhas++;
+            }
+        }
+
+        int geradosNoLote = gerados;
+        int falhasNoLote = falhas;
+        return transactionTemplate.execute(tx -> {
+            if (geracaoRepository.renovar(geracaoId, instancia, LocalDateTime.now()) == 0) {
+                return ResultadoLote.SEM_POSSE;
+            }
+            avancar(geracaoRepository.findById(geracaoId).orElseThrow(), alunos, geradosNoLote, falhasNoLote);
+            return ResultadoLote.PROCESSADO;
+        });
+    }
+
+    private List<Aluno> proximoLote(GeracaoCertificados geracao) {
+        return inscricaoRepository.findAlunosPresentesApos(
+            geracao.getEventoId(), geracao.getUltimoAlunoId(), PageRequest.of(0, properties.getTamanhoLote()));
+    }
+
+    /**
+     * Grava os certificados dos alunos do lote que ainda não possuem certificado do evento.
+     *
+     * @return quantidade de certificados gerados
+     */
+    private int gravar(GeracaoCertificados geracao, List<Aluno> alunos) {
+        Set<Integer> existentes = certificadoRepository.findAlunoIdsByEventoIdAndAlunoIdIn(
+            geracao.getEventoId(), alunos.stream().map(Aluno::getId).toList());
+        List<Aluno> pendentes = alunos.stream().filter(aluno -> !existentes.contains(aluno.getId())).toList();
+        if (pendentes.isEmpty()) {
+            return 0;
+        }
+
+        Evento evento = eventoRepository.findById(geracao.getEventoId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
+        Palestrante palestrante = palestranteRepository.findById(geracao.getPalestranteId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Palestrante não encontrado"));
+
+        certificadoService.gravarEmLote(certificadoService.criarCertificados(
+            pendentes, evento, palestrante, geracao.getNomeInstituicao(), geracao.getIdentidadeInstituicao()));
+        return pendentes.size();
+    }
+
+    private void avancar(GeracaoCertificados geracao, List<Aluno> alunos, int gerados, int falhas) {
+        geracao.setUltimoAlunoId(alunos.get(alunos.size() - 1).getId());
+        geracao.setProcessados(geracao.getProcessados() + alunos.size());
+        geracao.setGerados(geracao.getGerados() + gerados);
+        geracao.setFalhas(geracao.getFalhas() + falhas);
+        geracao.setAtualizadoEm(LocalDateTime.now());
+    }
+
+    /**
+     * Encerra a geração, liberando o evento para uma nova. Uma geração assumida por
+     * outra instância não é alterada.
+     */
+    private void finalizar(String geracaoId, StatusGeracao status, String mensagem) {
+        transactionTemplate.executeWithoutResult(tx -> geracaoRepository.findById(geracaoId)
+                .filter(geracao -> geracao.getDono() == null || instancia.equals(geracao.getDono()))
+                .ifPresent(geracao -> {
+                    geracao.setStatus(status);
+                    geracao.setMensagem(mensagem);
+                    geracao.setEventoAtivo(null);
+                    geracao.setAtualizadoEm(LocalDateTime.now());
+                }));
+    }
+
+    @PreDestroy
+    void encerrar() {
+        encerrando = true;
+        executor.shutdownNow();
+        try {
+            transactionTemplate.executeWithoutResult(tx -> geracaoRepository.liberar(instancia));
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível liberar as gerações de certificados desta instância", e);
+        }
+    }
+}
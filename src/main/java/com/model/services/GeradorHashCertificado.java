@@ -0,0 +1,149 @@
+package com.model.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+import com.config.AssinaturaCertificadoProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.dto.CodigoCertificado;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Gera e verifica os códigos validadores dos certificados.
+ *
+ * O código tem o formato {@code chave.alunoId.eventoId.assinatura}, onde a assinatura é o
+ * HMAC-SHA256 (Base64 URL) dos três primeiros campos com a chave identificada. Como só
+ * existe um certificado por aluno e evento, o par identifica o certificado e o código é
+ * determinístico: a autenticidade é conferida sem acesso ao banco, recalculando o HMAC.
+ *
+ * Cada thread reaproveita as suas instâncias de {@link Mac}; lotes grandes, como todos os
+ * presentes de um evento, são divididos entre as threads de um {@link ForkJoinPool}.
+ */
+@Component
+public class GeradorHashCertificado {
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    // Abaixo disso o custo de dividir o trabalho supera o ganho do paralelismo
+    private static final int LIMIAR_PARALELO = 256;
+
+    // Tamanho mínimo da chave HMAC: o mesmo da saída do SHA-256
+    private static final int TAMANHO_MINIMO_CHAVE = 32;
+
+    private final String chaveAtiva;
+    private final Map<String, SecretKeySpec> chaves = new HashMap<>();
+    private final ThreadLocal<Map<String, Mac>> macs = ThreadLocal.withInitial(HashMap::new);
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    public GeradorHashCertificado(AssinaturaCertificadoProperties properties) {
+        properties.getChaves().forEach((id, segredo) -> {
+            if (id.contains(".")) {
+                throw new IllegalStateException("Identificador de chave de certificado não pode conter '.': " + id);
+            }
+            byte[] chave = segredo == null ? new byte[0] : Base64.getDecoder().decode(segredo.trim());
+            if (chave.length < TAMANHO_MINIMO_CHAVE) {
+                throw new IllegalStateException("Chave de assinatura de certificados vazia ou com menos de "
+                    + TAMANHO_MINIMO_CHAVE + " bytes: " + id);
+            }
+            chaves.put(id, new SecretKeySpec(chave, ALGORITMO));
+        });
+        if (!chaves.containsKey(properties.getChaveAtiva())) {
+            throw new IllegalStateException(
+                "Chave ativa de assinatura de certificados não configurada: " + properties.getChaveAtiva());
+        }
+        this.chaveAtiva = properties.getChaveAtiva();
+    }
+
+    public String gerar(Aluno aluno, Evento evento) {
+        return gerar(aluno.getId(), evento.getId());
+    }
+
+    public String gerar(Integer alunoId, Integer eventoId) {
+        String conteudo = chaveAtiva + '.' + alunoId + '.' + eventoId;
+        return conteudo + '.' + BASE64.encodeToString(assinar(chaveAtiva, conteudo));
+    }
+
+    /**
+     * Gera os códigos de vários alunos de um mesmo evento, na ordem da lista recebida.
+     */
+    public List<String> gerarEmLote(List<Aluno> alunos, Evento evento) {
+        String[] codigos = new String[alunos.size()];
+        if (codigos.length < LIMIAR_PARALELO) {
+            for (int i = 0; i < codigos.length; i++) {
+                codigos[i] = gerar(alunos.get(i), evento);
+            }
+        } else {
+            pool.submit(() -> IntStream.range(0, codigos.length).parallel()
+                    .forEach(i -> codigos[i] = gerar(alunos.get(i), evento)))
+                .join();
+        }
+        return Arrays.asList(codigos);
+    }
+
+    /**
+     * Confere a assinatura do código sem consultar o banco.
+     *
+     * @return o conteúdo do código, ou vazio se o formato, a chave ou a assinatura forem inválidos
+     */
+    public Optional<CodigoCertificado> verificar(String codigo) {
+        if (codigo == null) {
+            return Optional.empty();
+        }
+        int fimConteudo = codigo.lastIndexOf('.');
+        String[] campos = fimConteudo > 0 ? codigo.substring(0, fimConteudo).split("\\.", -1) : new String[0];
+        if (campos.length != 3 || !chaves.containsKey(campos[0])) {
+            return Optional.empty();
+        }
+        try {
+            Integer alunoId = Integer.valueOf(campos[1]);
+            Integer eventoId = Integer.valueOf(campos[2]);
+            byte[] recebida = BASE64_DECODER.decode(codigo.substring(fimConteudo + 1));
+            byte[] esperada = assinar(campos[0], codigo.substring(0, fimConteudo));
+            if (!MessageDigest.isEqual(esperada, recebida)) {
+                return Optional.empty();
+            }
+            return Optional.of(new CodigoCertificado(codigo, campos[0], alunoId, eventoId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] assinar(String chave, String conteudo) {
+        Mac mac = macs.get().computeIfAbsent(chave, this::criarMac);
+        return mac.doFinal(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac criarMac(String chave) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chaves.get(chave));
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Erro ao inicializar a assinatura de certificados", e);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,124 @@
+package com.model.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória: para cada termo, os documentos que o contêm e o peso do
+ * termo em cada um. Seguro para leituras concorrentes com escritas.
+ *
+ * A busca exige todos os termos da consulta (o último também vale como prefixo, para
+ * buscas enquanto se digita) e ordena pela soma, por termo, do peso saturado multiplicado
+ * pela raridade do termo (IDF), como no BM25 sem normalização de tamanho.
+ */
+class IndiceInvertido {
+
+    private static final double SATURACAO = 1.2;
+
+    private final NavigableMap<String, Map<Integer, Double>> postings = new TreeMap<>();
+    private final Map<Integer, Collection<String>> termosPorDocumento = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Substitui o conteúdo indexado do documento pelos termos e pesos informados.
+     */
+    void indexar(int documento, Map<String, Double> pesos) {
+        lock.writeLock().lock();
+        try {
+            desindexar(documento);
+            if (pesos.isEmpty()) {
+                return;
+            }
+            pesos.forEach((termo, peso) -> postings.computeIfAbsent(termo, t -> new HashMap<>()).put(documento, peso));
+            termosPorDocumento.put(documento, List.copyOf(pesos.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remover(int documento) {
+        lock.writeLock().lock();
+        try {
+            desindexar(documento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int tamanho() {
+        lock.readLock().lock();
+        try {
+            return termosPorDocumento.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return ids dos documentos com todos os termos, do mais relevante ao menos relevante
+     *         (empates pelo menor id), no máximo {@code limite}
+     */
+    List<Integer> buscar(List<String> termos, int limite) {
+        if (termos.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> pontos = null;
+            for (int i = 0; i < termos.size(); i++) {
+                Map<Integer, Double> doTermo = pontuar(termos.get(i), i == termos.size() - 1);
+                if (pontos != null) {
+                    Map<Integer, Double> anteriores = pontos;
+                    doTermo.keySet().retainAll(anteriores.keySet());
+                    doTermo.replaceAll((documento, ponto) -> ponto + anteriores.get(documento));
+                }
+                pontos = doTermo;
+                if (pontos.isEmpty()) {
+                    return List.of();
+                }
+            }
+            List<Map.Entry<Integer, Double>> ordenados = new ArrayList<>(pontos.entrySet());
+            ordenados.sort(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return ordenados.stream().limit(limite).map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Pontos de cada documento para um termo; como prefixo, vale o melhor termo que começa com ele
+    private Map<Integer, Double> pontuar(String termo, boolean prefixo) {
+        Collection<Map<Integer, Double>> listas = prefixo
+                ? postings.subMap(termo, true, termo + Character.MAX_VALUE, false).values()
+                : postings.containsKey(termo) ? List.of(postings.get(termo)) : List.of();
+        Map<Integer, Double> pontos = new HashMap<>();
+        int total = termosPorDocumento.size();
+        for (Map<Integer, Double> lista : listas) {
+            double idf = Math.log(1 + (total - lista.size() + 0.5) / (lista.size() + 0.5));
+            lista.forEach((documento, peso) ->
+                pontos.merge(documento, idf * peso * (SATURACAO + 1) / (peso + SATURACAO), Math::max));
+        }
+        return pontos;
+    }
+
+    private void desindexar(int documento) {
+        Collection<String> termos = termosPorDocumento.remove(documento);
+        if (termos == null) {
+            return;
+        }
+        for (String termo : termos) {
+            Map<Integer, Double> lista = postings.get(termo);
+            lista.remove(documento);
+            if (lista.isEmpty()) {
+                postings.remove(termo);
+            }
+        }
+    }
+}
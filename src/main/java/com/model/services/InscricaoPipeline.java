@@ -0,0 +1,331 @@
+package com.model.services;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.InscricaoProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.domain.Inscricao;
+import com.model.repository.AlunoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Estratégia alternativa de registro com um único escritor por evento.
+ *
+ * Os pedidos de cada evento entram em um buffer circular limitado e são consumidos por
+ * uma única thread, dona do estado de vagas daquele evento. O consumidor valida o lote
+ * em memória (vagas, duplicidade, cursos permitidos) e grava as inscrições aceitas em
+ * uma transação por lote, reservando todas as vagas com um só UPDATE condicional.
+ * Se o contador do banco divergir do estado em memória (outra instância ou a estratégia
+ * síncrona gravando no mesmo evento), o estado é recarregado e o lote reprocessado.
+ *
+ * O consumidor é criado sob demanda, só para eventos existentes, e encerrado após um
+ * período ocioso. Escritas feitas fora dele que mudam o estado em memória (remoção de
+ * inscrição, edição do evento, sorteio) chamam {@link #invalidar}, e o próximo lote
+ * recarrega o estado do banco.
+ */
+@Component
+public class InscricaoPipeline {
+
+    private final InscricaoRepository inscricaoRepository;
+    private final EventoRepository eventoRepository;
+    private final AlunoRepository alunoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InscricaoProperties properties;
+
+    private final Map<Integer, Consumidor> consumidores = new ConcurrentHashMap<>();
+
+    public InscricaoPipeline(InscricaoRepository inscricaoRepository, EventoRepository eventoRepository,
+                             AlunoRepository alunoRepository, TransactionTemplate transactionTemplate,
+                             InscricaoProperties properties) {
+        this.inscricaoRepository = inscricaoRepository;
+        this.eventoRepository = eventoRepository;
+        this.alunoRepository = alunoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    public boolean isAtivo() {
+        return properties.getEstrategia() == InscricaoProperties.Estrategia.PIPELINE;
+    }
+
+    /**
+     * Enfileira o pedido no buffer do evento e aguarda a confirmação do consumidor.
+     */
+    public Inscricao registrar(Integer eventoId, Integer alunoId) {
+        // Cada consumidor é uma thread: só eventos existentes ganham um
+        if (!consumidores.containsKey(eventoId) && !eventoRepository.existsById(eventoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado");
+        }
+        Pedido pedido = new Pedido(alunoId);
+        while (!consumidores.computeIfAbsent(eventoId, Consumidor::new).oferecer(pedido)) {
+            // O consumidor encontrado estava encerrando por ociosidade; um novo será criado
+        }
+
+        try {
+            return pedido.resultado.get(properties.getPipeline().getTimeoutRespostaMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseStatusException status) {
+                throw status;
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Falha ao registrar inscrição", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Tempo esgotado aguardando a inscrição", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Inscrição interrompida", e);
+        }
+    }
+
+    /**
+     * Descarta o estado em memória do consumidor do evento, se houver um. Dentro de uma
+     * transação, vale após o commit, para que a recarga já leia a escrita confirmada.
+     */
+    public void invalidar(Integer eventoId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidarConsumidor(eventoId);
+                }
+            });
+        } else {
+            invalidarConsumidor(eventoId);
+        }
+    }
+
+    private void invalidarConsumidor(Integer eventoId) {
+        Consumidor consumidor = consumidores.get(eventoId);
+        if (consumidor != null) {
+            consumidor.invalidado = true;
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        consumidores.values().forEach(consumidor -> consumidor.thread.interrupt());
+    }
+
+    private static final class Pedido {
+        private final Integer alunoId;
+        private final CompletableFuture<Inscricao> resultado = new CompletableFuture<>();
+
+        private Pedido(Integer alunoId) {
+            this.alunoId = alunoId;
+        }
+
+        private void recusar(HttpStatus status, String motivo) {
+            resultado.completeExceptionally(new ResponseStatusException(status, motivo));
+        }
+    }
+
+    private final class Consumidor implements Runnable {
+
+        private final Integer eventoId;
+        private final ArrayBlockingQueue<Pedido> buffer;
+        private final Thread thread;
+        private boolean encerrado;
+        // Sinalizado por outras threads; o consumidor recarrega o estado no próximo lote
+        private volatile boolean invalidado;
+
+        // Estado do evento: lido e alterado somente pela thread consumidora
+        private boolean carregado;
+        private int vagas;
+        private int ocupadas;
+        private boolean modoSorteio;
+        private Set<Integer> cursosPermitidos;
+        private Set<Integer> inscritos;
+
+        private Consumidor(Integer eventoId) {
+            this.eventoId = eventoId;
+            this.buffer = new ArrayBlockingQueue<>(properties.getPipeline().getCapacidadeBuffer());
+            this.thread = new Thread(this, "inscricoes-evento-" + eventoId);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private synchronized boolean oferecer(Pedido pedido) {
+            if (encerrado) {
+                return false;
+            }
+            if (!buffer.offer(pedido)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Muitas inscrições simultâneas, tente novamente");
+            }
+            return true;
+        }
+
+        private synchronized boolean encerrarSeOcioso() {
+            if (!buffer.isEmpty()) {
+                return false;
+            }
+            encerrado = true;
+            consumidores.remove(eventoId, this);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            int tamanhoLote = properties.getPipeline().getTamanhoLote();
+            long ociosidade = properties.getPipeline().getOciosidadeMs();
+            try {
+                while (true) {
+                    Pedido primeiro = buffer.poll(ociosidade, TimeUnit.MILLISECONDS);
+                    if (primeiro == null) {
+                        if (encerrarSeOcioso()) {
+                            return;
+                        }
+                        continue;
+                    }
+                    List<Pedido> lote = new ArrayList<>(tamanhoLote);
+                    lote.add(primeiro);
+                    buffer.drainTo(lote, tamanhoLote - 1);
+                    processar(lote);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                synchronized (this) {
+                    encerrado = true;
+                }
+                consumidores.remove(eventoId, this);
+                List<Pedido> restantes = new ArrayList<>();
+                buffer.drainTo(restantes);
+                restantes.forEach(p -> p.recusar(HttpStatus.SERVICE_UNAVAILABLE, "Inscrição interrompida"));
+            }
+        }
+
+        private void processar(List<Pedido> lote) {
+            try {
+                if (!tentarGravar(lote)) {
+                    // Contador do banco divergiu do estado em memória: recarrega e tenta uma vez mais
+                    carregado = false;
+                    if (!tentarGravar(lote)) {
+                        lote.forEach(p -> p.recusar(HttpStatus.SERVICE_UNAVAILABLE, "Alta concorrência nas inscrições, tente novamente"));
+                    }
+                }
+            } catch (RuntimeException e) {
+                carregado = false;
+                lote.forEach(p -> p.resultado.completeExceptionally(e));
+            }
+        }
+
+        /**
+         * @return false quando a gravação precisa ser refeita com o estado recarregado
+         */
+        private boolean tentarGravar(List<Pedido> lote) {
+            if (invalidado) {
+                invalidado = false;
+                carregado = false;
+            }
+            if (!carregado) {
+                carregarEstado();
+            }
+            int ocupadasAntes = ocupadas;
+            Set<Integer> novosInscritos = new HashSet<>();
+
+            Map<Integer, Aluno> alunos = alunoRepository.findAllById(lote.stream().map(p -> p.alunoId).toList())
+                    .stream().collect(Collectors.toMap(Aluno::getId, Function.identity()));
+            Set<Integer> elegiveis = cursosPermitidos.isEmpty() || alunos.isEmpty()
+                    ? alunos.keySet()
+                    : alunoRepository.findIdsComAlgumCurso(alunos.keySet(), cursosPermitidos);
+
+            List<Pedido> aceitos = new ArrayList<>();
+            List<Runnable> recusas = new ArrayList<>();
+            for (Pedido pedido : lote) {
+                if (!alunos.containsKey(pedido.alunoId)) {
+                    recusas.add(() -> pedido.recusar(HttpStatus.NOT_FOUND, "Aluno não encontrado"));
+                } else if (modoSorteio) {
+                    recusas.add(() -> pedido.recusar(HttpStatus.CONFLICT, "Inscrições deste evento são feitas por sorteio"));
+                } else if (inscritos.contains(pedido.alunoId) || novosInscritos.contains(pedido.alunoId)) {
+                    recusas.add(() -> pedido.recusar(HttpStatus.CONFLICT, "Aluno já inscrito neste evento"));
+                } else if (!elegiveis.contains(pedido.alunoId)) {
+                    recusas.add(() -> pedido.recusar(HttpStatus.BAD_REQUEST, "Aluno não atende aos critérios deste evento"));
+                } else if (ocupadas >= vagas) {
+                    recusas.add(() -> pedido.recusar(HttpStatus.BAD_REQUEST, "Evento sem vagas disponíveis"));
+                } else {
+                    ocupadas++;
+                    novosInscritos.add(pedido.alunoId);
+                    aceitos.add(pedido);
+                }
+            }
+
+            List<Inscricao> gravadas;
+            try {
+                gravadas = aceitos.isEmpty() ? List.of() : transactionTemplate.execute(tx -> gravar(aceitos, alunos));
+            } catch (DataAccessException e) {
+                gravadas = null;
+            }
+            if (gravadas == null) {
+                ocupadas = ocupadasAntes;
+                return false;
+            }
+
+            inscritos.addAll(novosInscritos);
+            for (int i = 0; i < aceitos.size(); i++) {
+                aceitos.get(i).resultado.complete(gravadas.get(i));
+            }
+            recusas.forEach(Runnable::run);
+            return true;
+        }
+
+        private List<Inscricao> gravar(List<Pedido> aceitos, Map<Integer, Aluno> alunos) {
+            if (eventoRepository.reservarVagas(eventoId, aceitos.size()) == 0) {
+                throw new ContadorDivergenteException();
+            }
+            Evento evento = eventoRepository.getReferenceById(eventoId);
+            Date agora = new Date();
+            List<Inscricao> inscricoes = new ArrayList<>(aceitos.size());
+            for (Pedido pedido : aceitos) {
+                inscricoes.add(new Inscricao(alunos.get(pedido.alunoId), evento, agora));
+            }
+            return inscricaoRepository.saveAll(inscricoes);
+        }
+
+        private void carregarEstado() {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Evento evento = eventoRepository.findById(eventoId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
+                vagas = evento.getVagas() != null ? evento.getVagas() : 0;
+                ocupadas = evento.getVagasOcupadas() != null ? evento.getVagasOcupadas() : 0;
+                modoSorteio = evento.isModoSorteio();
+                cursosPermitidos = eventoRepository.findCursoIdsById(eventoId);
+                inscritos = new HashSet<>(inscricaoRepository.findAlunoIdsByEventoId(eventoId));
+            });
+            carregado = true;
+        }
+    }
+
+    /**
+     * Sinaliza, dentro da transação do lote, que o UPDATE condicional não reservou as
+     * vagas; a transação é desfeita e o lote reprocessado com o estado recarregado.
+     */
+    private static final class ContadorDivergenteException extends DataAccessException {
+        private ContadorDivergenteException() {
+            super("Contador de vagas divergente do estado em memória");
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package com.model.services;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Aluno;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoInscricao;
 import com.model.repository.AlunoRepository;
 import com.model.repository.EventoRepository;
 import com.model.repository.InscricaoRepository;
@@ -20,18 +31,68 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class InscricaoService {
 
+    private static final int MAX_TENTATIVAS = 5;
+    private static final long ESPERA_INICIAL_MS = 10;
+    private static final String INDICE_INSCRICAO_UNICA = "ux_inscricao_evento_aluno";
+
     private final InscricaoRepository inscricaoRepository;
     private final EventoRepository eventoRepository;
     private final AlunoRepository alunoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InscricaoPipeline inscricaoPipeline;
+    private final ExportacaoJson exportacaoJson;
+
+    public Pagina<ResumoInscricao> listarPorEvento(Integer eventoId, Integer depoisDe, Integer limite) {
+        return Pagina.de(inscricaoRepository.findResumosPorEventoApos(eventoId, Pagina.cursor(depoisDe),
+            Pagina.requisicao(limite)), limite, ResumoInscricao::id);
+    }
+
+    /**
+     * Chamado antes de iniciar a exportação, enquanto ainda é possível devolver 404.
+     */
+    public void validarEvento(Integer eventoId) {
+        if (!eventoRepository.existsById(eventoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado");
+        }
+    }
+
+    /**
+     * Escreve todas as inscrições do evento na saída à medida que são lidas do banco.
+     */
+    @Transactional(readOnly = true)
+    public void exportarPorEvento(Integer eventoId, boolean ndjson, OutputStream saida) throws IOException {
+        try (Stream<ResumoInscricao> inscricoes = inscricaoRepository.streamResumosPorEvento(eventoId)) {
+            exportacaoJson.escrever(inscricoes, ndjson, saida);
+        }
+    }
 
-    public List<Inscricao> listarPorEvento(Integer eventoId) {
-        return inscricaoRepository.findByEventoId(eventoId);
+    public Pagina<ResumoInscricao> listarPorAluno(Integer alunoId, Integer depoisDe, Integer limite) {
+        return Pagina.de(inscricaoRepository.findResumosPorAlunoApos(alunoId, Pagina.cursor(depoisDe),
+            Pagina.requisicao(limite)), limite, ResumoInscricao::id);
     }
 
-    public List<Inscricao> listarPorAluno(Integer alunoId) {
-        return inscricaoRepository.findByAlunoId(alunoId);
+    public ResumoInscricao resumir(Integer inscricaoId) {
+        return inscricaoRepository.findResumoById(inscricaoId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Inscrição não encontrada"));
     }
 
+    /**
+     * Registra a inscrição de um aluno em um evento.
+     *
+     * A vaga é reservada por um único UPDATE condicional no contador do evento, que
+     * bloqueia apenas a linha daquele evento até o commit: inscrições concorrentes no
+     * mesmo evento são serializadas pelo banco, enquanto eventos diferentes não disputam
+     * entre si. Se a inserção falhar, a reserva é desfeita junto com a transação.
+     * Conflitos transitórios (deadlock, falha de serialização, timeout de lock) são
+     * repetidos com backoff exponencial limitado; a violação do índice único
+     * {@code ux_inscricao_evento_aluno} por uma requisição concorrente vira 409.
+     *
+     * Com {@code eventos.inscricoes.estrategia=PIPELINE}, o pedido é delegado ao
+     * {@link InscricaoPipeline}, que aplica as inscrições de cada evento em lote.
+     *
+     * @throws ResponseStatusException 409 se o aluno já estiver inscrito, 503 se as
+     *         tentativas se esgotarem
+     */
     public Inscricao registrar(Integer eventoId, Integer alunoId) {
         if (eventoId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do evento não pode ser nulo");
@@ -39,45 +100,117 @@ public class InscricaoService {
         if (alunoId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do aluno não pode ser nulo");
         }
-        Evento evento = eventoRepository.findById(eventoId)
+        if (inscricaoPipeline.isAtivo()) {
+            return inscricaoPipeline.registrar(eventoId, alunoId);
+        }
+
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> registrarNaTransacao(eventoId, alunoId));
+            } catch (DataIntegrityViolationException e) {
+                if (!violouInscricaoUnica(e)) {
+                    throw e;
+                }
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Aluno já inscrito neste evento", e);
+            } catch (ConcurrencyFailureException e) {
+                if (tentativa >= MAX_TENTATIVAS) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Alta concorrência nas inscrições, tente novamente", e);
+                }
+                aguardarNovaTentativa(tentativa);
+            }
+        }
+    }
+
+    private Inscricao registrarNaTransacao(Integer eventoId, Integer alunoId) {
+        Evento evento = eventoRepository.findComCursosById(eventoId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
-        Aluno aluno = alunoRepository.findById(alunoId)
+        Aluno aluno = alunoRepository.findComCursosById(alunoId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Aluno não encontrado"));
 
+        if (evento.isModoSorteio()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Inscrições deste evento são feitas por sorteio");
+        }
         if (inscricaoRepository.existsByEventoIdAndAlunoId(eventoId, alunoId)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Aluno já inscrito neste evento");
         }
-        if (!evento.temVagasDisponiveis()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Evento sem vagas disponíveis");
-        }
         if (!evento.podeSeInscrever(aluno)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Aluno não atende aos critérios deste evento");
         }
+        // Último passo antes do INSERT para segurar o lock da linha do evento o menor tempo possível
+        if (eventoRepository.reservarVaga(eventoId) == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Evento sem vagas disponíveis");
+        }
 
         Inscricao inscricao = new Inscricao();
         inscricao.setAluno(aluno);
         inscricao.setEvento(evento);
         inscricao.setDataInscricao(new Date());
         inscricao.setPresenca(null);
+        return inscricaoRepository.saveAndFlush(inscricao);
+    }
 
-        evento.getInscricoes().add(inscricao);
-        return inscricaoRepository.save(inscricao);
+    /**
+     * O H2 informa o índice com o esquema ({@code PUBLIC.UX_INSCRICAO_EVENTO_ALUNO}) e o
+     * PostgreSQL só pelo nome; outras violações (chave estrangeira, NOT NULL) não são duplicidade.
+     */
+    private static boolean violouInscricaoUnica(DataIntegrityViolationException e) {
+        for (Throwable causa = e.getCause(); causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null) {
+                String restricao = violacao.getConstraintName();
+                return INDICE_INSCRICAO_UNICA.equalsIgnoreCase(restricao.substring(restricao.lastIndexOf('.') + 1));
+            }
+        }
+        return false;
+    }
+
+    private void aguardarNovaTentativa(int tentativa) {
+        long espera = ESPERA_INICIAL_MS << (tentativa - 1);
+        try {
+            Thread.sleep(espera + ThreadLocalRandom.current().nextLong(espera));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Inscrição interrompida", e);
+        }
     }
 
+    /**
+     * Atualiza a presença e o contador {@code presentes} do evento. Só a requisição que
+     * de fato confirma ou retira a presença altera a linha, então marcações concorrentes
+     * não contam o mesmo aluno duas vezes.
+     */
+    @Transactional
     public Inscricao atualizarPresenca(Integer inscricaoId, Boolean presente) {
         if (inscricaoId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID da inscrição não pode ser nulo");
         }
-        Inscricao inscricao = inscricaoRepository.findById(inscricaoId)
+        Integer eventoId = inscricaoRepository.findEventoIdById(inscricaoId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Inscrição não encontrada"));
+        if (Boolean.TRUE.equals(presente)) {
+            if (inscricaoRepository.confirmarPresenca(inscricaoId) == 1) {
+                eventoRepository.ajustarPresentes(eventoId, 1);
+            }
+        } else if (inscricaoRepository.retirarPresenca(inscricaoId, presente) == 1) {
+            eventoRepository.ajustarPresentes(eventoId, -1);
+        } else {
+            inscricaoRepository.definirPresenca(inscricaoId, presente);
+        }
+        return inscricaoRepository.findById(inscricaoId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Inscrição não encontrada"));
-        inscricao.setPresenca(presente);
-        return inscricaoRepository.save(inscricao);
     }
 
+    @Transactional
     public void remover(Integer inscricaoId) {
         if (inscricaoId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID da inscrição não pode ser nulo");
         }
+        inscricaoRepository.findEventoIdById(inscricaoId).ifPresent(eventoId -> {
+            eventoRepository.liberarVaga(eventoId);
+            inscricaoPipeline.invalidar(eventoId);
+            if (inscricaoRepository.retirarPresenca(inscricaoId, null) == 1) {
+                eventoRepository.ajustarPresentes(eventoId, -1);
+            }
+        });
         inscricaoRepository.deleteById(inscricaoId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.model.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.model.repository.CertificadoRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashes de certificados revogados ou removidos, mantidas em memória para que a
+ * validação de códigos assinados não precise consultar o banco.
+ *
+ * O conjunto é carregado do banco na subida e atualizado a cada revogação confirmada.
+ * No PostgreSQL as revogações também são publicadas com {@code NOTIFY} na mesma
+ * transação (entregues só após o commit) e cada instância mantém uma conexão em
+ * {@code LISTEN}; ao reconectar, o conjunto é recarregado para cobrir o que se perdeu.
+ * Em outros bancos (H2 nos testes) as atualizações ficam restritas à instância.
+ *
+ * A mesma conexão escuta o canal de certificados emitidos de {@link CacheVerificacaoCertificados}
+ * e o de eventos alterados de {@link BuscaEventosService}; a cada (re)conexão, pede a eles
+ * uma reconstrução do filtro de Bloom e do índice de busca.
+ *
+ * Um certificado removido entra no conjunto como revogado, para que o seu código seja
+ * recusado antes que o filtro de Bloom reconstruído deixe de contê-lo. Como o código é
+ * determinístico por aluno e evento, um novo certificado para o mesmo par tira o código
+ * do conjunto ({@link #reemitir}), publicado no canal {@value #CANAL_REEMITIDOS}. Na
+ * carga, vêm do banco só os revogados: os removidos já são recusados como inexistentes.
+ */
+@Slf4j
+@Component
+public class ListaRevogacaoCertificados {
+
+    static final String CANAL = "certificados_revogados";
+    static final String CANAL_REEMITIDOS = "certificados_reemitidos";
+
+    private static final long ESPERA_NOTIFICACAO_MS = 5_000;
+    private static final long ESPERA_RECONEXAO_MS = 5_000;
+
+    private final CertificadoRepository certificadoRepository;
+    private final CacheVerificacaoCertificados cacheVerificacao;
+    private final BuscaEventosService buscaEventosService;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<String> revogados = ConcurrentHashMap.newKeySet();
+    private volatile boolean carregada;
+    private volatile boolean postgres;
+    private volatile boolean encerrando;
+    private Thread ouvinte;
+
+    public ListaRevogacaoCertificados(CertificadoRepository certificadoRepository,
+                                      CacheVerificacaoCertificados cacheVerificacao,
+                                      BuscaEventosService buscaEventosService,
+                                      DataSource dataSource,
+                                      JdbcTemplate jdbcTemplate) {
+        this.certificadoRepository = certificadoRepository;
+        this.cacheVerificacao = cacheVerificacao;
+        this.buscaEventosService = buscaEventosService;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        postgres = postgres(jdbcTemplate);
+        if (postgres) {
+            ouvinte = new Thread(this::ouvir, "revogacao-certificados");
+            ouvinte.setDaemon(true);
+            ouvinte.start();
+        } else {
+            carregar();
+            cacheVerificacao.reconstruirEmSegundoPlano();
+        }
+    }
+
+    static boolean postgres(JdbcTemplate jdbcTemplate) {
+        return "PostgreSQL".equals(jdbcTemplate.execute(
+            (ConnectionCallback<String>) conexao -> conexao.getMetaData().getDatabaseProductName()));
+    }
+
+    /**
+     * @return true depois que o conjunto foi carregado do banco
+     */
+    public boolean carregada() {
+        return carregada;
+    }
+
+    public boolean revogado(String hash) {
+        return revogados.contains(hash);
+    }
+
+    /**
+     * Registra a revogação (ou remoção) de um certificado. Dentro de uma transação, o
+     * conjunto local só é atualizado após o commit e a notificação sai junto com ele.
+     */
+    public void revogar(String hash) {
+        if (postgres) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) resultado -> { }, CANAL, hash);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adicionar(hash);
+                }
+            });
+        } else {
+            adicionar(hash);
+        }
+    }
+
+    /**
+     * Tira do conjunto os códigos de certificados emitidos de novo depois de removidos.
+     * Como em {@link #revogar}, dentro de uma transação a alteração vale após o commit.
+     */
+    public void reemitir(Collection<String> hashes) {
+        List<String> removidos = hashes.stream().filter(revogados::contains).toList();
+        if (removidos.isEmpty()) {
+            return;
+        }
+        if (postgres) {
+            removidos.forEach(hash -> jdbcTemplate.query("SELECT pg_notify(?, ?)",
+                (RowCallbackHandler) resultado -> { }, CANAL_REEMITIDOS, hash));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removidos.forEach(revogados::remove);
+                }
+            });
+        } else {
+            removidos.forEach(revogados::remove);
+        }
+    }
+
+    private void adicionar(String hash) {
+        revogados.add(hash);
+        cacheVerificacao.invalidar(hash);
+    }
+
+    private void carregar() {
+        certificadoRepository.findCodigosRevogados().forEach(codigo -> adicionar(codigo.codigo()));
+        carregada = true;
+    }
+
+    private void ouvir() {
+        while (!encerrando) {
+            try (Connection conexao = dataSource.getConnection()) {
+                PGConnection pg = conexao.unwrap(PGConnection.class);
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("LISTEN " + CANAL);
+                    statement.execute("LISTEN " + CANAL_REEMITIDOS);
+                    statement.execute("LISTEN " + CacheVerificacaoCertificados.CANAL);
+                    statement.execute("LISTEN " + BuscaEventosService.CANAL);
+                }
+                // Carrega depois do LISTEN: nenhuma revogação, emissão ou alteração de evento
+                // fica entre a carga e a escuta
+                carregar();
+                cacheVerificacao.reconstruirEmSegundoPlano();
+                buscaEventosService.carregar();
+                while (!encerrando) {
+                    PGNotification[] notificacoes = pg.getNotifications((int) ESPERA_NOTIFICACAO_MS);
+                    if (notificacoes != null) {
+                        for (PGNotification notificacao : notificacoes) {
+                            if (CANAL.equals(notificacao.getName())) {
+                                adicionar(notificacao.getParameter());
+                            } else if (CANAL_REEMITIDOS.equals(notificacao.getName())) {
+                                revogados.remove(notificacao.getParameter());
+                            } else if (BuscaEventosService.CANAL.equals(notificacao.getName())) {
+                                buscaEventosService.sincronizar(Integer.valueOf(notificacao.getParameter()));
+                            } else {
+                                cacheVerificacao.adicionarNotificadas(notificacao.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (encerrando) {
+                    return;
+                }
+                log.warn("Conexão de revogação de certificados perdida, reconectando", e);
+                try {
+                    Thread.sleep(ESPERA_RECONEXAO_MS);
+                } catch (InterruptedException interrompida) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        encerrando = true;
+        if (ouvinte != null) {
+            ouvinte.interrupt();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.model.services;
 
-import java.util.List;
-
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.config.CacheConfig;
 import com.model.domain.Palestrante;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoPalestrante;
+import com.model.dto.VersaoCatalogo;
 import com.model.repository.PalestranteRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -16,11 +21,29 @@ import lombok.RequiredArgsConstructor;
 public class PalestranteService {
 
     private final PalestranteRepository palestranteRepository;
+    private final BuscaEventosService buscaEventosService;
+
+    /**
+     * ETag de uma página da listagem de palestrantes, calculada só sobre id e versão das linhas
+     * que {@link #listar} leria, sem montar a página.
+     */
+    public String versaoCatalogo(Integer depoisDe, Integer limite) {
+        int cursor = Pagina.cursor(depoisDe);
+        return VersaoCatalogo.de("after=" + cursor + "&limit=" + Pagina.limite(limite),
+            palestranteRepository.findVersoesApos(cursor, Pagina.requisicao(limite))).etag();
+    }
 
-    public List<Palestrante> listarTodos() {
-        return palestranteRepository.findAll();
+    public Pagina<ResumoPalestrante> listar(Integer depoisDe, Integer limite) {
+        return Pagina.de(palestranteRepository.findResumosApos(Pagina.cursor(depoisDe), Pagina.requisicao(limite)),
+            limite, ResumoPalestrante::id);
     }
 
+    /**
+     * Servido do cache de palestrantes; a instância devolvida é compartilhada e não deve ser
+     * alterada. As chamadas internas (atualizar, remover) não passam pelo cache e leem
+     * a entidade gerenciada do banco.
+     */
+    @Cacheable(CacheConfig.PALESTRANTES)
     public Palestrante buscarPorId(Integer id) {
         if (id == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID não pode ser nulo");
@@ -36,6 +59,8 @@ public class PalestranteService {
         return palestranteRepository.save(palestrante);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PALESTRANTES, key = "#id")
     public Palestrante atualizar(Integer id, Palestrante atualizado) {
         Palestrante existente = buscarPorId(id);
         existente.setNome(atualizado.getNome());
@@ -43,9 +68,13 @@ public class PalestranteService {
         existente.setDescricao(atualizado.getDescricao());
         existente.setFotoUrl(atualizado.getFotoUrl());
         existente.setContato(atualizado.getContato());
-        return palestranteRepository.save(existente);
+        Palestrante salvo = palestranteRepository.save(existente);
+        palestranteRepository.incrementarVersao(id);
+        buscaEventosService.reindexarPalestrante(id);
+        return salvo;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PALESTRANTES, key = "#id")
     public void remover(Integer id) {
         Palestrante palestrante = buscarPorId(id);
         if (palestrante == null) {
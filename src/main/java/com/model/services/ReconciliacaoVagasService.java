@@ -0,0 +1,30 @@
+package com.model.services;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.model.repository.CategoriaRepository;
+import com.model.repository.EventoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Corrige periodicamente divergências entre os contadores {@code vagas_ocupadas} e
+ * {@code presentes} e as inscrições reais, e entre o contador de eventos de cada
+ * categoria e {@code evento_categoria} (ex.: remoções feitas direto no banco).
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconciliacaoVagasService {
+
+    private final EventoRepository eventoRepository;
+    private final CategoriaRepository categoriaRepository;
+
+    @Scheduled(cron = "${eventos.vagas.reconciliacao.cron:0 */15 * * * *}")
+    @Transactional
+    public int reconciliar() {
+        return eventoRepository.reconciliarVagasOcupadas() + eventoRepository.reconciliarPresentes()
+                + categoriaRepository.reconciliarEventos();
+    }
+}
@@ -0,0 +1,103 @@
+package com.model.services;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import com.model.domain.Certificado;
+
+/**
+ * Renderiza um certificado como um PDF de uma página (A4 paisagem).
+ *
+ * O documento é montado diretamente, sem biblioteca de PDF: usa as fontes padrão
+ * Helvetica com codificação WinAnsi (cobre os acentos do português), então nada é
+ * embutido e cada arquivo fica com poucos KB. A centralização do texto usa a largura
+ * média dos caracteres, suficiente para o layout do certificado.
+ */
+@Component
+public class RenderizadorCertificadoPdf {
+
+    private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+    private static final int LARGURA = 842;
+    private static final int ALTURA = 595;
+
+    public byte[] renderizar(Certificado certificado) {
+        StringBuilder conteudo = new StringBuilder();
+        conteudo.append("0.6 w 30 30 ").append(LARGURA - 60).append(' ').append(ALTURA - 60).append(" re S\n");
+
+        texto(conteudo, "F2", 32, 470, "CERTIFICADO");
+        texto(conteudo, "F1", 15, 400, "Certificamos que");
+        texto(conteudo, "F2", 22, 360, certificado.getAluno().getNome());
+        texto(conteudo, "F1", 15, 315, "participou do evento \"" + certificado.getEvento().getNome() + "\"");
+
+        Integer cargaHoraria = certificado.getEvento().getCargaHoraria();
+        String palestrante = "ministrado por " + certificado.getPalestrante().getNome() + ".";
+        texto(conteudo, "F1", 15, 290, cargaHoraria != null
+                ? "com carga horária de " + cargaHoraria + " horas, " + palestrante
+                : palestrante);
+
+        if (certificado.getNomeInstituicao() != null) {
+            texto(conteudo, "F2", 13, 200, certificado.getNomeInstituicao());
+        }
+        texto(conteudo, "F1", 9, 60, "Código de verificação: " + certificado.getHashCertificado());
+
+        return documento(conteudo.toString().getBytes(WIN_ANSI));
+    }
+
+    private static void texto(StringBuilder conteudo, String fonte, int tamanho, int y, String texto) {
+        String valor = texto != null ? texto : "";
+        double x = Math.max(40, (LARGURA - valor.length() * tamanho * 0.5) / 2);
+        conteudo.append("BT /").append(fonte).append(' ').append(tamanho).append(" Tf ")
+                .append(String.format(Locale.ROOT, "%.1f", x)).append(' ').append(y).append(" Td (");
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                conteudo.append('\\');
+            }
+            conteudo.append(c < ' ' ? ' ' : c);
+        }
+        conteudo.append(") Tj ET\n");
+    }
+
+    private static byte[] documento(byte[] conteudo) {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream(conteudo.length + 1024);
+        List<Integer> posicoes = new ArrayList<>();
+        escrever(pdf, "%PDF-1.4\n");
+
+        objeto(pdf, posicoes, "<< /Type /Catalog /Pages 2 0 R >>");
+        objeto(pdf, posicoes, "<< /Type /Pages /Kids [3 0 R] /Count 1 >>");
+        objeto(pdf, posicoes, "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 " + LARGURA + " " + ALTURA + "]"
+                + " /Resources << /Font << /F1 4 0 R /F2 5 0 R >> >> /Contents 6 0 R >>");
+        objeto(pdf, posicoes, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        objeto(pdf, posicoes, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+
+        posicoes.add(pdf.size());
+        escrever(pdf, "6 0 obj\n<< /Length " + conteudo.length + " >>\nstream\n");
+        pdf.writeBytes(conteudo);
+        escrever(pdf, "\nendstream\nendobj\n");
+
+        int xref = pdf.size();
+        StringBuilder tabela = new StringBuilder("xref\n0 ").append(posicoes.size() + 1).append("\n0000000000 65535 f \n");
+        for (int posicao : posicoes) {
+            tabela.append(String.format("%010d 00000 n \n", posicao));
+        }
+        tabela.append("trailer\n<< /Size ").append(posicoes.size() + 1).append(" /Root 1 0 R >>\n")
+              .append("startxref\n").append(xref).append("\n%%EOF\n");
+        escrever(pdf, tabela.toString());
+        return pdf.toByteArray();
+    }
+
+    private static void objeto(ByteArrayOutputStream pdf, List<Integer> posicoes, String dicionario) {
+        posicoes.add(pdf.size());
+        escrever(pdf, posicoes.size() + " 0 obj\n" + dicionario + "\nendobj\n");
+    }
+
+    private static void escrever(ByteArrayOutputStream pdf, String texto) {
+        pdf.writeBytes(texto.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,101 @@
+package com.model.services;
+
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.model.domain.Evento;
+import com.model.dto.ResultadoSorteio;
+import com.model.repository.AlunoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.IntencaoInscricaoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Alocação por sorteio para eventos com procura muito maior que o número de vagas.
+ *
+ * Durante a janela, cada pedido é apenas um INSERT em {@code intencoes_inscricao},
+ * sem verificação de vagas. No encerramento, um único comando sorteia as intenções
+ * elegíveis e cria as inscrições em lote, substituindo N disputas pelo contador
+ * do evento por uma passada só.
+ */
+@Service
+@RequiredArgsConstructor
+public class SorteioService {
+
+    private final IntencaoInscricaoRepository intencaoInscricaoRepository;
+    private final EventoRepository eventoRepository;
+    private final AlunoRepository alunoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InscricaoPipeline inscricaoPipeline;
+
+    public void registrarIntencao(Integer eventoId, Integer alunoId) {
+        if (eventoId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do evento não pode ser nulo");
+        }
+        if (alunoId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do aluno não pode ser nulo");
+        }
+        if (!alunoRepository.existsById(alunoId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Aluno não encontrado");
+        }
+
+        int registradas;
+        try {
+            registradas = transactionTemplate.execute(status -> intencaoInscricaoRepository.registrar(eventoId, alunoId));
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Aluno já participa do sorteio deste evento", e);
+        }
+        if (registradas == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Evento não está recebendo intenções de inscrição");
+        }
+    }
+
+    /**
+     * Sorteia as vagas livres do evento entre as intenções registradas e encerra a janela.
+     * A linha do evento fica bloqueada durante a alocação, então o sorteio roda uma única vez.
+     */
+    public ResultadoSorteio realizarSorteio(Integer eventoId) {
+        if (eventoId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID do evento não pode ser nulo");
+        }
+        long inicio = System.nanoTime();
+        return transactionTemplate.execute(status -> {
+            Evento evento = eventoRepository.findByIdComBloqueio(eventoId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Evento não encontrado"));
+            if (!evento.isModoSorteio()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Evento não está em modo sorteio");
+            }
+            if (evento.isSorteioRealizado()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Sorteio já realizado para este evento");
+            }
+
+            long intencoes = intencaoInscricaoRepository.countByEventoId(eventoId);
+            int vagas = evento.getVagasDisponiveis();
+            int contemplados = vagas > 0 ? intencaoInscricaoRepository.sortearInscricoes(eventoId, vagas) : 0;
+            eventoRepository.concluirSorteio(eventoId, contemplados);
+            inscricaoPipeline.invalidar(eventoId);
+
+            long duracaoNanos = Math.max(1, System.nanoTime() - inicio);
+            return new ResultadoSorteio(eventoId, intencoes, vagas, contemplados,
+                    duracaoNanos / 1_000_000, contemplados * 1_000_000_000d / duracaoNanos);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${eventos.sorteio.intervalo-verificacao-ms:60000}")
+    public void realizarSorteiosEncerrados() {
+        for (Integer eventoId : eventoRepository.findIdsComSorteioPendente(LocalDateTime.now())) {
+            try {
+                realizarSorteio(eventoId);
+            } catch (ResponseStatusException e) {
+                // Outro nó já realizou o sorteio ou o evento mudou de modo; segue para o próximo
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.model.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Quebra textos em termos de busca: sem acentos, em minúsculas, sem palavras vazias do
+ * português e com os plurais reduzidos ao singular ("Inovações" e "inovacao" viram o
+ * mesmo termo). O mesmo tratamento vale para o texto indexado e para a consulta.
+ */
+final class TokenizadorBusca {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+        "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "no", "na", "nos", "nas",
+        "um", "uma", "uns", "umas", "ao", "aos", "para", "pra", "por", "pelo", "pela", "pelos", "pelas",
+        "com", "sem", "que", "se", "ou", "sobre", "entre");
+
+    private TokenizadorBusca() {
+    }
+
+    static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null) {
+            return termos;
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String palavra : SEPARADORES.split(normalizado)) {
+            if (palavra.isEmpty() || PALAVRAS_VAZIAS.contains(palavra)) {
+                continue;
+            }
+            if (palavra.length() == 1 && !Character.isDigit(palavra.charAt(0))) {
+                continue;
+            }
+            termos.add(singular(palavra));
+        }
+        return termos;
+    }
+
+    // Redução leve de plurais; palavras curtas e números ficam como estão
+    private static String singular(String palavra) {
+        if (palavra.length() <= 3 || !palavra.endsWith("s") || Character.isDigit(palavra.charAt(0))) {
+            return palavra;
+        }
+        if (palavra.endsWith("oes") || palavra.endsWith("aes")) {
+            return palavra.substring(0, palavra.length() - 3) + "ao";
+        }
+        if ((palavra.endsWith("ais") || palavra.endsWith("eis")) && palavra.length() > 4) {
+            return palavra.substring(0, palavra.length() - 2) + "l";
+        }
+        if (palavra.endsWith("ns")) {
+            return palavra.substring(0, palavra.length() - 2) + "m";
+        }
+        if (palavra.endsWith("res") || palavra.endsWith("zes")) {
+            return palavra.substring(0, palavra.length() - 2);
+        }
+        return palavra.substring(0, palavra.length() - 1);
+    }
+}
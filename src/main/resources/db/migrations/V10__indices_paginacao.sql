@@ -0,0 +1,20 @@
+-- Listagens paginadas por cursor: cada página é "filtro AND id > :after ORDER BY id
+-- LIMIT n". Os índices compostos (filtro, id) permitem ler a página direto do índice,
+-- já na ordem, sem ordenar todas as linhas do filtro.
+CREATE INDEX ix_inscricao_evento_id
+    ON inscricoes (evento_id, id);
+
+CREATE INDEX ix_inscricao_aluno_id
+    ON inscricoes (aluno_id, id);
+
+CREATE INDEX ix_certificado_evento_id
+    ON certificados (evento_id, id);
+
+CREATE INDEX ix_certificado_aluno_id
+    ON certificados (aluno_id, id);
+
+-- Substituído pelo índice composto, que também atende as buscas só por evento
+DROP INDEX ix_lote_certificados_evento;
+
+CREATE INDEX ix_lote_certificados_evento_id
+    ON lotes_certificados (evento_id, id);
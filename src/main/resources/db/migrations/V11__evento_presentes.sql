@@ -0,0 +1,6 @@
+-- Contador de presenças confirmadas, mantido como vagas_ocupadas: a listagem de
+-- eventos mostra inscritos e presentes sem contar as inscrições de cada evento
+ALTER TABLE eventos ADD COLUMN presentes INTEGER NOT NULL DEFAULT 0;
+
+UPDATE eventos
+   SET presentes = (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = eventos.id AND i.presenca = TRUE);
@@ -0,0 +1,8 @@
+-- Versão de cada linha das listagens mais consultadas (eventos, cursos, palestrantes),
+-- incrementada no próprio UPDATE a cada escrita. A ETag de uma página é um resumo dos
+-- pares (id, versão) das linhas que ela lê, calculado sem montar a página.
+ALTER TABLE eventos ADD COLUMN versao BIGINT NOT NULL DEFAULT 1;
+
+ALTER TABLE cursos ADD COLUMN versao BIGINT NOT NULL DEFAULT 1;
+
+ALTER TABLE palestrantes ADD COLUMN versao BIGINT NOT NULL DEFAULT 1;
@@ -0,0 +1,23 @@
+-- Uma geração ativa por evento e posse das gerações em execução.
+-- evento_ativo repete evento_id enquanto a geração está PENDENTE ou EXECUTANDO e volta a
+-- nulo ao terminar; o índice único barra uma segunda geração ativa para o mesmo evento.
+-- dono é a instância que executa a geração e heartbeat_em é renovado a cada lote: outra
+-- instância só assume a geração sem dono ou com o heartbeat vencido.
+ALTER TABLE geracoes_certificados ADD COLUMN evento_ativo INTEGER;
+
+ALTER TABLE geracoes_certificados ADD COLUMN dono VARCHAR(64);
+
+ALTER TABLE geracoes_certificados ADD COLUMN heartbeat_em TIMESTAMP;
+
+-- Gerações ativas repetidas para o mesmo evento: fica só a mais antiga
+UPDATE geracoes_certificados g SET status = 'FALHOU', mensagem = 'Geração duplicada para o evento'
+WHERE g.status IN ('PENDENTE', 'EXECUTANDO')
+  AND EXISTS (SELECT 1 FROM geracoes_certificados o
+              WHERE o.evento_id = g.evento_id
+                AND o.status IN ('PENDENTE', 'EXECUTANDO')
+                AND (o.criado_em < g.criado_em OR (o.criado_em = g.criado_em AND o.id < g.id)));
+
+UPDATE geracoes_certificados SET evento_ativo = evento_id WHERE status IN ('PENDENTE', 'EXECUTANDO');
+
+CREATE UNIQUE INDEX ux_geracoes_certificados_evento_ativo
+    ON geracoes_certificados (evento_ativo);
@@ -0,0 +1,15 @@
+-- Depois da V16 todas as linhas têm chave e assinatura: a coluna da V8 sai e o índice
+-- único passa para a assinatura de 32 bytes.
+-- hash_legado continua, com índice único próprio, enquanto os códigos impressos antes das
+-- assinaturas precisarem ser aceitos. Removê-la exige uma migração própria, anunciada
+-- antes, depois da qual esses códigos deixam de ser encontrados.
+
+ALTER TABLE certificados DROP COLUMN hash_v8;
+
+ALTER TABLE certificados ALTER COLUMN chave_assinatura SET NOT NULL;
+
+ALTER TABLE certificados ALTER COLUMN hash_certificado SET NOT NULL;
+
+ALTER TABLE certificados ADD CONSTRAINT certificados_hash_certificado_key UNIQUE (hash_certificado);
+
+CREATE UNIQUE INDEX ux_certificados_hash_legado ON certificados (hash_legado);
@@ -0,0 +1,5 @@
+-- Contador de vagas ocupadas mantido pelo banco (reserva atômica na inscrição)
+ALTER TABLE eventos ADD COLUMN vagas_ocupadas INTEGER NOT NULL DEFAULT 0;
+
+UPDATE eventos
+   SET vagas_ocupadas = (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = eventos.id);
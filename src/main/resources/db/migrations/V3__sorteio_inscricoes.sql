@@ -0,0 +1,14 @@
+-- Modo sorteio: intenções coletadas durante a janela e alocadas em lote no encerramento
+ALTER TABLE eventos ADD COLUMN modo_sorteio BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE eventos ADD COLUMN sorteio_encerramento TIMESTAMP;
+ALTER TABLE eventos ADD COLUMN sorteio_realizado BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE TABLE intencoes_inscricao (
+    id SERIAL PRIMARY KEY,
+    aluno_id INTEGER NOT NULL REFERENCES alunos(id) ON DELETE CASCADE,
+    evento_id INTEGER NOT NULL REFERENCES eventos(id) ON DELETE CASCADE,
+    data_intencao TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX ux_intencao_evento_aluno
+    ON intencoes_inscricao (evento_id, aluno_id);
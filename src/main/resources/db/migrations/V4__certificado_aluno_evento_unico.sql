@@ -0,0 +1,16 @@
+-- Um certificado por aluno e evento. Duplicados já emitidos (todos menos o mais antigo de
+-- cada par) são copiados para certificados_duplicados antes de sair de certificados, com
+-- o código que o aluno recebeu, para que um operador decida o que fazer com cada um.
+CREATE TABLE certificados_duplicados AS
+SELECT certificados.*, CURRENT_TIMESTAMP AS arquivado_em
+  FROM certificados
+ WHERE EXISTS (SELECT 1 FROM certificados c
+                WHERE c.aluno_id = certificados.aluno_id
+                  AND c.evento_id = certificados.evento_id
+                  AND c.id < certificados.id);
+
+DELETE FROM certificados
+ WHERE id IN (SELECT id FROM certificados_duplicados);
+
+CREATE UNIQUE INDEX ux_certificado_aluno_evento
+    ON certificados (aluno_id, evento_id);
@@ -0,0 +1,22 @@
+-- Gerações assíncronas de certificados, processadas em lotes. O cursor (último aluno
+-- processado) é gravado na mesma transação dos certificados de cada lote, permitindo
+-- retomar a geração do ponto exato após um reinício da aplicação.
+CREATE TABLE geracoes_certificados (
+    id VARCHAR(36) PRIMARY KEY,
+    evento_id INTEGER NOT NULL REFERENCES eventos(id) ON DELETE CASCADE,
+    palestrante_id INTEGER NOT NULL REFERENCES palestrantes(id) ON DELETE CASCADE,
+    nome_instituicao VARCHAR(150),
+    identidade_instituicao VARCHAR(80),
+    status VARCHAR(20) NOT NULL,
+    total INTEGER NOT NULL DEFAULT 0,
+    processados INTEGER NOT NULL DEFAULT 0,
+    gerados INTEGER NOT NULL DEFAULT 0,
+    falhas INTEGER NOT NULL DEFAULT 0,
+    ultimo_aluno_id INTEGER NOT NULL DEFAULT 0,
+    mensagem VARCHAR(255),
+    criado_em TIMESTAMP NOT NULL,
+    atualizado_em TIMESTAMP NOT NULL
+);
+
+CREATE INDEX ix_geracao_certificados_status
+    ON geracoes_certificados (status);
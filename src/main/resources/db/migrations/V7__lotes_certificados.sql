@@ -0,0 +1,22 @@
+-- Cada gravação em lote de certificados registra a raiz de uma árvore de Merkle sobre
+-- as hashes do lote. Cada certificado guarda a sua posição na árvore e a prova de
+-- inclusão (hashes irmãs da folha até a raiz), verificável contra a raiz do lote.
+CREATE SEQUENCE lotes_certificados_seq START WITH 50 INCREMENT BY 50;
+
+CREATE TABLE lotes_certificados (
+    id INTEGER PRIMARY KEY,
+    evento_id INTEGER NOT NULL REFERENCES eventos(id) ON DELETE CASCADE,
+    raiz_merkle VARCHAR(64) NOT NULL,
+    quantidade INTEGER NOT NULL,
+    criado_em TIMESTAMP NOT NULL
+);
+
+CREATE INDEX ix_lote_certificados_evento
+    ON lotes_certificados (evento_id);
+
+ALTER TABLE certificados ADD COLUMN lote_id INTEGER REFERENCES lotes_certificados(id) ON DELETE SET NULL;
+ALTER TABLE certificados ADD COLUMN indice_lote INTEGER;
+ALTER TABLE certificados ADD COLUMN prova_merkle TEXT;
+
+CREATE INDEX ix_certificado_lote
+    ON certificados (lote_id);
@@ -0,0 +1,5 @@
+-- Revogação explícita de certificados: o certificado continua registrado, mas deixa
+-- de ser aceito na verificação. Os revogados são mantidos em memória em cada instância.
+ALTER TABLE certificados ADD COLUMN revogado BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE certificados ADD COLUMN revogado_em TIMESTAMP;
+ALTER TABLE certificados ADD COLUMN motivo_revogacao VARCHAR(255);
@@ -0,0 +1,146 @@
+package com.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.model.dto.VerificacaoHash;
+import com.model.services.CertificadoService;
+import com.model.services.ExportacaoCertificadosService;
+import com.model.services.GeracaoCertificadosService;
+
+@WebMvcTest(CertificadoController.class)
+@DisplayName("Testes para CertificadoController")
+class CertificadoControllerTest {
+
+    private static final String RESPOSTA = """
+        {"hash":"A","valido":false,"certificado":null}
+        {"hash":"B","valido":false,"certificado":null}
+        """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CertificadoService certificadoService;
+
+    @MockitoBean
+    private GeracaoCertificadosService geracaoCertificadosService;
+
+    @MockitoBean
+    private ExportacaoCertificadosService exportacaoCertificadosService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(inv -> {
+            Iterator<String> hashes = inv.getArgument(0);
+            Consumer<VerificacaoHash> resultados = inv.getArgument(1);
+            hashes.forEachRemaining(hash -> resultados.accept(new VerificacaoHash(hash, false, null)));
+            return null;
+        }).when(certificadoService).verificarEmLote(any(Iterator.class), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Deve verificar em lote hashes enviadas como array JSON")
+    void deveVerificarEmLoteArrayJson() throws Exception {
+        mockMvc.perform(post("/api/certificados/verificar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"A\", \"B\"]"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(RESPOSTA));
+    }
+
+    @Test
+    @DisplayName("Deve verificar em lote hashes enviadas como NDJSON")
+    void deveVerificarEmLoteNdjson() throws Exception {
+        mockMvc.perform(post("/api/certificados/verificar")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("\"A\"\n\"B\"\n"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(RESPOSTA));
+    }
+
+    @Test
+    @DisplayName("Deve recusar corpo que não é uma lista de hashes")
+    void deveRecusarCorpoInvalido() throws Exception {
+        mockMvc.perform(post("/api/certificados/verificar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"hash\": \"A\"}]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve recusar verificação acima do limite de hashes")
+    @SuppressWarnings("unchecked")
+    void deveRecusarVerificacaoAcimaDoLimite() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Limite excedido"))
+            .when(certificadoService).verificarEmLote(any(Iterator.class), any(Consumer.class));
+
+        mockMvc.perform(post("/api/certificados/verificar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"A\"]"))
+            .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    @DisplayName("Deve exportar certificados do período como NDJSON quando pedido no Accept")
+    void deveExportarCertificadosComoNdjson() throws Exception {
+        doAnswer(inv -> {
+            OutputStream saida = inv.getArgument(3);
+            saida.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(certificadoService).exportarPorPeriodo(eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 6, 30)),
+            eq(true), any(OutputStream.class));
+
+        MvcResult resultado = mockMvc.perform(get("/api/certificados/exportacao")
+                .param("inicio", "2025-01-01")
+                .param("fim", "2025-06-30")
+                .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar exportação com período inválido antes de iniciar a resposta")
+    void deveRecusarExportacaoComPeriodoInvalido() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Período inválido"))
+            .when(certificadoService).validarPeriodo(LocalDate.of(2025, 6, 30), LocalDate.of(2025, 1, 1));
+
+        mockMvc.perform(get("/api/certificados/exportacao")
+                .param("inicio", "2025-06-30")
+                .param("fim", "2025-01-01"))
+            .andExpect(status().isBadRequest());
+    }
+}
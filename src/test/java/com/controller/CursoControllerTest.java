@@ -0,0 +1,73 @@
+package com.controller;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.model.dto.Pagina;
+import com.model.dto.ResumoCurso;
+import com.model.services.CursoService;
+
+@WebMvcTest(CursoController.class)
+@DisplayName("Testes para CursoController")
+class CursoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CursoService cursoService;
+
+    @BeforeEach
+    void setUp() {
+        when(cursoService.versaoCatalogo(null, null)).thenReturn("2-3-7");
+    }
+
+    @Test
+    @DisplayName("Deve listar cursos com ETag da versão da listagem")
+    void deveListarCursosComETag() throws Exception {
+        when(cursoService.listar(null, null))
+            .thenReturn(new Pagina<>(List.of(new ResumoCurso(7, "Ciência da Computação")), null));
+
+        mockMvc.perform(get("/api/cursos"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2-3-7\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(content().json("{\"itens\":[{\"id\":7,\"nome\":\"Ciência da Computação\"}]}"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem consultar a listagem quando a versão não mudou")
+    void deveResponderNaoModificadoSemConsultarListagem() throws Exception {
+        mockMvc.perform(get("/api/cursos").header(HttpHeaders.IF_NONE_MATCH, "\"2-3-7\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        verify(cursoService, never()).listar(null, null);
+    }
+
+    @Test
+    @DisplayName("Deve listar de novo quando a versão da listagem mudou")
+    void deveListarDeNovoQuandoVersaoMudou() throws Exception {
+        when(cursoService.listar(null, null)).thenReturn(new Pagina<>(List.of(), null));
+
+        mockMvc.perform(get("/api/cursos").header(HttpHeaders.IF_NONE_MATCH, "\"1-1-7\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2-3-7\""));
+    }
+}
@@ -0,0 +1,121 @@
+package com.model.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.model.domain.Aluno;
+import com.model.domain.Certificado;
+import com.model.domain.Evento;
+import com.model.domain.Inscricao;
+import com.model.domain.Palestrante;
+import com.model.repository.AlunoRepository;
+import com.model.repository.CertificadoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.CertificadoService;
+
+/**
+ * Mede a geração de certificados de um evento grande. Para rodar: {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Geração de certificados por evento")
+class CertificadoGeracaoBenchmarkTest {
+
+    private static final int PRESENTES = 10_000;
+
+    @Autowired
+    private CertificadoService certificadoService;
+
+    @Autowired
+    private CertificadoRepository certificadoRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    private Evento evento;
+    private Palestrante palestrante;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+
+        evento = new Evento();
+        evento.setNome("Congresso");
+        evento.setVagas(PRESENTES);
+        evento = eventoRepository.save(evento);
+
+        palestrante = new Palestrante();
+        palestrante.setNome("Palestrante");
+        palestrante = palestranteRepository.save(palestrante);
+
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < PRESENTES; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            alunos.add(aluno);
+        }
+        alunos = alunoRepository.saveAll(alunos);
+
+        Date agora = new Date();
+        List<Inscricao> inscricoes = new ArrayList<>();
+        for (Aluno aluno : alunos) {
+            Inscricao inscricao = new Inscricao(aluno, evento, agora);
+            inscricao.setPresenca(true);
+            inscricoes.add(inscricao);
+        }
+        inscricaoRepository.saveAll(inscricoes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+
+    private void limpar() {
+        certificadoRepository.deleteAllInBatch();
+        inscricaoRepository.deleteAllInBatch();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+        palestranteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve gerar 10 mil certificados em poucos segundos")
+    void deveGerarDezMilCertificados() {
+        // Act
+        long inicio = System.nanoTime();
+        List<Certificado> certificados = certificadoService.gerarCertificadosParaEvento(
+            evento.getId(), palestrante.getId(), "UNINCOR", "12345678901234");
+        long duracao = System.nanoTime() - inicio;
+
+        // Assert
+        System.out.printf("[benchmark] %d certificados em %.1f ms (%.0f certificados/s)%n",
+                certificados.size(), duracao / 1_000_000d, certificados.size() / (duracao / 1_000_000_000d));
+        assertEquals(PRESENTES, certificados.size());
+        assertEquals(PRESENTES, certificadoRepository.count());
+    }
+}
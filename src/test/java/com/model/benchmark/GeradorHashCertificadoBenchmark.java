@@ -0,0 +1,146 @@
+package com.model.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.config.AssinaturaCertificadoProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.domain.Palestrante;
+import com.model.services.GeradorHashCertificado;
+
+/**
+ * Benchmark JMH do código validador: chamada única e lote de um evento inteiro, comparando
+ * com a hash SHA-256 original (um {@code MessageDigest.getInstance} por chamada, stream
+ * sequencial). Para rodar: {@code mvn -Pbenchmark test -Dtest=GeradorHashCertificadoBenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Hash validador de certificados")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeradorHashCertificadoBenchmark {
+
+    private static final int PRESENTES = 10_000;
+
+    private GeradorHashCertificado geradorHash;
+    private List<Aluno> alunos;
+    private Evento evento;
+    private Palestrante palestrante;
+
+    @Test
+    @DisplayName("Deve executar o benchmark JMH")
+    void deveExecutarBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(GeradorHashCertificadoBenchmark.class.getSimpleName())
+                .build())
+            .run();
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        AssinaturaCertificadoProperties properties = new AssinaturaCertificadoProperties();
+        properties.setChaveAtiva("k1");
+        properties.setChaves(Map.of("k1", "SBZdI18tkedEUxFAQ6YFtYjdde4YL3s9andfZTHKhWo="));
+        geradorHash = new GeradorHashCertificado(properties);
+
+        evento = new Evento();
+        evento.setId(1);
+        evento.setNome("Semana Acadêmica de Computação");
+
+        palestrante = new Palestrante();
+        palestrante.setId(1);
+        palestrante.setNome("Maria Santos");
+
+        alunos = new ArrayList<>(PRESENTES);
+        for (int i = 0; i < PRESENTES; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setId(i);
+            aluno.setNome("Aluno " + i);
+            aluno.setCpf(String.format("%011d", i));
+            alunos.add(aluno);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String unicaAnterior() throws Exception {
+        return hashAnterior(alunos.get(0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String unica() {
+        return geradorHash.gerar(alunos.get(0), evento);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<String> loteAnterior() {
+        return alunos.stream().map(aluno -> {
+            try {
+                return hashAnterior(aluno);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<String> lote() {
+        return geradorHash.gerarEmLote(alunos, evento);
+    }
+
+    private String hashAnterior(Aluno aluno) throws Exception {
+        StringBuilder dados = new StringBuilder();
+        dados.append(aluno.getId()).append("|");
+        dados.append(aluno.getNome() != null ? aluno.getNome() : "").append("|");
+        dados.append(aluno.getCpf() != null ? aluno.getCpf() : "").append("|");
+        dados.append(evento.getId()).append("|");
+        dados.append(evento.getNome() != null ? evento.getNome() : "").append("|");
+        dados.append(palestrante.getId()).append("|");
+        dados.append(palestrante.getNome() != null ? palestrante.getNome() : "").append("|");
+        dados.append("12345678901234").append("|");
+        dados.append(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)).append("|");
+        dados.append("CERTIFICADO_VALIDATOR_KEY");
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hashBytes = digest.digest(dados.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder hashHex = new StringBuilder();
+        for (byte b : hashBytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) {
+                hashHex.append('0');
+            }
+            hashHex.append(hex);
+        }
+        return hashHex.toString().toUpperCase();
+    }
+}
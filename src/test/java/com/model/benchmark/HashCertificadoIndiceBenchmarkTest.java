@@ -0,0 +1,116 @@
+package com.model.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tamanho do índice único e latência de busca do código de certificado no PostgreSQL:
+ * o código inteiro como texto ({@code VARCHAR(120)}, como antes da V8) contra só os 32
+ * bytes do HMAC em {@code BYTEA} (V15). As tabelas são criadas, preenchidas no próprio
+ * banco e removidas ao final; o tamanho do índice vem de {@code pg_relation_size}.
+ * Para rodar: {@code mvn -Pbenchmark test -Dtest=HashCertificadoIndiceBenchmarkTest
+ * -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/eventos
+ * -Dbenchmark.postgres.usuario=... -Dbenchmark.postgres.senha=...}
+ * ({@code -Dbenchmark.certificados=N} muda a quantidade). Sem a URL o teste é ignorado.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Índice de hash_certificado texto x binário no PostgreSQL")
+class HashCertificadoIndiceBenchmarkTest {
+
+    private static final String URL = System.getProperty("benchmark.postgres.url");
+    private static final int CERTIFICADOS = Integer.getInteger("benchmark.certificados", 5_000_000);
+    private static final int BUSCAS = 200_000;
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    // Código k1.id.1.assinatura, com o SHA-256 do id no lugar do HMAC
+    private static final String ASSINATURA = "sha256(int4send(i))";
+    private static final String CODIGO = "'k1.' || i || '.1.' || "
+            + "translate(rtrim(encode(" + ASSINATURA + ", 'base64'), '='), '+/', '-_')";
+
+    @Test
+    @DisplayName("Deve comparar tamanho do índice e latência de busca")
+    void deveCompararIndices() throws Exception {
+        assumeTrue(URL != null, "Informe -Dbenchmark.postgres.url para rodar no PostgreSQL");
+
+        try (Connection conexao = DriverManager.getConnection(URL,
+                System.getProperty("benchmark.postgres.usuario"), System.getProperty("benchmark.postgres.senha"))) {
+            Resultado texto = medir(conexao, "bench_hash_texto", "codigo VARCHAR(120) NOT NULL",
+                "codigo", CODIGO, false);
+            Resultado binario = medir(conexao, "bench_hash_binario",
+                "chave VARCHAR(32) NOT NULL, hash BYTEA NOT NULL CHECK (octet_length(hash) = 32)",
+                "chave, hash", "'k1', " + ASSINATURA, true);
+
+            System.out.printf("%d certificados%n", CERTIFICADOS);
+            System.out.printf("texto:   índice %6.1f MB, busca %6.0f ns%n", texto.indiceMb(), texto.buscaNs());
+            System.out.printf("binário: índice %6.1f MB, busca %6.0f ns%n", binario.indiceMb(), binario.buscaNs());
+        }
+    }
+
+    private Resultado medir(Connection conexao, String tabela, String colunas, String destino, String valores,
+                            boolean binario) throws Exception {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + tabela);
+            statement.execute("CREATE TABLE " + tabela + " (id INTEGER PRIMARY KEY, " + colunas + ")");
+            statement.execute("INSERT INTO " + tabela + " (id, " + destino + ") SELECT i, " + valores
+                + " FROM generate_series(0, " + (CERTIFICADOS - 1) + ") AS i");
+            String coluna = binario ? "hash" : "codigo";
+            statement.execute("CREATE UNIQUE INDEX ux_" + tabela + " ON " + tabela + " (" + coluna + ")");
+            statement.execute("VACUUM ANALYZE " + tabela);
+
+            double indiceMb;
+            try (ResultSet resultado = statement.executeQuery("SELECT pg_relation_size('ux_" + tabela + "')")) {
+                resultado.next();
+                indiceMb = resultado.getLong(1) / (1024.0 * 1024.0);
+            }
+            double buscaNs = buscar(conexao, "SELECT id FROM " + tabela + " WHERE " + coluna + " = ?", binario);
+            statement.execute("DROP TABLE " + tabela);
+            return new Resultado(indiceMb, buscaNs);
+        }
+    }
+
+    private double buscar(Connection conexao, String sql, boolean binario) throws Exception {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        try (PreparedStatement select = conexao.prepareStatement(sql)) {
+            // Aquecimento
+            for (int i = 0; i < BUSCAS / 4; i++) {
+                consultar(select, aleatorio.nextInt(CERTIFICADOS), binario);
+            }
+            long inicio = System.nanoTime();
+            for (int i = 0; i < BUSCAS; i++) {
+                consultar(select, aleatorio.nextInt(CERTIFICADOS), binario);
+            }
+            return (System.nanoTime() - inicio) / (double) BUSCAS;
+        }
+    }
+
+    private void consultar(PreparedStatement select, int id, boolean binario) throws Exception {
+        byte[] assinatura = MessageDigest.getInstance("SHA-256").digest(ByteBuffer.allocate(4).putInt(id).array());
+        if (binario) {
+            select.setBytes(1, assinatura);
+        } else {
+            select.setString(1, "k1." + id + ".1." + BASE64.encodeToString(assinatura));
+        }
+        try (ResultSet resultado = select.executeQuery()) {
+            assertTrue(resultado.next());
+            assertEquals(id, resultado.getInt(1));
+        }
+    }
+
+    private record Resultado(double indiceMb, double buscaNs) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.model.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.InscricaoProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.repository.AlunoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.services.InscricaoService;
+
+/**
+ * Compara a vazão e a latência p99 das estratégias de registro sob uma abertura de
+ * inscrições concorrida. Fica fora da suíte padrão; para rodar: {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Estratégias de registro de inscrições")
+class InscricaoPipelineBenchmarkTest {
+
+    private static final int ALUNOS = 4_000;
+    private static final int VAGAS = 2_000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private InscricaoService inscricaoService;
+
+    @Autowired
+    private InscricaoProperties inscricaoProperties;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    private Evento evento;
+    private List<Aluno> alunos;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+
+        evento = new Evento();
+        evento.setNome("Abertura concorrida");
+        evento.setVagas(VAGAS);
+        evento = eventoRepository.save(evento);
+
+        alunos = new ArrayList<>();
+        for (int i = 0; i < ALUNOS; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            alunos.add(aluno);
+        }
+        alunos = alunoRepository.saveAll(alunos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inscricaoProperties.setEstrategia(InscricaoProperties.Estrategia.SINCRONA);
+        limpar();
+    }
+
+    private void limpar() {
+        inscricaoRepository.deleteAll();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(InscricaoProperties.Estrategia.class)
+    @DisplayName("Deve medir vazão e p99 da estratégia de registro")
+    void deveMedirVazaoELatencia(InscricaoProperties.Estrategia estrategia) throws Exception {
+        // Arrange
+        inscricaoProperties.setEstrategia(estrategia);
+        long[] latencias = new long[ALUNOS];
+        AtomicInteger proximo = new AtomicInteger();
+        AtomicInteger confirmadas = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                largada.await();
+                int i;
+                while ((i = proximo.getAndIncrement()) < ALUNOS) {
+                    long inicio = System.nanoTime();
+                    try {
+                        inscricaoService.registrar(evento.getId(), alunos.get(i).getId());
+                        confirmadas.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        if (e.getStatusCode().is5xxServerError()) {
+                            falhas.incrementAndGet();
+                        }
+                    }
+                    latencias[i] = System.nanoTime() - inicio;
+                }
+                return null;
+            });
+        }
+        long inicio = System.nanoTime();
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        long duracao = System.nanoTime() - inicio;
+
+        // Assert
+        Arrays.sort(latencias);
+        double segundos = duracao / 1_000_000_000d;
+        System.out.printf("[benchmark] %-8s %6d pedidos em %7.1f ms | %8.0f pedidos/s | p50 %6.2f ms | p99 %6.2f ms | 5xx %d%n",
+                estrategia, ALUNOS, duracao / 1_000_000d, ALUNOS / segundos,
+                latencias[ALUNOS / 2] / 1_000_000d, latencias[(int) (ALUNOS * 0.99)] / 1_000_000d, falhas.get());
+
+        assertEquals(0, falhas.get());
+        assertEquals(VAGAS, confirmadas.get());
+        assertEquals(VAGAS, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+    }
+}
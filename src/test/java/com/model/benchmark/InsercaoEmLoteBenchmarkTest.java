@@ -0,0 +1,154 @@
+package com.model.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.model.domain.Aluno;
+import com.model.domain.Certificado;
+import com.model.domain.Evento;
+import com.model.domain.Inscricao;
+import com.model.domain.Palestrante;
+import com.model.repository.AlunoRepository;
+import com.model.repository.CertificadoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.GeradorHashCertificado;
+
+/**
+ * Vazão de inserção em massa de inscrições e certificados via {@code saveAll}.
+ * Para rodar: {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Inserção em lote")
+class InsercaoEmLoteBenchmarkTest {
+
+    private static final int REGISTROS = 10_000;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CertificadoRepository certificadoRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    @Autowired
+    private GeradorHashCertificado geradorHash;
+
+    private Evento evento;
+    private Palestrante palestrante;
+    private List<Aluno> alunos;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+
+        evento = new Evento();
+        evento.setNome("Congresso");
+        evento.setVagas(REGISTROS);
+        evento = eventoRepository.save(evento);
+
+        palestrante = new Palestrante();
+        palestrante.setNome("Palestrante");
+        palestrante = palestranteRepository.save(palestrante);
+
+        alunos = new ArrayList<>();
+        for (int i = 0; i < REGISTROS; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            alunos.add(aluno);
+        }
+        alunos = alunoRepository.saveAll(alunos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+
+    private void limpar() {
+        certificadoRepository.deleteAllInBatch();
+        inscricaoRepository.deleteAllInBatch();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+        palestranteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve medir a inserção em massa de inscrições")
+    void deveMedirInsercaoDeInscricoes() {
+        // Arrange
+        Date agora = new Date();
+        List<Inscricao> inscricoes = new ArrayList<>();
+        for (Aluno aluno : alunos) {
+            inscricoes.add(new Inscricao(aluno, evento, agora));
+        }
+
+        // Act
+        long duracao = medir(() -> inscricaoRepository.saveAll(inscricoes));
+
+        // Assert
+        imprimir("inscricoes", duracao);
+        assertEquals(REGISTROS, inscricaoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve medir a inserção em massa de certificados")
+    void deveMedirInsercaoDeCertificados() {
+        // Arrange
+        List<Certificado> certificados = new ArrayList<>();
+        for (Aluno aluno : alunos) {
+            Certificado certificado = new Certificado();
+            certificado.setAluno(aluno);
+            certificado.setEvento(evento);
+            certificado.setPalestrante(palestrante);
+            certificado.setHashCertificado(geradorHash.gerar(aluno, evento));
+            certificado.setNomeInstituicao("UNINCOR");
+            certificados.add(certificado);
+        }
+
+        // Act
+        long duracao = medir(() -> certificadoRepository.saveAll(certificados));
+
+        // Assert
+        imprimir("certificados", duracao);
+        assertEquals(REGISTROS, certificadoRepository.count());
+    }
+
+    private long medir(Runnable insercao) {
+        long inicio = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> insercao.run());
+        return System.nanoTime() - inicio;
+    }
+
+    private void imprimir(String tabela, long duracao) {
+        System.out.printf("[benchmark] %-12s %d linhas em %7.1f ms (%8.0f linhas/s)%n",
+                tabela, REGISTROS, duracao / 1_000_000d, REGISTROS / (duracao / 1_000_000_000d));
+    }
+}
@@ -0,0 +1,39 @@
+package com.model.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para HashCertificadoConverter")
+class HashCertificadoConverterTest {
+
+    private final HashCertificadoConverter converter = new HashCertificadoConverter();
+
+    @Test
+    @DisplayName("Deve gravar a assinatura nos 32 bytes do HMAC e reconstruir o mesmo texto")
+    void deveGravarAssinaturaEm32Bytes() {
+        // Arrange
+        String assinatura = "3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+        // Act
+        byte[] valor = converter.convertToDatabaseColumn(assinatura);
+
+        // Assert
+        assertEquals(32, valor.length);
+        assertEquals(assinatura, converter.convertToEntityAttribute(valor));
+    }
+
+    @Test
+    @DisplayName("Deve recusar textos que não são a forma canônica de 32 bytes")
+    void deveRecusarTextosForaDoFormato() {
+        for (String assinatura : new String[] {
+                "ABC123DEF456",
+                "3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAB",
+                "3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=",
+                "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08" }) {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn(assinatura), assinatura);
+        }
+    }
+}
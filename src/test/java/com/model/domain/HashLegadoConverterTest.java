@@ -0,0 +1,38 @@
+package com.model.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para HashLegadoConverter")
+class HashLegadoConverterTest {
+
+    private final HashLegadoConverter converter = new HashLegadoConverter();
+
+    @Test
+    @DisplayName("Deve gravar hash SHA-256 legada nos seus 32 bytes")
+    void deveGravarHashLegadaEm32Bytes() {
+        // Arrange
+        String hash = "9F86D081884C7D659A2FEAA0C55AD015A3BF4F1B2B0B822CD15D6C15B0F00A08";
+
+        // Act
+        byte[] valor = converter.convertToDatabaseColumn(Certificado.hashLegadoDe(hash));
+
+        // Assert
+        assertEquals(32, valor.length);
+        assertEquals(hash, converter.convertToEntityAttribute(valor));
+    }
+
+    @Test
+    @DisplayName("Deve usar o SHA-256 de códigos legados que não são hexadecimais")
+    void deveUsarSha256DeTextosLegados() {
+        // Act
+        String chave = Certificado.hashLegadoDe("test");
+
+        // Assert
+        assertEquals("9F86D081884C7D659A2FEAA0C55AD015A3BF4F1B2B0B822CD15D6C15B0F00A08", chave);
+        assertEquals(32, converter.convertToDatabaseColumn(chave).length);
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn("test"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.model.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para VersaoCatalogo")
+class VersaoCatalogoTest {
+
+    private static final String CONSULTA = "after=0&limit=50";
+
+    @Test
+    @DisplayName("Deve gerar a mesma ETag para as mesmas linhas e versões")
+    void deveGerarMesmaEtagParaMesmasLinhas() {
+        // Act
+        String primeira = VersaoCatalogo.de(CONSULTA, List.of(new VersaoLinha(1, 1L), new VersaoLinha(2, 3L))).etag();
+        String segunda = VersaoCatalogo.de(CONSULTA, List.of(new VersaoLinha(1, 1L), new VersaoLinha(2, 3L))).etag();
+
+        // Assert
+        assertEquals(primeira, segunda);
+        assertTrue(primeira.startsWith("2-"), primeira);
+    }
+
+    @Test
+    @DisplayName("Deve distinguir catálogos com mesma quantidade, soma de versões e maior id")
+    void deveDistinguirCatalogosComMesmosAgregados() {
+        // Arrange - a linha 1 editada uma vez contra a linha 2 editada uma vez
+        List<VersaoLinha> editadaPrimeira = List.of(new VersaoLinha(1, 2L), new VersaoLinha(2, 1L));
+        List<VersaoLinha> editadaSegunda = List.of(new VersaoLinha(1, 1L), new VersaoLinha(2, 2L));
+        // Remoção da linha 5 e inserção da 3 (id de um bloco de sequência mais antigo)
+        List<VersaoLinha> comCinco = List.of(new VersaoLinha(1, 1L), new VersaoLinha(5, 1L), new VersaoLinha(9, 1L));
+        List<VersaoLinha> comTres = List.of(new VersaoLinha(1, 1L), new VersaoLinha(3, 1L), new VersaoLinha(9, 1L));
+
+        // Act & Assert
+        assertNotEquals(VersaoCatalogo.de(CONSULTA, editadaPrimeira).etag(), VersaoCatalogo.de(CONSULTA, editadaSegunda).etag());
+        assertNotEquals(VersaoCatalogo.de(CONSULTA, comCinco).etag(), VersaoCatalogo.de(CONSULTA, comTres).etag());
+    }
+
+    @Test
+    @DisplayName("Deve distinguir páginas de consultas diferentes com as mesmas linhas")
+    void deveDistinguirConsultasComMesmasLinhas() {
+        // Arrange
+        List<VersaoLinha> linhas = List.of(new VersaoLinha(1, 1L), new VersaoLinha(2, 1L));
+
+        // Act & Assert
+        assertNotEquals(VersaoCatalogo.de(CONSULTA, linhas).etag(),
+            VersaoCatalogo.de("after=0&limit=1", linhas).etag());
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETag para listagem vazia")
+    void deveGerarEtagParaListagemVazia() {
+        // Act
+        String etag = VersaoCatalogo.de(CONSULTA, List.of()).etag();
+
+        // Assert
+        assertTrue(etag.startsWith("0-"), etag);
+    }
+}
@@ -2,6 +2,7 @@ package com.model.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -15,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Aluno;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoAluno;
 import com.model.repository.AlunoRepository;
 import com.model.services.AlunoService;
 
@@ -93,13 +96,41 @@ class AlunoServiceIntegrationTest {
         alunoService.criar(aluno2);
 
         // Act
-        List<Aluno> resultado = alunoService.listarTodos();
+        List<ResumoAluno> resultado = alunoService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(2, resultado.size());
     }
 
+    @Test
+    @DisplayName("Deve percorrer todos os alunos página a página pelo cursor")
+    void devePercorrerTodosOsAlunosPorCursor() {
+        // Arrange
+        for (int i = 0; i < 7; i++) {
+            Aluno novo = new Aluno();
+            novo.setNome("Aluno " + i);
+            novo.setCpf("000.000.000-0" + i);
+            alunoService.criar(novo);
+        }
+
+        // Act
+        List<Integer> ids = new ArrayList<>();
+        int paginas = 0;
+        Integer cursor = null;
+        do {
+            Pagina<ResumoAluno> pagina = alunoService.listar(cursor, 3);
+            pagina.itens().forEach(a -> ids.add(a.id()));
+            cursor = pagina.proximo();
+            paginas++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(3, paginas);
+        assertEquals(7, ids.size());
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+    }
+
     @Test
     @DisplayName("Deve atualizar aluno no banco de dados")
     void deveAtualizarAlunoNoBancoDeDados() {
@@ -0,0 +1,142 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.model.domain.Categoria;
+import com.model.domain.Evento;
+import com.model.domain.Palestrante;
+import com.model.dto.ResumoEvento;
+import com.model.repository.EventoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.BuscaEventosService;
+import com.model.services.EventoService;
+import com.model.services.PalestranteService;
+
+/**
+ * Sem {@code @Transactional}: o índice só recebe as alterações após o commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Busca textual de eventos")
+class BuscaEventosIntegrationTest {
+
+    @Autowired
+    private BuscaEventosService buscaEventosService;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private PalestranteService palestranteService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    private Palestrante palestrante;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+        palestrante = new Palestrante();
+        palestrante.setNome("Beatriz Quintanilha");
+        palestrante = palestranteRepository.save(palestrante);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+
+    private void limpar() {
+        eventoRepository.findAll().forEach(evento -> eventoService.remover(evento.getId()));
+        palestranteRepository.deleteAll();
+    }
+
+    private Evento criarEvento(String nome, String descricao, List<String> categorias) {
+        Evento evento = new Evento();
+        evento.setNome(nome);
+        evento.setDescricao(descricao);
+        evento.setCategorias(categorias.stream().map(Categoria::de).toList());
+        evento.setVagas(10);
+        return eventoService.criar(evento);
+    }
+
+    private List<Integer> buscar(String consulta) {
+        return buscaEventosService.buscar(consulta, null).stream().map(ResumoEvento::id).toList();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar eventos ignorando acentos e ordenar por relevância")
+    void deveEncontrarEventosIgnorandoAcentosEOrdenarPorRelevancia() {
+        // Arrange
+        Evento noNome = criarEvento("Maratona de Criptografia", "Desafios em equipe", List.of("Segurança"));
+        Evento naDescricao = criarEvento("Semana Acadêmica", "Palestras sobre criptografia aplicada", List.of());
+        criarEvento("Oficina de Robótica", "Montagem de robôs", List.of("Hardware"));
+
+        // Act & Assert
+        assertEquals(List.of(noNome.getId(), naDescricao.getId()), buscar("CRIPTOGRAFIA"));
+        assertEquals(List.of(noNome.getId()), buscar("seguranca cripto"));
+        assertEquals(1, buscar("robos").size());
+        assertTrue(buscar("de a").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar eventos pelo nome do palestrante")
+    void deveEncontrarEventosPeloNomeDoPalestrante() {
+        // Arrange
+        Evento evento = new Evento();
+        evento.setNome("Painel de Carreiras");
+        evento.setPalestrantes(List.of(palestrante));
+        Integer id = eventoService.criar(evento).getId();
+
+        Palestrante renomeada = new Palestrante();
+        renomeada.setNome("Beatriz Valadares");
+
+        // Act
+        List<Integer> antes = buscar("quintanilha");
+        palestranteService.atualizar(palestrante.getId(), renomeada);
+
+        // Assert
+        assertEquals(List.of(id), antes);
+        assertTrue(buscar("quintanilha").isEmpty());
+        assertEquals(List.of(id), buscar("valadares"));
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualização e remoção do evento")
+    void deveRefletirAtualizacaoERemocaoDoEvento() {
+        // Arrange
+        Evento evento = criarEvento("Hackathon Sustentável", "Soluções para energia", List.of("Inovação"));
+        Integer id = evento.getId();
+
+        Evento atualizado = new Evento();
+        atualizado.setNome("Hackathon de Saúde");
+        atualizado.setCategorias(new ArrayList<>(List.of(Categoria.de("Inovação"))));
+        atualizado.setVagas(10);
+
+        // Act
+        eventoService.atualizar(id, atualizado);
+        List<Integer> energia = buscar("energia");
+        List<Integer> saude = buscar("saude inovacoes");
+        eventoService.remover(id);
+
+        // Assert
+        assertTrue(energia.isEmpty());
+        assertEquals(List.of(id), saude);
+        assertTrue(buscar("hackathon").isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.CacheConfig;
+import com.model.domain.Curso;
+import com.model.domain.Palestrante;
+import com.model.dto.EstatisticasCache;
+import com.model.repository.CursoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.CursoService;
+import com.model.services.PalestranteService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Sem {@code @Transactional}: o cache só é preenchido e invalidado após o commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Cache de cursos e palestrantes")
+class CacheReferenciaIntegrationTest {
+
+    @Autowired
+    private CursoService cursoService;
+
+    @Autowired
+    private PalestranteService palestranteService;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+
+    private void limpar() {
+        cursoRepository.deleteAll();
+        palestranteRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco só na primeira busca do curso")
+    void deveConsultarBancoSoNaPrimeiraBuscaDoCurso() {
+        // Arrange
+        Curso curso = new Curso();
+        curso.setNome("Ciência da Computação");
+        Integer id = cursoRepository.save(curso).getId();
+        EstatisticasCache antes = estatisticas(CacheConfig.CURSOS);
+        statistics.clear();
+
+        // Act
+        Curso primeira = cursoService.buscarPorId(id);
+        Curso segunda = cursoService.buscarPorId(id);
+
+        // Assert
+        assertSame(primeira, segunda);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        EstatisticasCache depois = estatisticas(CacheConfig.CURSOS);
+        assertEquals(1, depois.faltas() - antes.faltas());
+        assertEquals(1, depois.acertos() - antes.acertos());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o curso em cache ao atualizar")
+    void deveInvalidarCursoEmCacheAoAtualizar() {
+        // Arrange
+        Curso curso = new Curso();
+        curso.setNome("Ciência da Computação");
+        Integer id = cursoRepository.save(curso).getId();
+        cursoService.buscarPorId(id);
+
+        Curso atualizado = new Curso();
+        atualizado.setNome("Engenharia de Software");
+
+        // Act
+        cursoService.atualizar(id, atualizado);
+
+        // Assert
+        assertEquals("Engenharia de Software", cursoService.buscarPorId(id).getNome());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o palestrante em cache ao remover")
+    void deveInvalidarPalestranteEmCacheAoRemover() {
+        // Arrange
+        Palestrante palestrante = new Palestrante();
+        palestrante.setNome("Maria Oliveira");
+        palestrante.setEmail("maria@email.com");
+        Integer id = palestranteRepository.save(palestrante).getId();
+        palestranteService.buscarPorId(id);
+
+        // Act
+        palestranteService.remover(id);
+
+        // Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> palestranteService.buscarPorId(id)
+        );
+        assertEquals("Palestrante não encontrado", exception.getReason());
+    }
+
+    private EstatisticasCache estatisticas(String nome) {
+        return EstatisticasCache.de(cacheManager.getCache(nome));
+    }
+}
@@ -0,0 +1,99 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.model.domain.Categoria;
+import com.model.domain.Evento;
+import com.model.repository.CategoriaRepository;
+import com.model.repository.EventoRepository;
+import com.model.services.EventoService;
+
+/**
+ * Sem {@code @Transactional}: cada evento é criado em uma transação própria, todas
+ * disputando a criação da mesma categoria nova.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Criação concorrente de categorias")
+class CategoriaConcorrenciaIntegrationTest {
+
+    private static final int EVENTOS_CONCORRENTES = 20;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+
+    private void limpar() {
+        eventoRepository.findAll().forEach(evento -> eventoService.remover(evento.getId()));
+        categoriaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve criar uma única categoria quando vários eventos a usam ao mesmo tempo")
+    void deveCriarUmaUnicaCategoriaComEventosSimultaneos() throws Exception {
+        // Arrange
+        List<Throwable> falhas = new ArrayList<>();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(EVENTOS_CONCORRENTES);
+
+        // Act
+        for (int i = 0; i < EVENTOS_CONCORRENTES; i++) {
+            String nome = i % 2 == 0 ? "Robótica" : " ROBÓTICA ";
+            int numero = i;
+            executor.submit(() -> {
+                try {
+                    largada.await();
+                    Evento evento = new Evento();
+                    evento.setNome("Oficina " + numero);
+                    evento.setCategorias(new ArrayList<>(List.of(Categoria.de(nome))));
+                    eventoService.criar(evento);
+                } catch (Throwable e) {
+                    synchronized (falhas) {
+                        falhas.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // Assert
+        assertTrue(falhas.isEmpty(), () -> "Falhas inesperadas: " + falhas);
+        List<Categoria> categorias = categoriaRepository.findAll();
+        assertEquals(1, categorias.size());
+        assertEquals("robótica", categorias.get(0).getChave());
+        assertEquals(EVENTOS_CONCORRENTES, categorias.get(0).getEventos());
+    }
+}
@@ -2,23 +2,37 @@ package com.model.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Aluno;
 import com.model.domain.Certificado;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
+import com.model.domain.LoteCertificados;
 import com.model.domain.Palestrante;
+import com.model.dto.AuditoriaLote;
+import com.model.dto.CodigoCertificado;
+import com.model.dto.ProvaInclusao;
+import com.model.dto.ResumoCertificado;
+import com.model.dto.VerificacaoHash;
 import com.model.repository.AlunoRepository;
 import com.model.repository.CertificadoRepository;
 import com.model.repository.EventoRepository;
@@ -54,6 +68,7 @@ class CertificadoServiceIntegrationTest {
     private Evento evento;
     private Palestrante palestrante;
     private Certificado certificadoPayload;
+    private boolean dadosConfirmados;
 
     @BeforeEach
     void setUp() {
@@ -85,7 +100,6 @@ class CertificadoServiceIntegrationTest {
         
         // Payload do certificado
         certificadoPayload = new Certificado();
-        certificadoPayload.setHashCertificado("ABC123DEF456");
         certificadoPayload.setNomeInstituicao("UNINCOR");
         certificadoPayload.setIdentidadeInstituicao("12345678901234");
     }
@@ -107,7 +121,7 @@ class CertificadoServiceIntegrationTest {
         assertEquals(aluno.getId(), resultado.getAluno().getId());
         assertEquals(evento.getId(), resultado.getEvento().getId());
         assertEquals(palestrante.getId(), resultado.getPalestrante().getId());
-        assertEquals("ABC123DEF456", resultado.getHashCertificado());
+        assertEquals(certificadoService.gerarHashValidador(aluno, evento), resultado.getHashCertificado());
         assertEquals("UNINCOR", resultado.getNomeInstituicao());
         
         // Verifica que foi salvo no banco
@@ -125,18 +139,51 @@ class CertificadoServiceIntegrationTest {
         evento2 = eventoRepository.save(evento2);
         
         Certificado payload2 = new Certificado();
-        payload2.setHashCertificado("XYZ789");
         payload2.setNomeInstituicao("UNINCOR");
         certificadoService.emitir(aluno.getId(), evento2.getId(), palestrante.getId(), payload2);
 
         // Act
-        List<Certificado> resultado = certificadoService.listarPorAluno(aluno.getId());
+        List<ResumoCertificado> resultado = certificadoService.listarPorAluno(aluno.getId(), null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(2, resultado.size());
     }
 
+    @Test
+    @DisplayName("Deve exportar em NDJSON os certificados dos eventos do período")
+    void deveExportarCertificadosDoPeriodoEmNdjson() throws Exception {
+        // Arrange
+        evento.setHoraInicio(LocalDateTime.of(2025, 3, 10, 19, 0));
+        Evento foraDoPeriodo = new Evento();
+        foraDoPeriodo.setNome("Semana Acadêmica");
+        foraDoPeriodo.setHoraInicio(LocalDateTime.of(2025, 8, 4, 19, 0));
+        foraDoPeriodo = eventoRepository.save(foraDoPeriodo);
+        Certificado noPeriodo = certificadoService.emitir(
+            aluno.getId(), evento.getId(), palestrante.getId(), certificadoPayload);
+        certificadoService.emitir(aluno.getId(), foraDoPeriodo.getId(), palestrante.getId(), certificadoPayload);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        certificadoService.exportarPorPeriodo(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30), true, saida);
+
+        // Assert
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, linhas.length);
+        assertTrue(linhas[0].startsWith("{\"id\":" + noPeriodo.getId() + ","));
+    }
+
+    @Test
+    @DisplayName("Deve recusar exportação com período invertido")
+    void deveRecusarExportacaoComPeriodoInvertido() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validarPeriodo(LocalDate.of(2025, 6, 30), LocalDate.of(2025, 1, 1))
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
     @Test
     @DisplayName("Deve buscar certificado por hash no banco de dados")
     void deveBuscarCertificadoPorHashNoBancoDeDados() {
@@ -149,12 +196,50 @@ class CertificadoServiceIntegrationTest {
         );
 
         // Act
-        Certificado resultado = certificadoService.buscarPorHash("ABC123DEF456");
+        Certificado resultado = certificadoService.buscarPorHash(criado.getHashCertificado());
 
         // Assert
         assertNotNull(resultado);
         assertEquals(criado.getId(), resultado.getId());
-        assertEquals("ABC123DEF456", resultado.getHashCertificado());
+        assertEquals(criado.getHashCertificado(), resultado.getHashCertificado());
+    }
+
+    @Test
+    @DisplayName("Deve verificar certificado emitido e recusar após a remoção")
+    void deveVerificarCertificadoEmitidoERecusarAposRemocao() {
+        // Arrange
+        Certificado criado = certificadoService.emitir(
+            aluno.getId(),
+            evento.getId(),
+            palestrante.getId(),
+            certificadoPayload
+        );
+
+        // Act
+        ResumoCertificado resumo = certificadoService.verificar(criado.getHashCertificado());
+
+        // Assert
+        assertEquals(criado.getId(), resumo.id());
+        assertEquals("João Silva", resumo.nomeAluno());
+        assertEquals("Workshop Spring Boot", resumo.nomeEvento());
+
+        certificadoService.remover(criado.getId());
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.verificar(criado.getHashCertificado())
+        );
+        assertEquals("Certificado não encontrado", exception.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve recusar verificação de hash inexistente")
+    void deveRecusarVerificacaoDeHashInexistente() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.verificar("HASH-INEXISTENTE")
+        );
+        assertEquals("Certificado não encontrado", exception.getReason());
     }
 
     @Test
@@ -184,6 +269,60 @@ class CertificadoServiceIntegrationTest {
         assertEquals("UNINCOR", resultado.get(0).getNomeInstituicao());
     }
 
+    @Test
+    @DisplayName("Deve ancorar os certificados gerados em lote em uma árvore de Merkle")
+    void deveAncorarCertificadosGeradosEmArvoreDeMerkle() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            Aluno presente = new Aluno();
+            presente.setNome("Presente " + i);
+            presente = alunoRepository.save(presente);
+
+            Inscricao inscricao = new Inscricao(presente, evento, new Date());
+            inscricao.setPresenca(true);
+            inscricaoRepository.save(inscricao);
+        }
+
+        // Act
+        List<Certificado> gerados = certificadoService.gerarCertificadosParaEvento(
+            evento.getId(), palestrante.getId(), "UNINCOR", "12345678901234");
+
+        // Assert
+        List<LoteCertificados> lotes = certificadoService.listarLotes(evento.getId(), null, null).itens();
+        assertEquals(1, lotes.size());
+        assertEquals(5, lotes.get(0).getQuantidade());
+        for (Certificado gerado : gerados) {
+            ProvaInclusao prova = certificadoService.provaInclusao(gerado.getHashCertificado());
+            assertEquals(lotes.get(0).getRaizMerkle(), prova.raizMerkle());
+            assertTrue(prova.prova().size() <= 3);
+        }
+        assertTrue(certificadoService.auditarLote(lotes.get(0).getId()).integro());
+
+        certificadoService.remover(gerados.get(2).getId());
+        AuditoriaLote auditoria = certificadoService.auditarLote(lotes.get(0).getId());
+        assertFalse(auditoria.integro());
+        assertEquals(4, auditoria.quantidadeEncontrada());
+    }
+
+    @Test
+    @DisplayName("Deve verificar em lote hashes existentes e inexistentes")
+    void deveVerificarEmLoteHashesExistentesEInexistentes() {
+        // Arrange
+        Certificado criado = certificadoService.emitir(
+            aluno.getId(), evento.getId(), palestrante.getId(), certificadoPayload);
+        List<VerificacaoHash> resultados = new ArrayList<>();
+
+        // Act
+        certificadoService.verificarEmLote(
+            List.of("INEXISTENTE", criado.getHashCertificado()).iterator(), resultados::add);
+
+        // Assert
+        assertEquals(2, resultados.size());
+        assertFalse(resultados.get(0).valido());
+        assertTrue(resultados.get(1).valido());
+        assertEquals(evento.getNome(), resultados.get(1).certificado().nomeEvento());
+    }
+
     @Test
     @DisplayName("Deve remover certificado do banco de dados")
     void deveRemoverCertificadoDoBancoDeDados() {
@@ -204,17 +343,102 @@ class CertificadoServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("Deve gerar hash validador único")
-    void deveGerarHashValidadorUnico() {
+    @DisplayName("Deve gerar hash validador determinístico")
+    void deveGerarHashValidadorDeterministico() {
         // Act
-        String hash1 = certificadoService.gerarHashValidador(aluno, evento, palestrante, "12345678901234");
-        String hash2 = certificadoService.gerarHashValidador(aluno, evento, palestrante, "12345678901234");
+        String hash1 = certificadoService.gerarHashValidador(aluno, evento);
+        String hash2 = certificadoService.gerarHashValidador(aluno, evento);
 
         // Assert
         assertNotNull(hash1);
-        assertNotNull(hash2);
-        assertEquals(64, hash1.length()); // SHA-256 produz 64 caracteres hexadecimais
-        // Nota: Hashes podem ser diferentes devido ao timestamp, mas devem ter o mesmo formato
+        assertEquals(hash1, hash2); // Mesmo aluno e evento produzem o mesmo código assinado
+        assertTrue(hash1.startsWith("k1." + aluno.getId() + "." + evento.getId() + "."));
+    }
+
+    @Test
+    @DisplayName("Deve validar código de certificado gerado e recusar após remoção")
+    void deveValidarCodigoERecusarAposRemocao() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        Certificado gerado = certificadoService.emitir(
+            aluno.getId(), evento.getId(), palestrante.getId(), certificadoPayload);
+
+        // Act
+        CodigoCertificado validado = certificadoService.validar(codigo);
+        certificadoService.remover(gerado.getId());
+        confirmarTransacao(); // A lista de revogação só é atualizada após o commit
+
+        // Assert
+        assertEquals(aluno.getId(), validado.alunoId());
+        assertEquals(evento.getId(), validado.eventoId());
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validar(codigo)
+        );
+        assertEquals(HttpStatus.GONE, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar de novo o código quando o certificado removido é emitido outra vez")
+    void deveAceitarCodigoDeCertificadoReemitidoAposRemocao() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        Certificado gerado = certificadoService.emitir(
+            aluno.getId(), evento.getId(), palestrante.getId(), certificadoPayload);
+        certificadoService.remover(gerado.getId());
+        confirmarTransacao();
+
+        // Act
+        certificadoService.emitir(aluno.getId(), evento.getId(), palestrante.getId(), certificadoPayload);
+        CodigoCertificado validado = certificadoService.validar(codigo);
+
+        // Assert
+        assertEquals(aluno.getId(), validado.alunoId());
+        assertEquals(evento.getId(), validado.eventoId());
+    }
+
+    @Test
+    @DisplayName("Deve recusar código de certificado revogado e sinalizar na verificação")
+    void deveRecusarCodigoDeCertificadoRevogado() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        Certificado emitido = certificadoService.emitir(
+            aluno.getId(), evento.getId(), palestrante.getId(), certificadoPayload);
+
+        // Act
+        certificadoService.revogar(emitido.getId(), "Emitido por engano");
+        confirmarTransacao();
+
+        // Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validar(codigo)
+        );
+        assertEquals(HttpStatus.GONE, exception.getStatusCode());
+        ResumoCertificado resumo = certificadoService.verificar(codigo);
+        assertTrue(resumo.revogado());
+        assertEquals("Emitido por engano", resumo.motivoRevogacao());
+    }
+
+    /**
+     * Confirma a transação do teste para disparar os callbacks de commit. Os dados
+     * confirmados são apagados no {@code setUp} do próximo teste e no {@code tearDown}.
+     */
+    private void confirmarTransacao() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        dadosConfirmados = true;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dadosConfirmados) {
+            certificadoRepository.deleteAll();
+            inscricaoRepository.deleteAll();
+            alunoRepository.deleteAll();
+            eventoRepository.deleteAll();
+            palestranteRepository.deleteAll();
+        }
     }
 }
 
@@ -0,0 +1,218 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.model.domain.Aluno;
+import com.model.domain.Categoria;
+import com.model.domain.Curso;
+import com.model.domain.Evento;
+import com.model.domain.Inscricao;
+import com.model.domain.Palestrante;
+import com.model.dto.DetalheAluno;
+import com.model.dto.DetalheEvento;
+import com.model.repository.AlunoRepository;
+import com.model.repository.CategoriaRepository;
+import com.model.repository.CursoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.AlunoService;
+import com.model.services.EventoService;
+import com.model.services.InscricaoService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Quantidade exata de comandos SQL de cada leitura de eventos e alunos, medida pelas
+ * estatísticas do Hibernate. O contexto de persistência é limpo antes de cada medição
+ * para que nada venha do cache de primeiro nível.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - Consultas SQL por leitura")
+class ContagemConsultasIntegrationTest {
+
+    @Autowired
+    private AlunoService alunoService;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private InscricaoService inscricaoService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+    private List<Aluno> alunos;
+    private List<Evento> eventos;
+
+    @BeforeEach
+    void setUp() {
+        inscricaoRepository.deleteAll();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+
+        Curso computacao = novoCurso("Ciência da Computação");
+        Curso sistemas = novoCurso("Sistemas de Informação");
+        Palestrante palestrante = new Palestrante();
+        palestrante.setNome("Ana Souza");
+        palestrante = palestranteRepository.save(palestrante);
+        Categoria workshop = categoriaRepository.save(Categoria.de("Workshop"));
+
+        alunos = new ArrayList<>();
+        eventos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            aluno.setCpf("000.000.000-0" + i);
+            aluno.getCursos().add(computacao);
+            aluno.getCursos().add(sistemas);
+            alunos.add(alunoRepository.save(aluno));
+
+            Evento evento = new Evento();
+            evento.setNome("Evento " + i);
+            evento.setVagas(10);
+            evento.getCategorias().add(workshop);
+            evento.getCursos().add(computacao);
+            evento.getPalestrantes().add(palestrante);
+            eventos.add(eventoRepository.save(evento));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar alunos com uma consulta")
+    void deveListarAlunosComUmaConsulta() {
+        // Act
+        int itens = alunoService.listar(null, null).itens().size();
+
+        // Assert
+        assertTrue(itens >= 5);
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve detalhar aluno com os cursos em uma consulta")
+    void deveDetalharAlunoEmUmaConsulta() {
+        // Act
+        DetalheAluno detalhe = alunoService.detalhar(alunos.get(0).getId());
+
+        // Assert
+        assertEquals(2, detalhe.cursos().size());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve listar eventos com uma consulta, com ou sem filtro de categoria")
+    void deveListarEventosComUmaConsulta() {
+        // Act
+        eventoService.listar(null, null, null);
+        eventoService.listar("workshop", null, null);
+
+        // Assert
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve detalhar evento com uma consulta por coleção")
+    void deveDetalharEventoComUmaConsultaPorColecao() {
+        // Act
+        DetalheEvento detalhe = eventoService.detalhar(eventos.get(0).getId());
+
+        // Assert
+        assertEquals(List.of("Workshop"), detalhe.categorias());
+        assertEquals(1, detalhe.cursos().size());
+        assertEquals(1, detalhe.palestrantes().size());
+        // Evento com categorias, depois cursos e palestrantes
+        assertEquals(3, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve carregar as coleções de vários eventos em lote")
+    void deveCarregarColecoesDeVariosEventosEmLote() {
+        // Act
+        List<Evento> encontrados = eventoRepository.findAllById(eventos.stream().map(Evento::getId).toList());
+        encontrados.forEach(evento -> evento.getCursos().size());
+        encontrados.forEach(evento -> evento.getCategorias().size());
+
+        // Assert
+        assertEquals(5, encontrados.size());
+        // Eventos, cursos de todos eles e categorias de todos eles
+        assertEquals(3, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve carregar os cursos de vários alunos em lote")
+    void deveCarregarCursosDeVariosAlunosEmLote() {
+        // Act
+        List<Aluno> encontrados = alunoRepository.findAllById(alunos.stream().map(Aluno::getId).toList());
+        encontrados.forEach(aluno -> aluno.getCursos().size());
+
+        // Assert
+        assertEquals(5, encontrados.size());
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve registrar inscrição em evento restrito sem carregar coleções sob demanda")
+    void deveRegistrarInscricaoSemCarregarColecoesSobDemanda() {
+        // Act
+        Inscricao inscricao = inscricaoService.registrar(eventos.get(0).getId(), alunos.get(0).getId());
+        inscricaoService.resumir(inscricao.getId());
+
+        // Assert
+        // O INSERT pode ou não buscar um novo bloco da sequência, então aqui contam as
+        // consultas: evento com cursos, aluno com cursos, inscrição existente e resumo
+        assertEquals(4, estatisticas.getQueryExecutionCount());
+        assertEquals(0, estatisticas.getEntityFetchCount());
+        assertEquals(0, estatisticas.getCollectionFetchCount());
+    }
+
+    private Curso novoCurso(String nome) {
+        Curso curso = new Curso();
+        curso.setNome(nome);
+        return cursoRepository.save(curso);
+    }
+}
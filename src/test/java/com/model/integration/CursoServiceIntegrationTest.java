@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Curso;
+import com.model.dto.ResumoCurso;
 import com.model.repository.CursoRepository;
 import com.model.services.CursoService;
 
@@ -67,7 +68,7 @@ class CursoServiceIntegrationTest {
         cursoService.criar(curso2);
 
         // Act
-        List<Curso> resultado = cursoService.listarTodos();
+        List<ResumoCurso> resultado = cursoService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
@@ -15,8 +15,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.model.domain.Categoria;
+import com.model.domain.Curso;
 import com.model.domain.Evento;
+import com.model.dto.DetalheEvento;
+import com.model.dto.FacetaCategoria;
+import com.model.dto.ResumoCurso;
+import com.model.dto.ResumoEvento;
+import com.model.repository.CursoRepository;
 import com.model.repository.EventoRepository;
+import com.model.services.CategoriaService;
 import com.model.services.EventoService;
 
 @SpringBootTest
@@ -31,6 +39,12 @@ class EventoServiceIntegrationTest {
     @Autowired
     private EventoRepository eventoRepository;
 
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
     private Evento evento;
 
     @BeforeEach
@@ -43,11 +57,62 @@ class EventoServiceIntegrationTest {
         evento.setHoraInicio(LocalDateTime.now().plusDays(1));
         evento.setHoraFim(LocalDateTime.now().plusDays(1).plusHours(8));
         evento.setDescricao("Workshop completo sobre Spring Boot");
-        evento.setCategorias(Arrays.asList("Workshop", "Tecnologia"));
+        evento.setCategorias(Arrays.asList(Categoria.de("Workshop"), Categoria.de("Tecnologia")));
         evento.setCargaHoraria(8);
         evento.setVagas(50);
     }
 
+    @Test
+    @DisplayName("Deve mudar a versão da listagem a cada escrita em eventos")
+    void deveMudarVersaoDaListagemACadaEscrita() {
+        // Arrange
+        Evento criado = eventoService.criar(evento);
+        String aposCriar = eventoService.versaoCatalogo(null, null, null);
+        Evento atualizado = new Evento();
+        atualizado.setNome("Workshop Spring Boot Avançado");
+        atualizado.setVagas(50);
+
+        // Act
+        eventoService.atualizar(criado.getId(), atualizado);
+        String aposAtualizar = eventoService.versaoCatalogo(null, null, null);
+        eventoRepository.reservarVaga(criado.getId());
+        String aposReservar = eventoService.versaoCatalogo(null, null, null);
+        String semEscrita = eventoService.versaoCatalogo(null, null, null);
+        eventoService.remover(criado.getId());
+        String aposRemover = eventoService.versaoCatalogo(null, null, null);
+
+        // Assert
+        assertEquals(4, List.of(aposCriar, aposAtualizar, aposReservar, aposRemover).stream().distinct().count());
+        assertEquals(aposReservar, semEscrita);
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão de uma página só com escritas nas linhas que ela lê")
+    void deveMudarVersaoDaPaginaSoComEscritasNasSuasLinhas() {
+        // Arrange - página de um evento lê o primeiro e o seguinte, que indica a próxima página
+        Evento primeiro = eventoService.criar(evento);
+        Evento segundo = new Evento();
+        segundo.setNome("Palestra Java");
+        segundo.setVagas(10);
+        eventoService.criar(segundo);
+        Evento terceiro = new Evento();
+        terceiro.setNome("Minicurso Docker");
+        terceiro.setVagas(10);
+        eventoService.criar(terceiro);
+        Integer cursor = primeiro.getId() - 1;
+        String inicial = eventoService.versaoCatalogo(null, cursor, 1);
+
+        // Act
+        eventoRepository.reservarVaga(terceiro.getId());
+        String aposEscritaForaDaPagina = eventoService.versaoCatalogo(null, cursor, 1);
+        eventoRepository.reservarVaga(primeiro.getId());
+        String aposEscritaNaPagina = eventoService.versaoCatalogo(null, cursor, 1);
+
+        // Assert
+        assertEquals(inicial, aposEscritaForaDaPagina);
+        assertNotEquals(inicial, aposEscritaNaPagina);
+    }
+
     @Test
     @DisplayName("Deve criar e salvar evento no banco de dados")
     void deveCriarESalvarEventoNoBancoDeDados() {
@@ -83,6 +148,26 @@ class EventoServiceIntegrationTest {
         assertEquals("Workshop Spring Boot", resultado.getNome());
     }
 
+    @Test
+    @DisplayName("Deve detalhar evento com categorias e cursos")
+    void deveDetalharEventoComCategoriasECursos() {
+        // Arrange
+        Curso curso = new Curso();
+        curso.setNome("Ciência da Computação");
+        curso = cursoRepository.save(curso);
+        evento.setCursos(new ArrayList<>(List.of(curso)));
+        Integer id = eventoService.criar(evento).getId();
+
+        // Act
+        DetalheEvento resultado = eventoService.detalhar(id);
+
+        // Assert
+        assertEquals("Workshop Spring Boot", resultado.nome());
+        assertEquals(List.of("Workshop", "Tecnologia"), resultado.categorias());
+        assertEquals(List.of(new ResumoCurso(curso.getId(), "Ciência da Computação")), resultado.cursos());
+        assertTrue(resultado.palestrantes().isEmpty());
+    }
+
     @Test
     @DisplayName("Deve buscar eventos por categoria no banco de dados")
     void deveBuscarEventosPorCategoriaNoBancoDeDados() {
@@ -91,16 +176,74 @@ class EventoServiceIntegrationTest {
         
         Evento evento2 = new Evento();
         evento2.setNome("Palestra Java");
-        evento2.setCategorias(Arrays.asList("Palestra", "Tecnologia"));
+        evento2.setCategorias(Arrays.asList(Categoria.de("Palestra"), Categoria.de("Tecnologia")));
         eventoService.criar(evento2);
 
         // Act
-        List<Evento> resultado = eventoService.buscarPorCategoria("Workshop");
+        List<ResumoEvento> resultado = eventoService.listar("Workshop", null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Workshop Spring Boot", resultado.get(0).getNome());
+        assertEquals("Workshop Spring Boot", resultado.get(0).nome());
+    }
+
+    @Test
+    @DisplayName("Deve manter as facetas de categorias a cada escrita em eventos")
+    void deveManterFacetasDeCategoriasACadaEscrita() {
+        // Arrange
+        Evento criado = eventoService.criar(evento);
+
+        Evento evento2 = new Evento();
+        evento2.setNome("Palestra Java");
+        evento2.setCategorias(Arrays.asList(Categoria.de("Palestra"), Categoria.de(" tecnologia ")));
+        Integer id2 = eventoService.criar(evento2).getId();
+        List<FacetaCategoria> aposCriar = categoriaService.facetas(false, null);
+
+        Evento atualizado = new Evento();
+        atualizado.setNome("Workshop Spring Boot");
+        atualizado.setCategorias(new ArrayList<>(Arrays.asList(Categoria.de("Workshop"), Categoria.de("Avançado"))));
+
+        // Act
+        eventoService.atualizar(criado.getId(), atualizado);
+        eventoService.remover(id2);
+        List<FacetaCategoria> resultado = categoriaService.facetas(false, null);
+
+        // Assert
+        assertEquals(List.of(new FacetaCategoria("Tecnologia", 2L), new FacetaCategoria("Palestra", 1L),
+            new FacetaCategoria("Workshop", 1L)), aposCriar);
+        assertEquals(List.of(new FacetaCategoria("Avançado", 1L), new FacetaCategoria("Workshop", 1L)), resultado);
+    }
+
+    @Test
+    @DisplayName("Deve contar facetas só de eventos futuros ou abertos ao curso")
+    void deveContarFacetasDeEventosFuturosOuAbertosAoCurso() {
+        // Arrange
+        Curso computacao = new Curso();
+        computacao.setNome("Ciência da Computação");
+        computacao = cursoRepository.save(computacao);
+        Curso direito = new Curso();
+        direito.setNome("Direito");
+        direito = cursoRepository.save(direito);
+        evento.setCursos(new ArrayList<>(List.of(computacao)));
+        eventoService.criar(evento);
+
+        Evento passado = new Evento();
+        passado.setNome("Palestra Java");
+        passado.setHoraInicio(LocalDateTime.now().minusDays(1));
+        passado.setCategorias(Arrays.asList(Categoria.de("Palestra"), Categoria.de("Tecnologia")));
+        eventoService.criar(passado);
+
+        // Act
+        List<FacetaCategoria> proximos = categoriaService.facetas(true, null);
+        List<FacetaCategoria> paraComputacao = categoriaService.facetas(false, computacao.getId());
+        List<FacetaCategoria> paraDireito = categoriaService.facetas(false, direito.getId());
+
+        // Assert
+        assertEquals(List.of(new FacetaCategoria("Tecnologia", 1L), new FacetaCategoria("Workshop", 1L)), proximos);
+        assertEquals(List.of(new FacetaCategoria("Tecnologia", 2L), new FacetaCategoria("Palestra", 1L),
+            new FacetaCategoria("Workshop", 1L)), paraComputacao);
+        assertEquals(List.of(new FacetaCategoria("Palestra", 1L), new FacetaCategoria("Tecnologia", 1L)), paraDireito);
     }
 
     @Test
@@ -114,7 +257,7 @@ class EventoServiceIntegrationTest {
         atualizado.setNome("Workshop Spring Boot Avançado");
         atualizado.setDescricao("Workshop avançado");
         atualizado.setVagas(100);
-        atualizado.setCategorias(new ArrayList<>(Arrays.asList("Workshop", "Avançado")));
+        atualizado.setCategorias(new ArrayList<>(Arrays.asList(Categoria.de("Workshop"), Categoria.de("Avançado"))));
 
         // Act
         Evento resultado = eventoService.atualizar(id, atualizado);
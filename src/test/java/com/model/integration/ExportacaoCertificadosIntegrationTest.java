@@ -0,0 +1,136 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.ExportacaoCertificadosProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Certificado;
+import com.model.domain.Evento;
+import com.model.domain.Palestrante;
+import com.model.repository.AlunoRepository;
+import com.model.repository.CertificadoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.ExportacaoCertificadosService;
+import com.model.services.GeradorHashCertificado;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - Exportação de certificados em PDF")
+class ExportacaoCertificadosIntegrationTest {
+
+    private static final int CERTIFICADOS = 7;
+
+    @Autowired
+    private ExportacaoCertificadosService exportacaoService;
+
+    @Autowired
+    private ExportacaoCertificadosProperties properties;
+
+    @Autowired
+    private CertificadoRepository certificadoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    @Autowired
+    private GeradorHashCertificado geradorHash;
+
+    private Evento evento;
+    private List<Certificado> certificados;
+    private int tamanhoPaginaOriginal;
+
+    @BeforeEach
+    void setUp() {
+        tamanhoPaginaOriginal = properties.getTamanhoPagina();
+        properties.setTamanhoPagina(3);
+
+        evento = new Evento();
+        evento.setNome("Semana Acadêmica");
+        evento.setCargaHoraria(8);
+        evento = eventoRepository.save(evento);
+
+        Palestrante palestrante = new Palestrante();
+        palestrante.setNome("Maria Santos");
+        palestrante = palestranteRepository.save(palestrante);
+
+        certificados = new ArrayList<>();
+        for (int i = 0; i < CERTIFICADOS; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            aluno = alunoRepository.save(aluno);
+
+            Certificado certificado = new Certificado();
+            certificado.setAluno(aluno);
+            certificado.setEvento(evento);
+            certificado.setPalestrante(palestrante);
+            certificado.setHashCertificado(geradorHash.gerar(aluno, evento));
+            certificados.add(certificadoRepository.save(certificado));
+        }
+        certificadoRepository.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setTamanhoPagina(tamanhoPaginaOriginal);
+    }
+
+    @Test
+    @DisplayName("Deve exportar um PDF por certificado, em ordem, em várias páginas")
+    void deveExportarUmPdfPorCertificadoEmOrdem() throws Exception {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        exportacaoService.exportarPdfs(evento.getId(), saida);
+
+        // Assert
+        List<String> nomes = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(saida.toByteArray()))) {
+            ZipEntry entrada;
+            while ((entrada = zip.getNextEntry()) != null) {
+                nomes.add(entrada.getName());
+                String pdf = new String(zip.readAllBytes(), StandardCharsets.ISO_8859_1);
+                assertTrue(pdf.startsWith("%PDF-"));
+                assertTrue(pdf.contains(certificados.get(nomes.size() - 1).getHashCertificado()));
+            }
+        }
+        assertEquals(certificados.stream().map(c -> "certificado-" + c.getId() + ".pdf").toList(), nomes);
+    }
+
+    @Test
+    @DisplayName("Deve recusar exportação de evento inexistente")
+    void deveRecusarExportacaoDeEventoInexistente() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> exportacaoService.validarEvento(999999)
+        );
+        assertEquals("Evento não encontrado", exception.getReason());
+    }
+}
@@ -0,0 +1,275 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.GeracaoCertificadosProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Certificado;
+import com.model.domain.Evento;
+import com.model.domain.GeracaoCertificados;
+import com.model.domain.Inscricao;
+import com.model.domain.Palestrante;
+import com.model.domain.StatusGeracao;
+import com.model.repository.AlunoRepository;
+import com.model.repository.CertificadoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.GeracaoCertificadosRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.repository.PalestranteRepository;
+import com.model.services.GeracaoCertificadosService;
+import com.model.services.GeradorHashCertificado;
+
+/**
+ * Sem {@code @Transactional}: a geração roda em outra thread e precisa enxergar
+ * os dados confirmados pelo teste.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Geração assíncrona de certificados")
+class GeracaoCertificadosIntegrationTest {
+
+    private static final int PRESENTES = 7;
+
+    @Autowired
+    private GeracaoCertificadosService geracaoCertificadosService;
+
+    @Autowired
+    private GeracaoCertificadosProperties properties;
+
+    @Autowired
+    private GeracaoCertificadosRepository geracaoRepository;
+
+    @Autowired
+    private CertificadoRepository certificadoRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private PalestranteRepository palestranteRepository;
+
+    @Autowired
+    private GeradorHashCertificado geradorHash;
+
+    private Evento evento;
+    private Palestrante palestrante;
+    private List<Aluno> presentes;
+    private int tamanhoLoteOriginal;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+        tamanhoLoteOriginal = properties.getTamanhoLote();
+        properties.setTamanhoLote(3);
+
+        evento = new Evento();
+        evento.setNome("Semana Acadêmica");
+        evento = eventoRepository.save(evento);
+
+        palestrante = new Palestrante();
+        palestrante.setNome("Maria Santos");
+        palestrante = palestranteRepository.save(palestrante);
+
+        presentes = new ArrayList<>();
+        for (int i = 0; i < PRESENTES + 2; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            aluno = alunoRepository.save(aluno);
+
+            Inscricao inscricao = new Inscricao(aluno, evento, new Date());
+            inscricao.setPresenca(i < PRESENTES);
+            inscricaoRepository.save(inscricao);
+            if (i < PRESENTES) {
+                presentes.add(aluno);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setTamanhoLote(tamanhoLoteOriginal);
+        limpar();
+    }
+
+    private void limpar() {
+        geracaoRepository.deleteAll();
+        certificadoRepository.deleteAll();
+        inscricaoRepository.deleteAll();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+        palestranteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve gerar os certificados dos presentes em lotes")
+    void deveGerarCertificadosDosPresentesEmLotes() throws Exception {
+        // Act
+        GeracaoCertificados geracao = geracaoCertificadosService.iniciar(
+            evento.getId(), palestrante.getId(), "UNINCOR", "12345678901234");
+        GeracaoCertificados concluida = aguardarConclusao(geracao.getId());
+
+        // Assert
+        assertEquals(StatusGeracao.CONCLUIDA, concluida.getStatus());
+        assertEquals(PRESENTES, concluida.getTotal());
+        assertEquals(PRESENTES, concluida.getProcessados());
+        assertEquals(PRESENTES, concluida.getGerados());
+        assertEquals(0, concluida.getFalhas());
+        assertEquals(PRESENTES, certificadoRepository.findByEventoId(evento.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Deve pular alunos que já possuem certificado do evento")
+    void devePularAlunosQueJaPossuemCertificado() throws Exception {
+        // Arrange
+        Certificado existente = new Certificado();
+        existente.setAluno(presentes.get(0));
+        existente.setEvento(evento);
+        existente.setPalestrante(palestrante);
+        existente.setHashCertificado(geradorHash.gerar(presentes.get(0), evento));
+        certificadoRepository.save(existente);
+
+        // Act
+        GeracaoCertificados geracao = geracaoCertificadosService.iniciar(
+            evento.getId(), palestrante.getId(), "UNINCOR", null);
+        GeracaoCertificados concluida = aguardarConclusao(geracao.getId());
+
+        // Assert
+        assertEquals(PRESENTES, concluida.getProcessados());
+        assertEquals(PRESENTES - 1, concluida.getGerados());
+        assertEquals(PRESENTES, certificadoRepository.findByEventoId(evento.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Deve retomar geração interrompida a partir do último lote confirmado")
+    void deveRetomarGeracaoInterrompida() throws Exception {
+        // Arrange - simula uma geração que confirmou o primeiro lote e parou
+        Aluno ultimoProcessado = presentes.get(2);
+        GeracaoCertificados interrompida = new GeracaoCertificados();
+        interrompida.setId(UUID.randomUUID().toString());
+        interrompida.setEventoId(evento.getId());
+        interrompida.setPalestranteId(palestrante.getId());
+        interrompida.setStatus(StatusGeracao.EXECUTANDO);
+        interrompida.setTotal(PRESENTES);
+        interrompida.setProcessados(3);
+        interrompida.setGerados(3);
+        interrompida.setUltimoAlunoId(ultimoProcessado.getId());
+        interrompida.setCriadoEm(LocalDateTime.now());
+        interrompida.setAtualizadoEm(LocalDateTime.now());
+        geracaoRepository.save(interrompida);
+
+        // Act
+        geracaoCertificadosService.retomarPendentes();
+        GeracaoCertificados concluida = aguardarConclusao(interrompida.getId());
+
+        // Assert
+        assertEquals(StatusGeracao.CONCLUIDA, concluida.getStatus());
+        assertEquals(PRESENTES, concluida.getProcessados());
+        assertEquals(PRESENTES, concluida.getGerados());
+        List<Certificado> certificados = certificadoRepository.findByEventoId(evento.getId());
+        assertEquals(PRESENTES - 3, certificados.size());
+        assertTrue(certificados.stream().allMatch(c -> c.getAluno().getId() > ultimoProcessado.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a geração em andamento em vez de iniciar outra para o mesmo evento")
+    void deveDevolverGeracaoEmAndamentoDoEvento() {
+        // Arrange
+        GeracaoCertificados emAndamento = geracaoDeOutraInstancia(LocalDateTime.now());
+
+        // Act
+        GeracaoCertificados geracao = geracaoCertificadosService.iniciar(
+            evento.getId(), palestrante.getId(), "UNINCOR", null);
+
+        // Assert
+        assertEquals(emAndamento.getId(), geracao.getId());
+        assertEquals(1, geracaoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve retomar geração de outra instância só depois que o heartbeat vencer")
+    void deveRetomarGeracaoDeOutraInstanciaSoComHeartbeatVencido() throws Exception {
+        // Arrange
+        GeracaoCertificados viva = geracaoDeOutraInstancia(LocalDateTime.now());
+
+        // Act
+        geracaoCertificadosService.retomarPendentes();
+        Thread.sleep(200);
+        GeracaoCertificados aposRetomarViva = geracaoCertificadosService.consultar(viva.getId());
+        viva.setHeartbeatEm(LocalDateTime.now().minusNanos((properties.getExpiracaoPosseMs() + 1_000) * 1_000_000));
+        geracaoRepository.save(viva);
+        geracaoCertificadosService.retomarPendentes();
+        GeracaoCertificados concluida = aguardarConclusao(viva.getId());
+
+        // Assert
+        assertEquals(StatusGeracao.EXECUTANDO, aposRetomarViva.getStatus());
+        assertEquals("outra-instancia", aposRetomarViva.getDono());
+        assertEquals(0, aposRetomarViva.getProcessados());
+        assertEquals(StatusGeracao.CONCLUIDA, concluida.getStatus());
+        assertNotEquals("outra-instancia", concluida.getDono());
+        assertNull(concluida.getEventoAtivo());
+        assertEquals(PRESENTES, certificadoRepository.findByEventoId(evento.getId()).size());
+    }
+
+    private GeracaoCertificados geracaoDeOutraInstancia(LocalDateTime heartbeat) {
+        GeracaoCertificados geracao = new GeracaoCertificados();
+        geracao.setId(UUID.randomUUID().toString());
+        geracao.setEventoId(evento.getId());
+        geracao.setEventoAtivo(evento.getId());
+        geracao.setPalestranteId(palestrante.getId());
+        geracao.setStatus(StatusGeracao.EXECUTANDO);
+        geracao.setTotal(PRESENTES);
+        geracao.setDono("outra-instancia");
+        geracao.setHeartbeatEm(heartbeat);
+        geracao.setCriadoEm(LocalDateTime.now());
+        geracao.setAtualizadoEm(LocalDateTime.now());
+        return geracaoRepository.save(geracao);
+    }
+
+    @Test
+    @DisplayName("Deve recusar geração para evento sem presenças confirmadas")
+    void deveRecusarGeracaoSemPresencas() {
+        // Arrange
+        Evento vazio = new Evento();
+        vazio.setNome("Evento vazio");
+        Integer eventoId = eventoRepository.save(vazio).getId();
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> geracaoCertificadosService.iniciar(eventoId, palestrante.getId(), "UNINCOR", null)
+        );
+        assertEquals("Não há alunos com presença confirmada para este evento", exception.getReason());
+    }
+
+    private GeracaoCertificados aguardarConclusao(String geracaoId) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        GeracaoCertificados geracao = geracaoCertificadosService.consultar(geracaoId);
+        while (geracao.getStatus() != StatusGeracao.CONCLUIDA && geracao.getStatus() != StatusGeracao.FALHOU) {
+            assertTrue(System.currentTimeMillis() < limite, "Geração não terminou a tempo");
+            Thread.sleep(20);
+            geracao = geracaoCertificadosService.consultar(geracaoId);
+        }
+        return geracao;
+    }
+}
@@ -0,0 +1,213 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.InscricaoProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.repository.AlunoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.services.InscricaoService;
+
+/**
+ * Sem {@code @Transactional}: cada inscrição precisa da sua própria transação
+ * confirmada para que a disputa pelas vagas aconteça de fato no banco.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Inscrições concorrentes")
+class InscricaoConcorrenciaIntegrationTest {
+
+    private static final int INSCRITOS_CONCORRENTES = 500;
+    private static final int VAGAS = 100;
+
+    @Autowired
+    private InscricaoService inscricaoService;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private InscricaoProperties inscricaoProperties;
+
+    private Evento evento;
+    private List<Aluno> alunos;
+
+    @BeforeEach
+    void setUp() {
+        limpar();
+
+        evento = new Evento();
+        evento.setNome("Hackathon");
+        evento.setVagas(VAGAS);
+        evento = eventoRepository.save(evento);
+
+        alunos = new ArrayList<>();
+        for (int i = 0; i < INSCRITOS_CONCORRENTES; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            alunos.add(aluno);
+        }
+        alunos = alunoRepository.saveAll(alunos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inscricaoProperties.setEstrategia(InscricaoProperties.Estrategia.SINCRONA);
+        limpar();
+    }
+
+    private void limpar() {
+        inscricaoRepository.deleteAll();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Não deve vender mais vagas que o evento possui com 500 inscrições simultâneas")
+    void naoDeveVenderMaisVagasQueOEventoPossui() throws Exception {
+        inscreverTodosSimultaneamente();
+    }
+
+    @Test
+    @DisplayName("Não deve vender mais vagas que o evento possui usando o pipeline de inscrições")
+    void naoDeveVenderMaisVagasQueOEventoPossuiUsandoPipeline() throws Exception {
+        inscricaoProperties.setEstrategia(InscricaoProperties.Estrategia.PIPELINE);
+        inscreverTodosSimultaneamente();
+    }
+
+    private void inscreverTodosSimultaneamente() throws Exception {
+        // Arrange
+        AtomicInteger confirmadas = new AtomicInteger();
+        Map<String, AtomicInteger> recusas = new ConcurrentHashMap<>();
+        List<Throwable> inesperadas = new ArrayList<>();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(INSCRITOS_CONCORRENTES);
+
+        // Act
+        for (Aluno aluno : alunos) {
+            executor.submit(() -> {
+                try {
+                    largada.await();
+                    inscricaoService.registrar(evento.getId(), aluno.getId());
+                    confirmadas.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    recusas.computeIfAbsent(e.getReason(), motivo -> new AtomicInteger()).incrementAndGet();
+                } catch (Throwable e) {
+                    synchronized (inesperadas) {
+                        inesperadas.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+
+        // Assert
+        assertTrue(inesperadas.isEmpty(), () -> "Falhas inesperadas: " + inesperadas);
+        assertEquals(VAGAS, confirmadas.get());
+        assertEquals(Set.of("Evento sem vagas disponíveis"), recusas.keySet());
+        assertEquals(INSCRITOS_CONCORRENTES - VAGAS, recusas.get("Evento sem vagas disponíveis").get());
+        assertEquals(VAGAS, inscricaoRepository.findByEventoId(evento.getId()).size());
+        assertEquals(VAGAS, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+    }
+
+    @Test
+    @DisplayName("Deve responder conflito para inscrições duplicadas simultâneas do mesmo aluno")
+    void deveResponderConflitoParaInscricoesDuplicadasSimultaneas() throws Exception {
+        // Arrange
+        Aluno aluno = alunos.get(0);
+        int tentativas = 20;
+        AtomicInteger confirmadas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(tentativas);
+
+        // Act
+        for (int i = 0; i < tentativas; i++) {
+            executor.submit(() -> {
+                largada.await();
+                try {
+                    inscricaoService.registrar(evento.getId(), aluno.getId());
+                    confirmadas.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    if (e.getStatusCode().value() == 409) {
+                        conflitos.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // Assert
+        assertEquals(1, confirmadas.get());
+        assertEquals(tentativas - 1, conflitos.get());
+        assertEquals(1, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+    }
+
+    @Test
+    @DisplayName("Deve recusar evento inexistente no pipeline sem criar consumidor")
+    void deveRecusarEventoInexistenteNoPipelineSemCriarConsumidor() {
+        // Arrange
+        inscricaoProperties.setEstrategia(InscricaoProperties.Estrategia.PIPELINE);
+        int inexistente = evento.getId() + 1_000_000;
+
+        // Act
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+            () -> inscricaoService.registrar(inexistente, alunos.get(0).getId()));
+
+        // Assert
+        assertEquals(404, exception.getStatusCode().value());
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+            .noneMatch(thread -> thread.getName().equals("inscricoes-evento-" + inexistente)));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar nova inscrição no pipeline depois de remover a anterior")
+    void deveAceitarNovaInscricaoNoPipelineAposRemocao() {
+        // Arrange
+        inscricaoProperties.setEstrategia(InscricaoProperties.Estrategia.PIPELINE);
+        Integer alunoId = alunos.get(0).getId();
+        Integer inscricaoId = inscricaoService.registrar(evento.getId(), alunoId).getId();
+
+        // Act
+        inscricaoService.remover(inscricaoId);
+        inscricaoService.registrar(evento.getId(), alunoId);
+
+        // Assert
+        assertEquals(1, inscricaoRepository.findByEventoId(evento.getId()).size());
+        assertEquals(1, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+    }
+}
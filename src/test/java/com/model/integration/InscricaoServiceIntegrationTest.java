@@ -2,6 +2,7 @@ package com.model.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,19 +11,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.model.domain.Aluno;
 import com.model.domain.Curso;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
+import com.model.dto.ResumoEvento;
+import com.model.dto.ResumoInscricao;
 import com.model.repository.AlunoRepository;
 import com.model.repository.CursoRepository;
 import com.model.repository.EventoRepository;
 import com.model.repository.InscricaoRepository;
 import com.model.services.InscricaoService;
+import com.model.services.ReconciliacaoVagasService;
 
 import jakarta.persistence.EntityManager;
 
@@ -47,9 +54,15 @@ class InscricaoServiceIntegrationTest {
     @Autowired
     private CursoRepository cursoRepository;
 
+    @Autowired
+    private ReconciliacaoVagasService reconciliacaoVagasService;
+
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private Aluno aluno;
     private Evento evento;
     private Curso curso;
@@ -119,7 +132,7 @@ class InscricaoServiceIntegrationTest {
         inscricaoService.registrar(evento.getId(), aluno2.getId());
 
         // Act
-        List<Inscricao> resultado = inscricaoService.listarPorEvento(evento.getId());
+        List<ResumoInscricao> resultado = inscricaoService.listarPorEvento(evento.getId(), null, null).itens();
 
         // Assert
         assertNotNull(resultado);
@@ -142,13 +155,49 @@ class InscricaoServiceIntegrationTest {
         inscricaoService.registrar(evento2.getId(), aluno.getId());
 
         // Act
-        List<Inscricao> resultado = inscricaoService.listarPorAluno(aluno.getId());
+        List<ResumoInscricao> resultado = inscricaoService.listarPorAluno(aluno.getId(), null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(2, resultado.size());
     }
 
+    @Test
+    @DisplayName("Deve exportar todas as inscrições do evento como array JSON")
+    void deveExportarInscricoesDoEventoComoArrayJson() throws Exception {
+        // Arrange
+        Aluno aluno2 = new Aluno();
+        aluno2.setNome("Maria Santos");
+        aluno2.setCpf("987.654.321-00");
+        aluno2.setCursos(new ArrayList<>(List.of(curso)));
+        aluno2 = alunoRepository.save(aluno2);
+        inscricaoService.registrar(evento.getId(), aluno.getId());
+        inscricaoService.registrar(evento.getId(), aluno2.getId());
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        inscricaoService.exportarPorEvento(evento.getId(), false, saida);
+
+        // Assert
+        ResumoInscricao[] exportadas = objectMapper.readValue(saida.toByteArray(), ResumoInscricao[].class);
+        assertEquals(2, exportadas.length);
+        assertEquals("João Silva", exportadas[0].nomeAluno());
+        assertEquals("Maria Santos", exportadas[1].nomeAluno());
+    }
+
+    @Test
+    @DisplayName("Deve exportar array JSON vazio para evento sem inscrições")
+    void deveExportarArrayVazioParaEventoSemInscricoes() throws Exception {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        inscricaoService.exportarPorEvento(evento.getId(), false, saida);
+
+        // Assert
+        assertEquals("[]", saida.toString());
+    }
+
     @Test
     @DisplayName("Deve atualizar presença no banco de dados")
     void deveAtualizarPresencaNoBancoDeDados() {
@@ -169,6 +218,26 @@ class InscricaoServiceIntegrationTest {
         assertEquals(true, doBanco.getPresenca());
     }
 
+    @Test
+    @DisplayName("Deve manter inscritos, presentes e vagas restantes na listagem de eventos")
+    void deveManterContadoresNaListagemDeEventos() {
+        // Arrange
+        Inscricao inscricao = inscricaoService.registrar(evento.getId(), aluno.getId());
+
+        // Act - confirmações repetidas contam uma vez só
+        inscricaoService.atualizarPresenca(inscricao.getId(), true);
+        inscricaoService.atualizarPresenca(inscricao.getId(), true);
+        ResumoEvento comPresenca = eventoRepository.findResumosApos(evento.getId() - 1, PageRequest.of(0, 1)).get(0);
+        inscricaoService.atualizarPresenca(inscricao.getId(), false);
+        ResumoEvento semPresenca = eventoRepository.findResumosApos(evento.getId() - 1, PageRequest.of(0, 1)).get(0);
+
+        // Assert
+        assertEquals(1, comPresenca.vagasOcupadas());
+        assertEquals(1, comPresenca.presentes());
+        assertEquals(49, comPresenca.vagasDisponiveis());
+        assertEquals(0, semPresenca.presentes());
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao registrar inscrição duplicada")
     void deveLancarExcecaoAoRegistrarInscricaoDuplicada() {
@@ -208,5 +277,61 @@ class InscricaoServiceIntegrationTest {
         long countDepois = inscricaoRepository.findByEventoId(eventoId).size();
         assertEquals(0, countDepois);
     }
-}
 
+    @Test
+    @DisplayName("Deve ocupar e liberar vaga no contador do evento")
+    void deveOcuparELiberarVagaNoContadorDoEvento() {
+        // Act
+        Inscricao inscricao = inscricaoService.registrar(evento.getId(), aluno.getId());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+        assertEquals(49, eventoRepository.findById(evento.getId()).orElseThrow().getVagasDisponiveis());
+
+        inscricaoService.remover(inscricao.getId());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(0, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+    }
+
+    @Test
+    @DisplayName("Deve recusar inscrição quando o evento estiver lotado")
+    void deveRecusarInscricaoQuandoEventoEstiverLotado() {
+        // Arrange
+        evento.setVagas(1);
+        eventoRepository.saveAndFlush(evento);
+        inscricaoService.registrar(evento.getId(), aluno.getId());
+
+        Aluno aluno2 = new Aluno();
+        aluno2.setNome("Maria Santos");
+        aluno2.setCursos(new ArrayList<>());
+        aluno2.getCursos().add(curso);
+        aluno2 = alunoRepository.save(aluno2);
+        Integer aluno2Id = aluno2.getId();
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> inscricaoService.registrar(evento.getId(), aluno2Id)
+        );
+        assertEquals("Evento sem vagas disponíveis", exception.getReason());
+        assertEquals(1, inscricaoRepository.findByEventoId(evento.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar contador de vagas divergente")
+    void deveReconciliarContadorDeVagasDivergente() {
+        // Arrange - contador avança sem inscrição correspondente
+        inscricaoService.registrar(evento.getId(), aluno.getId());
+        eventoRepository.reservarVaga(evento.getId());
+
+        // Act
+        int corrigidos = reconciliacaoVagasService.reconciliar();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, corrigidos);
+        assertEquals(1, eventoRepository.findById(evento.getId()).orElseThrow().getVagasOcupadas());
+    }
+}
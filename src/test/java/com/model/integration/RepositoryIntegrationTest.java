@@ -13,16 +13,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.model.domain.Aluno;
+import com.model.domain.Categoria;
 import com.model.domain.Certificado;
 import com.model.domain.Colaborador;
 import com.model.domain.Curso;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
 import com.model.domain.Palestrante;
+import com.model.dto.ResumoEvento;
 import com.model.repository.AlunoRepository;
+import com.model.repository.CategoriaRepository;
 import com.model.repository.CertificadoRepository;
 import com.model.repository.ColaboradorRepository;
 import com.model.repository.CursoRepository;
@@ -59,6 +63,9 @@ class RepositoryIntegrationTest {
     @Autowired
     private CertificadoRepository certificadoRepository;
 
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
     @BeforeEach
     void setUp() {
         certificadoRepository.deleteAll();
@@ -248,7 +255,8 @@ class RepositoryIntegrationTest {
         certificado.setAluno(aluno);
         certificado.setEvento(evento);
         certificado.setPalestrante(palestrante);
-        certificado.setHashCertificado("ABC123");
+        certificado.setHashCertificado(
+            Certificado.codigo("k1", aluno.getId(), evento.getId(), "3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"));
         certificado.setNomeInstituicao("UNINCOR");
         certificado = certificadoRepository.save(certificado);
 
@@ -269,12 +277,13 @@ class RepositoryIntegrationTest {
     }
 
     @Test
-    @DisplayName("Deve verificar ElementCollection de categorias em Evento")
-    void deveVerificarElementCollectionDeCategoriasEmEvento() {
+    @DisplayName("Deve verificar relacionamento ManyToMany entre Evento e Categoria")
+    void deveVerificarRelacionamentoEntreEventoECategoria() {
         // Arrange
         Evento evento = new Evento();
         evento.setNome("Workshop Spring Boot");
-        evento.setCategorias(Arrays.asList("Workshop", "Tecnologia", "Java"));
+        evento.setCategorias(categoriaRepository.saveAll(
+            Arrays.asList(Categoria.de("Workshop"), Categoria.de("Tecnologia"), Categoria.de("Java"))));
         evento = eventoRepository.save(evento);
 
         entityManager.flush();
@@ -287,35 +296,41 @@ class RepositoryIntegrationTest {
         assertNotNull(encontrado);
         assertNotNull(encontrado.getCategorias());
         assertEquals(3, encontrado.getCategorias().size());
-        assertTrue(encontrado.getCategorias().contains("Workshop"));
-        assertTrue(encontrado.getCategorias().contains("Tecnologia"));
-        assertTrue(encontrado.getCategorias().contains("Java"));
+        List<String> nomes = encontrado.getCategorias().stream().map(Categoria::getNome).toList();
+        assertTrue(nomes.contains("Workshop"));
+        assertTrue(nomes.contains("Tecnologia"));
+        assertTrue(nomes.contains("Java"));
     }
 
     @Test
     @DisplayName("Deve buscar eventos por categoria usando repository")
     void deveBuscarEventosPorCategoriaUsandoRepository() {
         // Arrange
+        Categoria workshop = categoriaRepository.save(Categoria.de("Workshop"));
+        Categoria palestra = categoriaRepository.save(Categoria.de("Palestra"));
+        Categoria tecnologia = categoriaRepository.save(Categoria.de("Tecnologia"));
+
         Evento evento1 = new Evento();
         evento1.setNome("Workshop Spring Boot");
-        evento1.setCategorias(Arrays.asList("Workshop", "Tecnologia"));
+        evento1.setCategorias(Arrays.asList(workshop, tecnologia));
         eventoRepository.save(evento1);
 
         Evento evento2 = new Evento();
         evento2.setNome("Palestra Java");
-        evento2.setCategorias(Arrays.asList("Palestra", "Tecnologia"));
+        evento2.setCategorias(Arrays.asList(palestra, tecnologia));
         eventoRepository.save(evento2);
 
         entityManager.flush();
         entityManager.clear();
 
         // Act
-        List<Evento> resultado = eventoRepository.findByCategoriasContainingIgnoreCase("Workshop");
+        List<ResumoEvento> resultado = eventoRepository.findResumosPorCategoriaApos(
+            Categoria.chave("WORKSHOP"), 0, PageRequest.of(0, 10));
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Workshop Spring Boot", resultado.get(0).getNome());
+        assertEquals("Workshop Spring Boot", resultado.get(0).nome());
     }
 
     @Test
@@ -0,0 +1,175 @@
+package com.model.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.model.domain.Aluno;
+import com.model.domain.Curso;
+import com.model.domain.Evento;
+import com.model.dto.ResultadoSorteio;
+import com.model.repository.AlunoRepository;
+import com.model.repository.CursoRepository;
+import com.model.repository.EventoRepository;
+import com.model.repository.InscricaoRepository;
+import com.model.repository.IntencaoInscricaoRepository;
+import com.model.services.InscricaoService;
+import com.model.services.SorteioService;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - SorteioService com Banco de Dados")
+class SorteioServiceIntegrationTest {
+
+    @Autowired
+    private SorteioService sorteioService;
+
+    @Autowired
+    private InscricaoService inscricaoService;
+
+    @Autowired
+    private IntencaoInscricaoRepository intencaoInscricaoRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Evento evento;
+    private List<Aluno> alunos;
+
+    @BeforeEach
+    void setUp() {
+        intencaoInscricaoRepository.deleteAll();
+        inscricaoRepository.deleteAll();
+        alunoRepository.deleteAll();
+        eventoRepository.deleteAll();
+        cursoRepository.deleteAll();
+
+        evento = new Evento();
+        evento.setNome("Palestra Concorrida");
+        evento.setVagas(3);
+        evento.setModoSorteio(true);
+        evento.setSorteioEncerramento(LocalDateTime.now().plusDays(1));
+        evento = eventoRepository.save(evento);
+
+        alunos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            alunos.add(alunoRepository.save(aluno));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve sortear apenas a quantidade de vagas do evento")
+    void deveSortearApenasQuantidadeDeVagas() {
+        // Arrange
+        alunos.forEach(aluno -> sorteioService.registrarIntencao(evento.getId(), aluno.getId()));
+
+        // Act
+        ResultadoSorteio resultado = sorteioService.realizarSorteio(evento.getId());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(10, resultado.intencoes());
+        assertEquals(3, resultado.contemplados());
+        assertEquals(3, inscricaoRepository.findByEventoId(evento.getId()).size());
+        Evento atualizado = eventoRepository.findById(evento.getId()).orElseThrow();
+        assertEquals(3, atualizado.getVagasOcupadas());
+        assertTrue(atualizado.isSorteioRealizado());
+    }
+
+    @Test
+    @DisplayName("Deve sortear somente alunos de cursos permitidos em evento restrito")
+    void deveSortearSomenteAlunosDeCursosPermitidos() {
+        // Arrange
+        Curso curso = new Curso();
+        curso.setNome("Ciência da Computação");
+        curso = cursoRepository.save(curso);
+        evento.getCursos().add(curso);
+        eventoRepository.save(evento);
+
+        Aluno elegivel = alunos.get(0);
+        elegivel.getCursos().add(curso);
+        alunoRepository.save(elegivel);
+        alunos.forEach(aluno -> sorteioService.registrarIntencao(evento.getId(), aluno.getId()));
+
+        // Act
+        ResultadoSorteio resultado = sorteioService.realizarSorteio(evento.getId());
+
+        // Assert
+        assertEquals(1, resultado.contemplados());
+        assertTrue(inscricaoRepository.existsByEventoIdAndAlunoId(evento.getId(), elegivel.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar intenção duplicada do mesmo aluno")
+    void deveRecusarIntencaoDuplicada() {
+        // Arrange
+        sorteioService.registrarIntencao(evento.getId(), alunos.get(0).getId());
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> sorteioService.registrarIntencao(evento.getId(), alunos.get(0).getId())
+        );
+        assertEquals("Aluno já participa do sorteio deste evento", exception.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve recusar intenções e novo sorteio após o encerramento")
+    void deveRecusarIntencoesENovoSorteioAposEncerramento() {
+        // Arrange
+        sorteioService.registrarIntencao(evento.getId(), alunos.get(0).getId());
+        sorteioService.realizarSorteio(evento.getId());
+
+        // Act & Assert
+        ResponseStatusException intencao = assertThrows(
+            ResponseStatusException.class,
+            () -> sorteioService.registrarIntencao(evento.getId(), alunos.get(1).getId())
+        );
+        assertEquals("Evento não está recebendo intenções de inscrição", intencao.getReason());
+
+        ResponseStatusException sorteio = assertThrows(
+            ResponseStatusException.class,
+            () -> sorteioService.realizarSorteio(evento.getId())
+        );
+        assertEquals("Sorteio já realizado para este evento", sorteio.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve recusar inscrição direta em evento com sorteio")
+    void deveRecusarInscricaoDiretaEmEventoComSorteio() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> inscricaoService.registrar(evento.getId(), alunos.get(0).getId())
+        );
+        assertEquals("Inscrições deste evento são feitas por sorteio", exception.getReason());
+    }
+}
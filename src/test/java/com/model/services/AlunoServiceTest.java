@@ -4,7 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -16,9 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Aluno;
+import com.model.domain.Curso;
+import com.model.dto.DetalheAluno;
+import com.model.dto.Pagina;
+import com.model.dto.ResumoAluno;
+import com.model.dto.ResumoCurso;
 import com.model.repository.AlunoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,17 +63,79 @@ class AlunoServiceTest {
     @DisplayName("Deve listar todos os alunos")
     void deveListarTodosOsAlunos() {
         // Arrange
-        List<Aluno> alunos = Arrays.asList(aluno);
-        when(alunoRepository.findAll()).thenReturn(alunos);
+        List<ResumoAluno> alunos = List.of(
+            new ResumoAluno(aluno.getId(), aluno.getNome(), aluno.getEmail(), aluno.getPeriodo()));
+        when(alunoRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(alunos);
 
         // Act
-        List<Aluno> resultado = alunoService.listarTodos();
+        List<ResumoAluno> resultado = alunoService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("João Silva", resultado.get(0).getNome());
-        verify(alunoRepository, times(1)).findAll();
+        assertEquals("João Silva", resultado.get(0).nome());
+        verify(alunoRepository, times(1)).findResumosApos(0, PageRequest.of(0, 51));
+    }
+
+    @Test
+    @DisplayName("Deve paginar alunos a partir do cursor")
+    void devePaginarAlunosAPartirDoCursor() {
+        // Arrange
+        List<ResumoAluno> alunos = new ArrayList<>();
+        for (int id = 11; id <= 13; id++) {
+            alunos.add(new ResumoAluno(id, "Aluno " + id, null, null));
+        }
+        when(alunoRepository.findResumosApos(10, PageRequest.of(0, 3))).thenReturn(alunos);
+
+        // Act
+        Pagina<ResumoAluno> pagina = alunoService.listar(10, 2);
+
+        // Assert
+        assertEquals(2, pagina.itens().size());
+        assertEquals(11, pagina.itens().get(0).id());
+        assertEquals(12, pagina.proximo());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a paginação quando a página não está cheia")
+    void deveEncerrarPaginacaoQuandoPaginaNaoEstaCheia() {
+        // Arrange
+        when(alunoRepository.findResumosApos(1, PageRequest.of(0, 3)))
+            .thenReturn(List.of(new ResumoAluno(2, "Maria Santos", null, null)));
+
+        // Act
+        Pagina<ResumoAluno> pagina = alunoService.listar(1, 2);
+
+        // Assert
+        assertEquals(1, pagina.itens().size());
+        assertNull(pagina.proximo());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void deveLimitarTamanhoDaPaginaAoMaximo() {
+        // Arrange
+        when(alunoRepository.findResumosApos(0, PageRequest.of(0, Pagina.LIMITE_MAXIMO + 1)))
+            .thenReturn(List.of());
+
+        // Act
+        Pagina<ResumoAluno> pagina = alunoService.listar(null, 100_000);
+
+        // Assert
+        assertTrue(pagina.itens().isEmpty());
+        assertNull(pagina.proximo());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite de página não positivo")
+    void deveRejeitarLimiteNaoPositivo() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> alunoService.listar(null, 0)
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(alunoRepository, never()).findResumosApos(any(), any());
     }
 
     @Test
@@ -112,6 +181,39 @@ class AlunoServiceTest {
         verify(alunoRepository, times(1)).findById(999);
     }
 
+    @Test
+    @DisplayName("Deve detalhar aluno com os cursos")
+    void deveDetalharAlunoComOsCursos() {
+        // Arrange
+        Curso curso = new Curso();
+        curso.setId(3);
+        curso.setNome("Ciência da Computação");
+        aluno.getCursos().add(curso);
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
+
+        // Act
+        DetalheAluno resultado = alunoService.detalhar(1);
+
+        // Assert
+        assertEquals("João Silva", resultado.nome());
+        assertEquals(List.of(new ResumoCurso(3, "Ciência da Computação")), resultado.cursos());
+        verify(alunoRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao detalhar aluno inexistente")
+    void deveLancarExcecaoAoDetalharAlunoInexistente() {
+        // Arrange
+        when(alunoRepository.findComCursosById(999)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> alunoService.detalhar(999)
+        );
+        assertEquals("Aluno não encontrado", exception.getReason());
+    }
+
     @Test
     @DisplayName("Deve criar aluno com sucesso")
     void deveCriarAlunoComSucesso() {
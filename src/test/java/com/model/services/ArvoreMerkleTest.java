@@ -0,0 +1,69 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para ArvoreMerkle")
+class ArvoreMerkleTest {
+
+    private static List<String> hashes(int quantidade) {
+        List<String> hashes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            hashes.add("k1." + i + ".1.assinatura" + i);
+        }
+        return hashes;
+    }
+
+    @Test
+    @DisplayName("Deve verificar a prova de todas as folhas para tamanhos pares e ímpares")
+    void deveVerificarProvaDeTodasAsFolhas() {
+        for (int quantidade = 1; quantidade <= 33; quantidade++) {
+            // Arrange
+            List<String> hashes = hashes(quantidade);
+
+            // Act
+            ArvoreMerkle arvore = ArvoreMerkle.construir(hashes);
+
+            // Assert
+            for (int i = 0; i < quantidade; i++) {
+                List<String> prova = arvore.prova(i);
+                assertTrue(prova.size() <= 32 - Integer.numberOfLeadingZeros(quantidade));
+                assertTrue(ArvoreMerkle.verificar(hashes.get(i), prova, arvore.raiz()),
+                    "folha " + i + " de " + quantidade);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar prova de outra folha ou com hash adulterada")
+    void deveRecusarProvaAdulterada() {
+        // Arrange
+        List<String> hashes = hashes(10);
+        ArvoreMerkle arvore = ArvoreMerkle.construir(hashes);
+        List<String> prova = new ArrayList<>(arvore.prova(3));
+
+        // Act & Assert
+        assertFalse(ArvoreMerkle.verificar(hashes.get(4), prova, arvore.raiz()));
+        prova.set(0, (prova.get(0).startsWith("E") ? "D" : "E") + prova.get(0).substring(1));
+        assertFalse(ArvoreMerkle.verificar(hashes.get(3), prova, arvore.raiz()));
+        assertFalse(ArvoreMerkle.verificar(hashes.get(3), List.of("Xzz"), arvore.raiz()));
+    }
+
+    @Test
+    @DisplayName("Deve mudar a raiz quando uma hash do lote muda")
+    void deveMudarRaizQuandoHashMuda() {
+        // Arrange
+        List<String> hashes = hashes(8);
+        List<String> alteradas = new ArrayList<>(hashes);
+        alteradas.set(5, "ALTERADA");
+
+        // Act & Assert
+        assertNotEquals(ArvoreMerkle.construir(hashes).raiz(), ArvoreMerkle.construir(alteradas).raiz());
+        assertEquals(ArvoreMerkle.construir(hashes).raiz(), ArvoreMerkle.construir(hashes(8)).raiz());
+    }
+}
@@ -0,0 +1,92 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.config.VerificacaoCertificadoProperties;
+import com.model.dto.CodigoCertificado;
+import com.model.repository.CertificadoRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para CacheVerificacaoCertificados")
+class CacheVerificacaoCertificadosTest {
+
+    @Mock
+    private CertificadoRepository certificadoRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheVerificacaoCertificados cache;
+
+    @BeforeEach
+    void setUp() {
+        VerificacaoCertificadoProperties properties = new VerificacaoCertificadoProperties();
+        properties.setCapacidadeFiltro(1_000);
+        cache = new CacheVerificacaoCertificados(certificadoRepository, transactionTemplate, jdbcTemplate, properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reconstruirCom(CodigoCertificado... codigos) {
+        when(certificadoRepository.streamCodigos()).thenReturn(Stream.of(codigos));
+        doAnswer(invocacao -> {
+            ((Consumer<TransactionStatus>) invocacao.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        cache.reconstruir();
+    }
+
+    @Test
+    @DisplayName("Não deve descartar hashes enquanto o filtro não foi construído")
+    void naoDeveDescartarHashesAntesDaConstrucao() {
+        // Act & Assert
+        assertFalse(cache.pronto());
+        assertFalse(cache.naoExiste("k1.1.1.qualquer"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar hashes fora do filtro construído a partir do banco")
+    void deveDescartarHashesForaDoFiltro() {
+        // Act
+        reconstruirCom(
+            new CodigoCertificado("k1.1.1.a", "k1", 1, 1),
+            new CodigoCertificado("k1.2.1.b", "k1", 2, 1));
+
+        // Assert
+        assertTrue(cache.pronto());
+        assertFalse(cache.naoExiste("k1.1.1.a"));
+        assertTrue(cache.naoExiste("k1.3.1.c"));
+    }
+
+    @Test
+    @DisplayName("Deve incluir no filtro as hashes notificadas por outra instância")
+    void deveIncluirHashesNotificadas() {
+        // Arrange
+        reconstruirCom(new CodigoCertificado("k1.1.1.a", "k1", 1, 1));
+
+        // Act
+        cache.adicionarNotificadas("k1.2.1.b,k1.3.1.c");
+
+        // Assert
+        assertFalse(cache.naoExiste("k1.2.1.b"));
+        assertFalse(cache.naoExiste("k1.3.1.c"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
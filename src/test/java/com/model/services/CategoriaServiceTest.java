@@ -0,0 +1,122 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.model.domain.Categoria;
+import com.model.dto.FacetaCategoria;
+import com.model.repository.CategoriaRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para CategoriaService")
+class CategoriaServiceTest {
+
+    @Mock
+    private CategoriaRepository categoriaRepository;
+
+    @InjectMocks
+    private CategoriaService categoriaService;
+
+    private static Categoria categoria(Integer id, String nome) {
+        Categoria categoria = Categoria.de(nome);
+        categoria.setId(id);
+        return categoria;
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar categorias cadastradas e criar as novas")
+    void deveReaproveitarCadastradasECriarNovas() {
+        // Arrange
+        Categoria workshop = categoria(1, "Workshop");
+        when(categoriaRepository.findByChaveIn(Set.of("workshop", "tecnologia"))).thenReturn(List.of(workshop));
+        when(categoriaRepository.findByChaveIn(Set.of("tecnologia"))).thenReturn(List.of(categoria(2, "Tecnologia")));
+
+        // Act
+        List<Categoria> resultado = categoriaService.resolver(new ArrayList<>(List.of(
+            Categoria.de("WORKSHOP"), Categoria.de(" Tecnologia "), Categoria.de("workshop"), Categoria.de("  "))));
+
+        // Assert
+        assertEquals(2, resultado.size());
+        assertSame(workshop, resultado.get(0));
+        assertEquals("Tecnologia", resultado.get(1).getNome());
+        assertEquals("tecnologia", resultado.get(1).getChave());
+        verify(categoriaRepository, times(1)).inserirSeAusente("Tecnologia", "tecnologia");
+        verify(categoriaRepository, never()).save(any(Categoria.class));
+    }
+
+    @Test
+    @DisplayName("Deve devolver lista vazia sem consultar o banco quando não há categorias")
+    void deveDevolverListaVaziaSemCategorias() {
+        // Act
+        List<Categoria> resultado = categoriaService.resolver(null);
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verifyNoInteractions(categoriaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve ajustar só os contadores das categorias que mudaram")
+    void deveAjustarSoOsContadoresQueMudaram() {
+        // Act
+        categoriaService.registrarAlteracao(
+            List.of(categoria(1, "Workshop"), categoria(2, "Tecnologia")),
+            List.of(categoria(2, "Tecnologia"), categoria(3, "Java")));
+
+        // Assert
+        verify(categoriaRepository, times(1)).ajustarEventos(Set.of(1), -1);
+        verify(categoriaRepository, times(1)).ajustarEventos(Set.of(3), 1);
+    }
+
+    @Test
+    @DisplayName("Não deve ajustar contadores quando as categorias não mudam")
+    void naoDeveAjustarContadoresQuandoCategoriasNaoMudam() {
+        // Act
+        categoriaService.registrarAlteracao(List.of(categoria(1, "Workshop")), List.of(categoria(1, "Workshop")));
+
+        // Assert
+        verify(categoriaRepository, never()).ajustarEventos(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve usar os contadores quando não há filtros")
+    void deveUsarContadoresSemFiltros() {
+        // Arrange
+        List<FacetaCategoria> facetas = List.of(new FacetaCategoria("Workshop", 3L));
+        when(categoriaRepository.findFacetas()).thenReturn(facetas);
+
+        // Act
+        List<FacetaCategoria> resultado = categoriaService.facetas(false, null);
+
+        // Assert
+        assertEquals(facetas, resultado);
+        verify(categoriaRepository, never()).findFacetasFiltradas(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve contar a partir dos eventos quando filtrado por curso")
+    void deveContarAPartirDosEventosQuandoFiltradoPorCurso() {
+        // Arrange
+        when(categoriaRepository.findFacetasFiltradas(null, 7)).thenReturn(List.of());
+
+        // Act
+        categoriaService.facetas(false, 7);
+
+        // Assert
+        verify(categoriaRepository, never()).findFacetas();
+        verify(categoriaRepository, times(1)).findFacetasFiltradas(null, 7);
+    }
+}
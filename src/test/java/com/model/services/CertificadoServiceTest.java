@@ -2,11 +2,19 @@ package com.model.services;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,19 +22,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.config.VerificacaoCertificadoProperties;
 import com.model.domain.Aluno;
 import com.model.domain.Certificado;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
 import com.model.domain.Palestrante;
+import com.model.dto.CodigoCertificado;
+import com.model.dto.ResumoCertificado;
+import com.model.dto.VerificacaoHash;
 import com.model.repository.AlunoRepository;
 import com.model.repository.CertificadoRepository;
 import com.model.repository.EventoRepository;
 import com.model.repository.InscricaoRepository;
-import com.model.repository.PalestranteRepository;
+import com.model.repository.LoteCertificadosRepository;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes para CertificadoService")
@@ -42,11 +58,27 @@ class CertificadoServiceTest {
     private EventoRepository eventoRepository;
 
     @Mock
-    private PalestranteRepository palestranteRepository;
+    private PalestranteService palestranteService;
 
     @Mock
     private InscricaoRepository inscricaoRepository;
 
+    @Spy
+    private GeradorHashCertificado geradorHash = new GeradorHashCertificado(
+        GeradorHashCertificadoTest.properties("k1", Map.of("k1", "SBZdI18tkedEUxFAQ6YFtYjdde4YL3s9andfZTHKhWo=")));
+
+    @Mock
+    private CacheVerificacaoCertificados cacheVerificacao;
+
+    @Mock
+    private LoteCertificadosRepository loteRepository;
+
+    @Mock
+    private ListaRevogacaoCertificados listaRevogacao;
+
+    @Spy
+    private VerificacaoCertificadoProperties verificacaoProperties = new VerificacaoCertificadoProperties();
+
     @InjectMocks
     private CertificadoService certificadoService;
 
@@ -56,6 +88,8 @@ class CertificadoServiceTest {
     private Certificado certificado;
     private Certificado certificadoPayload;
     private Inscricao inscricao;
+    private String codigo;
+    private String codigoOutroAluno;
 
     @BeforeEach
     void setUp() {
@@ -77,12 +111,13 @@ class CertificadoServiceTest {
         certificado.setAluno(aluno);
         certificado.setEvento(evento);
         certificado.setPalestrante(palestrante);
-        certificado.setHashCertificado("ABC123");
+        codigo = geradorHash.gerar(aluno, evento);
+        codigoOutroAluno = geradorHash.gerar(2, 1);
+        certificado.setHashCertificado(codigo);
         certificado.setNomeInstituicao("UNINCOR");
         certificado.setIdentidadeInstituicao("12345678901234");
 
         certificadoPayload = new Certificado();
-        certificadoPayload.setHashCertificado("ABC123");
         certificadoPayload.setNomeInstituicao("UNINCOR");
         certificadoPayload.setIdentidadeInstituicao("12345678901234");
 
@@ -97,77 +132,157 @@ class CertificadoServiceTest {
     @DisplayName("Deve listar todos os certificados")
     void deveListarTodosOsCertificados() {
         // Arrange
-        List<Certificado> certificados = Arrays.asList(certificado);
-        when(certificadoRepository.findAll()).thenReturn(certificados);
+        List<ResumoCertificado> certificados = List.of(ResumoCertificado.de(certificado));
+        when(certificadoRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(certificados);
 
         // Act
-        List<Certificado> resultado = certificadoService.listarTodos();
+        List<ResumoCertificado> resultado = certificadoService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(certificadoRepository, times(1)).findAll();
+        verify(certificadoRepository, times(1)).findResumosApos(0, PageRequest.of(0, 51));
     }
 
     @Test
     @DisplayName("Deve listar certificados por aluno")
     void deveListarCertificadosPorAluno() {
         // Arrange
-        List<Certificado> certificados = Arrays.asList(certificado);
-        when(certificadoRepository.findByAlunoId(1)).thenReturn(certificados);
+        List<ResumoCertificado> certificados = List.of(ResumoCertificado.de(certificado));
+        when(certificadoRepository.findResumosPorAlunoApos(1, 0, PageRequest.of(0, 51))).thenReturn(certificados);
 
         // Act
-        List<Certificado> resultado = certificadoService.listarPorAluno(1);
+        List<ResumoCertificado> resultado = certificadoService.listarPorAluno(1, null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(certificadoRepository, times(1)).findByAlunoId(1);
+        verify(certificadoRepository, times(1)).findResumosPorAlunoApos(1, 0, PageRequest.of(0, 51));
     }
 
     @Test
     @DisplayName("Deve listar certificados por evento")
     void deveListarCertificadosPorEvento() {
         // Arrange
-        List<Certificado> certificados = Arrays.asList(certificado);
-        when(certificadoRepository.findByEventoId(1)).thenReturn(certificados);
+        List<ResumoCertificado> certificados = List.of(ResumoCertificado.de(certificado));
+        when(certificadoRepository.findResumosPorEventoApos(1, 0, PageRequest.of(0, 51))).thenReturn(certificados);
 
         // Act
-        List<Certificado> resultado = certificadoService.listarPorEvento(1);
+        List<ResumoCertificado> resultado = certificadoService.listarPorEvento(1, null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(certificadoRepository, times(1)).findByEventoId(1);
+        verify(certificadoRepository, times(1)).findResumosPorEventoApos(1, 0, PageRequest.of(0, 51));
     }
 
     @Test
     @DisplayName("Deve buscar certificado por hash com sucesso")
     void deveBuscarCertificadoPorHashComSucesso() {
         // Arrange
-        when(certificadoRepository.findByHashCertificado("ABC123")).thenReturn(Optional.of(certificado));
+        Set<String> assinaturas = Set.of(Certificado.assinaturaDe(codigo));
+        when(certificadoRepository.findByAssinaturaIn(assinaturas)).thenReturn(List.of(certificado));
 
         // Act
-        Certificado resultado = certificadoService.buscarPorHash("ABC123");
+        Certificado resultado = certificadoService.buscarPorHash(codigo);
 
         // Assert
         assertNotNull(resultado);
-        assertEquals("ABC123", resultado.getHashCertificado());
-        verify(certificadoRepository, times(1)).findByHashCertificado("ABC123");
+        assertEquals(codigo, resultado.getHashCertificado());
+        verify(certificadoRepository, times(1)).findByAssinaturaIn(assinaturas);
+        verify(certificadoRepository, never()).findByHashLegadoIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pela hash legada um certificado emitido antes das assinaturas")
+    void deveBuscarCertificadoPelaHashLegada() {
+        // Arrange
+        String legado = "9F86D081884C7D659A2FEAA0C55AD015A3BF4F1B2B0B822CD15D6C15B0F00A08";
+        certificado.setHashLegado(legado);
+        when(certificadoRepository.findByHashLegadoIn(Set.of(legado))).thenReturn(List.of(certificado));
+
+        // Act
+        Certificado resultado = certificadoService.buscarPorHash(legado);
+
+        // Assert
+        assertSame(certificado, resultado);
+        verify(certificadoRepository, never()).findByAssinaturaIn(any());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar a assinatura de um certificado com outros ids no código")
+    void naoDeveAceitarAssinaturaComOutrosIds() {
+        // Arrange
+        String assinatura = Certificado.assinaturaDe(codigo);
+        when(certificadoRepository.findByAssinaturaIn(Set.of(assinatura))).thenReturn(List.of(certificado));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.buscarPorHash("k1.2.1." + assinatura)
+        );
+        assertEquals("Certificado não encontrado", exception.getReason());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao buscar certificado inexistente por hash")
     void deveLancarExcecaoAoBuscarCertificadoInexistentePorHash() {
         // Arrange
-        when(certificadoRepository.findByHashCertificado("INVALID")).thenReturn(Optional.empty());
+        when(certificadoRepository.findByAssinaturaIn(Set.of(Certificado.assinaturaDe(codigoOutroAluno))))
+            .thenReturn(List.of());
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.buscarPorHash(codigoOutroAluno)
+        );
+        assertEquals("Certificado não encontrado", exception.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve recusar hash descartada pelo filtro sem consultar o banco")
+    void deveRecusarHashDescartadaPeloFiltroSemConsultarBanco() {
+        // Arrange
+        when(cacheVerificacao.naoExiste(anyString())).thenReturn(true);
 
         // Act & Assert
         ResponseStatusException exception = assertThrows(
             ResponseStatusException.class,
-            () -> certificadoService.buscarPorHash("INVALID")
+            () -> certificadoService.verificar(codigoOutroAluno)
         );
         assertEquals("Certificado não encontrado", exception.getReason());
+        verifyNoInteractions(certificadoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve verificar certificado pelo banco e guardar o resumo no cache")
+    void deveVerificarCertificadoEGuardarResumoNoCache() {
+        // Arrange
+        when(certificadoRepository.findByAssinaturaIn(Set.of(Certificado.assinaturaDe(codigo))))
+            .thenReturn(List.of(certificado));
+
+        // Act
+        ResumoCertificado resumo = certificadoService.verificar(codigo);
+
+        // Assert
+        assertEquals(codigo, resumo.hashCertificado());
+        assertEquals(aluno.getNome(), resumo.nomeAluno());
+        verify(cacheVerificacao, times(1)).guardar(resumo);
+    }
+
+    @Test
+    @DisplayName("Deve responder verificação a partir do cache de resumos")
+    void deveResponderVerificacaoAPartirDoCache() {
+        // Arrange
+        ResumoCertificado emCache = ResumoCertificado.de(certificado);
+        when(cacheVerificacao.resumo(codigo)).thenReturn(emCache);
+
+        // Act
+        ResumoCertificado resumo = certificadoService.verificar(codigo);
+
+        // Assert
+        assertSame(emCache, resumo);
+        verifyNoInteractions(certificadoRepository);
     }
 
     @Test
@@ -176,18 +291,38 @@ class CertificadoServiceTest {
         // Arrange
         when(alunoRepository.findById(1)).thenReturn(Optional.of(aluno));
         when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
-        when(palestranteRepository.findById(1)).thenReturn(Optional.of(palestrante));
-        when(certificadoRepository.save(any(Certificado.class))).thenReturn(certificado);
+        when(palestranteService.buscarPorId(1)).thenReturn(palestrante);
+        when(certificadoRepository.saveAndFlush(any(Certificado.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
 
         // Act
         Certificado resultado = certificadoService.emitir(1, 1, 1, certificadoPayload);
 
         // Assert
         assertNotNull(resultado);
+        assertEquals(certificadoService.gerarHashValidador(aluno, evento), resultado.getHashCertificado());
         verify(alunoRepository, times(1)).findById(1);
         verify(eventoRepository, times(1)).findById(1);
-        verify(palestranteRepository, times(1)).findById(1);
-        verify(certificadoRepository, times(1)).save(any(Certificado.class));
+        verify(palestranteService, times(1)).buscarPorId(1);
+        verify(certificadoRepository, times(1)).saveAndFlush(any(Certificado.class));
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 ao emitir certificado já emitido para o aluno no evento")
+    void deveResponderConflitoAoEmitirCertificadoDuplicado() {
+        // Arrange
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(aluno));
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        when(palestranteService.buscarPorId(1)).thenReturn(palestrante);
+        when(certificadoRepository.saveAndFlush(any(Certificado.class)))
+            .thenThrow(new DataIntegrityViolationException("ux_certificado_aluno_evento"));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.emitir(1, 1, 1, certificadoPayload)
+        );
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(cacheVerificacao, never()).registrar(any());
     }
 
     @Test
@@ -230,12 +365,173 @@ class CertificadoServiceTest {
     @DisplayName("Deve gerar hash validador com sucesso")
     void deveGerarHashValidadorComSucesso() {
         // Act
-        String hash = certificadoService.gerarHashValidador(aluno, evento, palestrante, "12345678901234");
+        String hash = certificadoService.gerarHashValidador(aluno, evento);
 
         // Assert
         assertNotNull(hash);
-        assertFalse(hash.isEmpty());
-        assertEquals(64, hash.length()); // SHA-256 produz 64 caracteres hexadecimais
+        assertTrue(hash.startsWith("k1.1.1."), hash);
+        assertNotNull(Certificado.assinaturaDe(hash)); // Formato gravado em chave_assinatura e hash_certificado
+    }
+
+    @Test
+    @DisplayName("Deve verificar em lote com uma consulta por bloco, na ordem de entrada")
+    void deveVerificarEmLoteComUmaConsultaPorBloco() {
+        // Arrange
+        verificacaoProperties.setTamanhoConsulta(2);
+        String descartado = geradorHash.gerar(3, 1);
+        when(cacheVerificacao.naoExiste(anyString())).thenAnswer(inv -> descartado.equals(inv.getArgument(0)));
+        when(certificadoRepository.findByAssinaturaIn(anyCollection())).thenAnswer(inv ->
+            inv.<Collection<String>>getArgument(0).contains(certificado.getAssinatura())
+                ? List.of(certificado) : List.of());
+        List<String> hashes = List.of(descartado, codigo, "INVALIDA", codigoOutroAluno);
+        List<VerificacaoHash> resultados = new ArrayList<>();
+
+        // Act
+        certificadoService.verificarEmLote(hashes.iterator(), resultados::add);
+
+        // Assert
+        assertEquals(hashes, resultados.stream().map(VerificacaoHash::hash).toList());
+        assertEquals(List.of(false, true, false, false), resultados.stream().map(VerificacaoHash::valido).toList());
+        assertEquals("João Silva", resultados.get(1).certificado().nomeAluno());
+        verify(certificadoRepository, times(2)).findByAssinaturaIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve recusar verificação em lote acima do limite de hashes")
+    void deveRecusarVerificacaoEmLoteAcimaDoLimite() {
+        // Arrange
+        verificacaoProperties.setMaxHashesPorRequisicao(2);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.verificarEmLote(List.of("A", "B", "C").iterator(), resultado -> { })
+        );
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve validar código autêntico de certificado não revogado")
+    void deveValidarCodigoAutentico() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        when(certificadoRepository.existsByAssinatura(Certificado.assinaturaDe(codigo))).thenReturn(true);
+
+        // Act
+        CodigoCertificado validado = certificadoService.validar(codigo);
+
+        // Assert
+        assertEquals(1, validado.alunoId());
+        assertEquals(1, validado.eventoId());
+    }
+
+    @Test
+    @DisplayName("Deve validar código apenas em memória quando a lista de revogação está carregada")
+    void deveValidarCodigoApenasEmMemoria() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        when(listaRevogacao.carregada()).thenReturn(true);
+        when(cacheVerificacao.pronto()).thenReturn(true);
+
+        // Act
+        CodigoCertificado validado = certificadoService.validar(codigo);
+
+        // Assert
+        assertEquals(1, validado.alunoId());
+        verifyNoInteractions(certificadoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar código revogado sem consultar o banco")
+    void deveRecusarCodigoRevogadoSemConsultarBanco() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        when(listaRevogacao.revogado(codigo)).thenReturn(true);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validar(codigo)
+        );
+        assertEquals(HttpStatus.GONE, exception.getStatusCode());
+        verifyNoInteractions(certificadoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve revogar certificado e registrar na lista de revogação")
+    void deveRevogarCertificado() {
+        // Arrange
+        when(certificadoRepository.findById(1)).thenReturn(Optional.of(certificado));
+
+        // Act
+        Certificado revogado = certificadoService.revogar(1, "Presença registrada por engano");
+
+        // Assert
+        assertTrue(revogado.isRevogado());
+        assertNotNull(revogado.getRevogadoEm());
+        assertEquals("Presença registrada por engano", revogado.getMotivoRevogacao());
+        verify(listaRevogacao).revogar(codigo);
+        verify(cacheVerificacao).invalidar(codigo);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao revogar certificado já revogado")
+    void deveLancarExcecaoAoRevogarCertificadoJaRevogado() {
+        // Arrange
+        certificado.setRevogado(true);
+        when(certificadoRepository.findById(1)).thenReturn(Optional.of(certificado));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.revogar(1, null)
+        );
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(listaRevogacao, never()).revogar(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar código com assinatura inválida sem consultar o banco")
+    void deveRecusarCodigoComAssinaturaInvalidaSemConsultarBanco() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validar("k1.1.1.AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA")
+        );
+        assertEquals("Certificado não encontrado", exception.getReason());
+        verifyNoInteractions(certificadoRepository, cacheVerificacao, listaRevogacao);
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 para código autêntico sem certificado registrado")
+    void deveResponderNaoEncontradoParaCodigoSemCertificado() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        when(certificadoRepository.existsByAssinatura(Certificado.assinaturaDe(codigo))).thenReturn(false);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validar(codigo)
+        );
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertEquals("Certificado não encontrado", exception.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 sem consultar o banco quando o filtro descarta o código")
+    void deveResponderNaoEncontradoQuandoFiltroDescartaCodigo() {
+        // Arrange
+        String codigo = certificadoService.gerarHashValidador(aluno, evento);
+        when(cacheVerificacao.naoExiste(codigo)).thenReturn(true);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> certificadoService.validar(codigo)
+        );
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        verifyNoInteractions(certificadoRepository);
     }
 
     @Test
@@ -243,11 +539,11 @@ class CertificadoServiceTest {
     void deveGerarCertificadosParaEventoComSucesso() {
         // Arrange
         when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
-        when(palestranteRepository.findById(1)).thenReturn(Optional.of(palestrante));
+        when(palestranteService.buscarPorId(1)).thenReturn(palestrante);
         when(inscricaoRepository.findByEventoIdAndPresenca(1, true))
             .thenReturn(Arrays.asList(inscricao));
-        when(certificadoRepository.findByAlunoId(1)).thenReturn(Arrays.asList());
-        when(certificadoRepository.save(any(Certificado.class))).thenReturn(certificado);
+        when(certificadoRepository.findAlunoIdsByEventoId(1)).thenReturn(new HashSet<>());
+        when(certificadoRepository.saveAllAndFlush(anyList())).thenAnswer(inv -> inv.getArgument(0));
 
         // Act
         List<Certificado> resultado = certificadoService.gerarCertificadosParaEvento(
@@ -258,9 +554,31 @@ class CertificadoServiceTest {
         assertNotNull(resultado);
         assertFalse(resultado.isEmpty());
         verify(eventoRepository, times(1)).findById(1);
-        verify(palestranteRepository, times(1)).findById(1);
+        verify(palestranteService, times(1)).buscarPorId(1);
         verify(inscricaoRepository, times(1)).findByEventoIdAndPresenca(1, true);
-        verify(certificadoRepository, times(1)).save(any(Certificado.class));
+        verify(certificadoRepository, times(1)).findAlunoIdsByEventoId(1);
+        verify(certificadoRepository, times(1)).saveAllAndFlush(anyList());
+        verify(certificadoRepository, never()).findByAlunoId(any());
+    }
+
+    @Test
+    @DisplayName("Deve pular alunos que já possuem certificado do evento")
+    void devePularAlunosQueJaPossuemCertificadoDoEvento() {
+        // Arrange
+        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
+        when(palestranteService.buscarPorId(1)).thenReturn(palestrante);
+        when(inscricaoRepository.findByEventoIdAndPresenca(1, true))
+            .thenReturn(Arrays.asList(inscricao));
+        when(certificadoRepository.findAlunoIdsByEventoId(1)).thenReturn(new HashSet<>(Set.of(1)));
+
+        // Act
+        List<Certificado> resultado = certificadoService.gerarCertificadosParaEvento(
+            1, 1, "UNINCOR", "12345678901234"
+        );
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verify(certificadoRepository, never()).saveAllAndFlush(anyList());
     }
 
     @Test
@@ -268,7 +586,7 @@ class CertificadoServiceTest {
     void deveLancarExcecaoAoGerarCertificadosSemInscricoesComPresenca() {
         // Arrange
         when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
-        when(palestranteRepository.findById(1)).thenReturn(Optional.of(palestrante));
+        when(palestranteService.buscarPorId(1)).thenReturn(palestrante);
         when(inscricaoRepository.findByEventoIdAndPresenca(1, true)).thenReturn(Arrays.asList());
 
         // Act & Assert
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -16,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Colaborador;
+import com.model.dto.ResumoColaborador;
 import com.model.repository.ColaboradorRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,17 +55,18 @@ class ColaboradorServiceTest {
     @DisplayName("Deve listar todos os colaboradores")
     void deveListarTodosOsColaboradores() {
         // Arrange
-        List<Colaborador> colaboradores = Arrays.asList(colaborador);
-        when(colaboradorRepository.findAll()).thenReturn(colaboradores);
+        List<ResumoColaborador> colaboradores = List.of(new ResumoColaborador(
+            colaborador.getId(), colaborador.getNome(), colaborador.getEmail(), colaborador.getCargo()));
+        when(colaboradorRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(colaboradores);
 
         // Act
-        List<Colaborador> resultado = colaboradorService.listarTodos();
+        List<ResumoColaborador> resultado = colaboradorService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Pedro Costa", resultado.get(0).getNome());
-        verify(colaboradorRepository, times(1)).findAll();
+        assertEquals("Pedro Costa", resultado.get(0).nome());
+        verify(colaboradorRepository, times(1)).findResumosApos(0, PageRequest.of(0, 51));
     }
 
     @Test
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +14,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Curso;
+import com.model.dto.ResumoCurso;
 import com.model.repository.CursoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,17 +48,17 @@ class CursoServiceTest {
     @DisplayName("Deve listar todos os cursos")
     void deveListarTodosOsCursos() {
         // Arrange
-        List<Curso> cursos = Arrays.asList(curso);
-        when(cursoRepository.findAll()).thenReturn(cursos);
+        List<ResumoCurso> cursos = List.of(ResumoCurso.de(curso));
+        when(cursoRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(cursos);
 
         // Act
-        List<Curso> resultado = cursoService.listarTodos();
+        List<ResumoCurso> resultado = cursoService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Ciência da Computação", resultado.get(0).getNome());
-        verify(cursoRepository, times(1)).findAll();
+        assertEquals("Ciência da Computação", resultado.get(0).nome());
+        verify(cursoRepository, times(1)).findResumosApos(0, PageRequest.of(0, 51));
     }
 
     @Test
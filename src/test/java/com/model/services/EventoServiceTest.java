@@ -5,7 +5,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Evento;
+import com.model.dto.ResumoEvento;
 import com.model.repository.EventoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +29,15 @@ class EventoServiceTest {
     @Mock
     private EventoRepository eventoRepository;
 
+    @Mock
+    private BuscaEventosService buscaEventosService;
+
+    @Mock
+    private CategoriaService categoriaService;
+
+    @Mock
+    private InscricaoPipeline inscricaoPipeline;
+
     @InjectMocks
     private EventoService eventoService;
 
@@ -56,17 +66,19 @@ class EventoServiceTest {
     @DisplayName("Deve listar todos os eventos")
     void deveListarTodosOsEventos() {
         // Arrange
-        List<Evento> eventos = Arrays.asList(evento);
-        when(eventoRepository.findAll()).thenReturn(eventos);
+        List<ResumoEvento> eventos = List.of(new ResumoEvento(evento.getId(), evento.getNome(), evento.getLocal(),
+            evento.getHoraInicio(), evento.getHoraFim(), evento.getCargaHoraria(), evento.getVagas(),
+            evento.getVagasOcupadas(), evento.getPresentes(), evento.getVagasDisponiveis(), evento.isModoSorteio()));
+        when(eventoRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(eventos);
 
         // Act
-        List<Evento> resultado = eventoService.listarTodos();
+        List<ResumoEvento> resultado = eventoService.listar(null, null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Workshop Spring Boot", resultado.get(0).getNome());
-        verify(eventoRepository, times(1)).findAll();
+        assertEquals("Workshop Spring Boot", resultado.get(0).nome());
+        verify(eventoRepository, times(1)).findResumosApos(0, PageRequest.of(0, 51));
     }
 
     @Test
@@ -101,33 +113,38 @@ class EventoServiceTest {
     @DisplayName("Deve buscar eventos por categoria")
     void deveBuscarEventosPorCategoria() {
         // Arrange
-        List<Evento> eventos = Arrays.asList(evento);
-        when(eventoRepository.findByCategoriasContainingIgnoreCase("Workshop")).thenReturn(eventos);
+        List<ResumoEvento> eventos = List.of(new ResumoEvento(evento.getId(), evento.getNome(), evento.getLocal(),
+            evento.getHoraInicio(), evento.getHoraFim(), evento.getCargaHoraria(), evento.getVagas(),
+            evento.getVagasOcupadas(), evento.getPresentes(), evento.getVagasDisponiveis(), evento.isModoSorteio()));
+        when(eventoRepository.findResumosPorCategoriaApos("workshop", 0, PageRequest.of(0, 51)))
+            .thenReturn(eventos);
 
         // Act
-        List<Evento> resultado = eventoService.buscarPorCategoria("Workshop");
+        List<ResumoEvento> resultado = eventoService.listar(" Workshop ", null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(eventoRepository, times(1)).findByCategoriasContainingIgnoreCase("Workshop");
+        verify(eventoRepository, times(1)).findResumosPorCategoriaApos("workshop", 0, PageRequest.of(0, 51));
     }
 
     @Test
     @DisplayName("Deve listar todos os eventos quando categoria é null ou vazia")
     void deveListarTodosOsEventosQuandoCategoriaEhNullOuVazia() {
         // Arrange
-        List<Evento> eventos = Arrays.asList(evento);
-        when(eventoRepository.findAll()).thenReturn(eventos);
+        List<ResumoEvento> eventos = List.of(new ResumoEvento(evento.getId(), evento.getNome(), evento.getLocal(),
+            evento.getHoraInicio(), evento.getHoraFim(), evento.getCargaHoraria(), evento.getVagas(),
+            evento.getVagasOcupadas(), evento.getPresentes(), evento.getVagasDisponiveis(), evento.isModoSorteio()));
+        when(eventoRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(eventos);
 
         // Act
-        List<Evento> resultado1 = eventoService.buscarPorCategoria(null);
-        List<Evento> resultado2 = eventoService.buscarPorCategoria("");
+        List<ResumoEvento> resultado1 = eventoService.listar(null, null, null).itens();
+        List<ResumoEvento> resultado2 = eventoService.listar("", null, null).itens();
 
         // Assert
         assertNotNull(resultado1);
         assertNotNull(resultado2);
-        verify(eventoRepository, times(2)).findAll();
+        verify(eventoRepository, times(2)).findResumosApos(0, PageRequest.of(0, 51));
     }
 
     @Test
@@ -143,6 +160,8 @@ class EventoServiceTest {
         assertNotNull(resultado);
         assertEquals("Workshop Spring Boot", resultado.getNome());
         verify(eventoRepository, times(1)).save(evento);
+        verify(categoriaService, times(1)).registrarAlteracao(List.of(), evento.getCategorias());
+        verify(buscaEventosService, times(1)).indexar(evento);
     }
 
     @Test
@@ -155,6 +174,7 @@ class EventoServiceTest {
         );
         assertEquals("Evento não pode ser nulo", exception.getReason());
         verify(eventoRepository, never()).save(any());
+        verify(buscaEventosService, never()).indexar(any());
     }
 
     @Test
@@ -171,6 +191,7 @@ class EventoServiceTest {
         assertNotNull(resultado);
         verify(eventoRepository, times(1)).findById(1);
         verify(eventoRepository, times(1)).save(evento);
+        verify(buscaEventosService, times(1)).indexar(evento);
     }
 
     @Test
@@ -186,5 +207,6 @@ class EventoServiceTest {
         // Assert
         verify(eventoRepository, times(1)).findById(1);
         verify(eventoRepository, times(1)).delete(evento);
+        verify(buscaEventosService, times(1)).remover(1);
     }
 }
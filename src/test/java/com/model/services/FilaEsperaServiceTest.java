@@ -0,0 +1,214 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.config.FilaEsperaProperties;
+import com.model.domain.Inscricao;
+import com.model.dto.StatusTicketFila;
+import com.model.dto.TicketFila;
+import com.model.repository.EventoRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para FilaEsperaService")
+class FilaEsperaServiceTest {
+
+    @Mock
+    private InscricaoService inscricaoService;
+
+    @Mock
+    private EventoRepository eventoRepository;
+
+    private FilaEsperaProperties properties;
+    private FilaEsperaService filaEsperaService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FilaEsperaProperties();
+        properties.setCapacidadeMaxima(3);
+        // Executor síncrono: a inscrição admitida é processada dentro de admitir()
+        lenient().when(eventoRepository.existsById(1)).thenReturn(true);
+        filaEsperaService = new FilaEsperaService(inscricaoService, eventoRepository, properties, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Deve emitir tickets em ordem de chegada sem acessar o banco")
+    void deveEmitirTicketsEmOrdemDeChegada() {
+        // Arrange
+        filaEsperaService.ativar(1, 10);
+
+        // Act
+        TicketFila primeiro = filaEsperaService.entrar(1, 100);
+        TicketFila segundo = filaEsperaService.entrar(1, 200);
+
+        // Assert
+        assertEquals(StatusTicketFila.AGUARDANDO, primeiro.status());
+        assertEquals(1, primeiro.posicao());
+        assertEquals(2, segundo.posicao());
+        verifyNoInteractions(inscricaoService);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mesmo ticket para pedido repetido do aluno")
+    void deveDevolverMesmoTicketParaPedidoRepetido() {
+        // Arrange
+        filaEsperaService.ativar(1, 10);
+
+        // Act
+        TicketFila primeiro = filaEsperaService.entrar(1, 100);
+        TicketFila repetido = filaEsperaService.entrar(1, 100);
+
+        // Assert
+        assertEquals(primeiro.ticket(), repetido.ticket());
+    }
+
+    @Test
+    @DisplayName("Deve admitir tickets respeitando a taxa configurada")
+    void deveAdmitirTicketsRespeitandoTaxa() {
+        // Arrange
+        Inscricao inscricao = new Inscricao();
+        inscricao.setId(42);
+        when(inscricaoService.registrar(eq(1), anyInt())).thenReturn(inscricao);
+        filaEsperaService.ativar(1, 2);
+        TicketFila primeiro = filaEsperaService.entrar(1, 100);
+        filaEsperaService.entrar(1, 200);
+        TicketFila terceiro = filaEsperaService.entrar(1, 300);
+
+        // Act - um segundo depois, a taxa de 2/s admite apenas dois tickets
+        filaEsperaService.admitir(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+
+        // Assert
+        TicketFila confirmado = filaEsperaService.consultar(1, primeiro.ticket());
+        assertEquals(StatusTicketFila.CONFIRMADO, confirmado.status());
+        assertEquals(42, confirmado.inscricaoId());
+        TicketFila aguardando = filaEsperaService.consultar(1, terceiro.ticket());
+        assertEquals(StatusTicketFila.AGUARDANDO, aguardando.status());
+        assertEquals(1, aguardando.posicao());
+        verify(inscricaoService, times(2)).registrar(eq(1), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o motivo quando a inscrição admitida for recusada")
+    void deveRegistrarMotivoQuandoInscricaoAdmitidaForRecusada() {
+        // Arrange
+        when(inscricaoService.registrar(1, 100))
+            .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Evento sem vagas disponíveis"));
+        filaEsperaService.ativar(1, 10);
+        TicketFila ticket = filaEsperaService.entrar(1, 100);
+
+        // Act
+        filaEsperaService.admitir(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+
+        // Assert
+        TicketFila resultado = filaEsperaService.consultar(1, ticket.ticket());
+        assertEquals(StatusTicketFila.RECUSADO, resultado.status());
+        assertEquals("Evento sem vagas disponíveis", resultado.mensagem());
+    }
+
+    @Test
+    @DisplayName("Deve manter o ticket na fila quando o pool de admissão estiver ocupado")
+    void deveManterTicketNaFilaQuandoPoolEstiverOcupado() {
+        // Arrange
+        AtomicBoolean ocupado = new AtomicBoolean(true);
+        filaEsperaService = new FilaEsperaService(inscricaoService, eventoRepository, properties, tarefa -> {
+            if (ocupado.get()) {
+                throw new RejectedExecutionException();
+            }
+            tarefa.run();
+        });
+        Inscricao inscricao = new Inscricao();
+        inscricao.setId(42);
+        when(inscricaoService.registrar(1, 100)).thenReturn(inscricao);
+        filaEsperaService.ativar(1, 10);
+        TicketFila ticket = filaEsperaService.entrar(1, 100);
+
+        // Act
+        filaEsperaService.admitir(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        TicketFila enquantoOcupado = filaEsperaService.consultar(1, ticket.ticket());
+        ocupado.set(false);
+        filaEsperaService.admitir(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+
+        // Assert
+        assertEquals(StatusTicketFila.AGUARDANDO, enquantoOcupado.status());
+        assertEquals(1, enquantoOcupado.posicao());
+        assertEquals(StatusTicketFila.CONFIRMADO, filaEsperaService.consultar(1, ticket.ticket()).status());
+        verify(inscricaoService, times(1)).registrar(1, 100);
+    }
+
+    @Test
+    @DisplayName("Deve emitir novo ticket quando o anterior do aluno foi recusado")
+    void deveEmitirNovoTicketQuandoAnteriorFoiRecusado() {
+        // Arrange
+        Inscricao inscricao = new Inscricao();
+        inscricao.setId(42);
+        when(inscricaoService.registrar(1, 100))
+            .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Alta concorrência, tente novamente"))
+            .thenReturn(inscricao);
+        filaEsperaService.ativar(1, 10);
+        TicketFila recusado = filaEsperaService.entrar(1, 100);
+        filaEsperaService.admitir(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+
+        // Act
+        TicketFila novo = filaEsperaService.entrar(1, 100);
+        filaEsperaService.admitir(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+
+        // Assert
+        assertNotEquals(recusado.ticket(), novo.ticket());
+        assertEquals(StatusTicketFila.AGUARDANDO, novo.status());
+        assertEquals(StatusTicketFila.RECUSADO, filaEsperaService.consultar(1, recusado.ticket()).status());
+        assertEquals(StatusTicketFila.CONFIRMADO, filaEsperaService.consultar(1, novo.ticket()).status());
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 ao ativar fila de evento inexistente")
+    void deveResponderNaoEncontradoAoAtivarFilaDeEventoInexistente() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> filaEsperaService.ativar(99, 10)
+        );
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertFalse(filaEsperaService.isAtiva(99));
+    }
+
+    @Test
+    @DisplayName("Deve recusar novos tickets quando a fila estiver lotada")
+    void deveRecusarNovosTicketsQuandoFilaEstiverLotada() {
+        // Arrange
+        filaEsperaService.ativar(1, 10);
+        filaEsperaService.entrar(1, 100);
+        filaEsperaService.entrar(1, 200);
+        filaEsperaService.entrar(1, 300);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> filaEsperaService.entrar(1, 400)
+        );
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao entrar em fila não ativada")
+    void deveLancarExcecaoAoEntrarEmFilaNaoAtivada() {
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> filaEsperaService.entrar(1, 100)
+        );
+        assertEquals("Evento não está com fila de espera ativa", exception.getReason());
+    }
+}
@@ -0,0 +1,50 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para FiltroBloom")
+class FiltroBloomTest {
+
+    @Test
+    @DisplayName("Deve conter todos os valores adicionados")
+    void deveConterTodosOsValoresAdicionados() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.001);
+        String[] valores = new String[10_000];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = UUID.randomUUID().toString();
+            filtro.adicionar(valores[i]);
+        }
+
+        // Act & Assert
+        for (String valor : valores) {
+            assertTrue(filtro.podeConter(valor));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter falsos positivos próximos da taxa configurada")
+    void deveManterFalsosPositivosProximosDaTaxaConfigurada() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar(UUID.randomUUID().toString());
+        }
+
+        // Act
+        int falsosPositivos = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtro.podeConter(UUID.randomUUID().toString())) {
+                falsosPositivos++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsosPositivos < 2_000, "Falsos positivos: " + falsosPositivos);
+    }
+}
@@ -0,0 +1,159 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.config.AssinaturaCertificadoProperties;
+import com.model.domain.Aluno;
+import com.model.domain.Evento;
+import com.model.dto.CodigoCertificado;
+
+@DisplayName("Testes para GeradorHashCertificado")
+class GeradorHashCertificadoTest {
+
+    private static final String CHAVE_K1 = "SBZdI18tkedEUxFAQ6YFtYjdde4YL3s9andfZTHKhWo=";
+    private static final String CHAVE_K2 = "3q2+7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+
+    private GeradorHashCertificado geradorHash;
+    private Aluno aluno;
+    private Evento evento;
+
+    @BeforeEach
+    void setUp() {
+        geradorHash = new GeradorHashCertificado(properties("k1", Map.of("k1", CHAVE_K1)));
+
+        aluno = new Aluno();
+        aluno.setId(7);
+
+        evento = new Evento();
+        evento.setId(1);
+        evento.setNome("Workshop Spring Boot");
+    }
+
+    @AfterEach
+    void tearDown() {
+        geradorHash.encerrar();
+    }
+
+    static AssinaturaCertificadoProperties properties(String chaveAtiva, Map<String, String> chaves) {
+        AssinaturaCertificadoProperties properties = new AssinaturaCertificadoProperties();
+        properties.setChaveAtiva(chaveAtiva);
+        properties.setChaves(chaves);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Deve gerar código determinístico com chave, aluno, evento e assinatura")
+    void deveGerarCodigoDeterministico() {
+        // Act
+        String codigo = geradorHash.gerar(aluno, evento);
+
+        // Assert
+        assertTrue(codigo.matches("k1\\.7\\.1\\.[A-Za-z0-9_-]{43}"), codigo);
+        assertEquals(codigo, geradorHash.gerar(aluno, evento));
+    }
+
+    @Test
+    @DisplayName("Deve validar código autêntico sem consultar o banco")
+    void deveValidarCodigoAutentico() {
+        // Arrange
+        String codigo = geradorHash.gerar(aluno, evento);
+
+        // Act
+        CodigoCertificado validado = geradorHash.verificar(codigo).orElseThrow();
+
+        // Assert
+        assertEquals("k1", validado.chave());
+        assertEquals(7, validado.alunoId());
+        assertEquals(1, validado.eventoId());
+    }
+
+    @Test
+    @DisplayName("Deve recusar código adulterado ou malformado")
+    void deveRecusarCodigoAdulterado() {
+        // Arrange
+        String codigo = geradorHash.gerar(aluno, evento);
+        String outroAluno = codigo.replaceFirst("^k1\\.7\\.", "k1.8.");
+
+        // Act & Assert
+        assertTrue(geradorHash.verificar(outroAluno).isEmpty());
+        assertTrue(geradorHash.verificar("k2" + codigo.substring(2)).isEmpty());
+        assertTrue(geradorHash.verificar(codigo + "A").isEmpty());
+        assertTrue(geradorHash.verificar("k1.7.1").isEmpty());
+        assertTrue(geradorHash.verificar("k1.x.1.AAAA").isEmpty());
+        assertTrue(geradorHash.verificar("A1B2C3D4E5F6").isEmpty());
+        assertTrue(geradorHash.verificar(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar códigos da chave anterior após a rotação")
+    void deveAceitarChaveAnteriorAposRotacao() {
+        // Arrange
+        String codigoAntigo = geradorHash.gerar(aluno, evento);
+        GeradorHashCertificado rotacionado = new GeradorHashCertificado(
+            properties("k2", Map.of("k1", CHAVE_K1, "k2", CHAVE_K2)));
+
+        try {
+            // Act
+            String codigoNovo = rotacionado.gerar(aluno, evento);
+
+            // Assert
+            assertTrue(codigoNovo.startsWith("k2.7.1."));
+            assertTrue(rotacionado.verificar(codigoAntigo).isPresent());
+            assertTrue(rotacionado.verificar(codigoNovo).isPresent());
+            assertTrue(geradorHash.verificar(codigoNovo).isEmpty());
+        } finally {
+            rotacionado.encerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve falhar na inicialização se a chave ativa não estiver configurada")
+    void deveFalharSemChaveAtiva() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> new GeradorHashCertificado(properties("k2", Map.of("k1", CHAVE_K1))));
+    }
+
+    @Test
+    @DisplayName("Deve falhar na inicialização se a chave estiver vazia ou for curta")
+    void deveFalharComChaveVaziaOuCurta() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> new GeradorHashCertificado(properties("k1", Map.of("k1", ""))));
+        assertThrows(IllegalStateException.class,
+            () -> new GeradorHashCertificado(properties("k1", Map.of("k1", "c2VncmVkbw=="))));
+    }
+
+    @Test
+    @DisplayName("Deve gerar um código distinto por aluno em lote paralelo")
+    void deveGerarCodigoDistintoPorAlunoEmLote() {
+        // Arrange
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setId(i);
+            aluno.setNome("Aluno " + i);
+            alunos.add(aluno);
+        }
+
+        // Act
+        List<String> codigos = geradorHash.gerarEmLote(alunos, evento);
+
+        // Assert
+        assertEquals(alunos.size(), codigos.size());
+        assertEquals(alunos.size(), new HashSet<>(codigos).size());
+        for (int i = 0; i < alunos.size(); i++) {
+            assertEquals(i, geradorHash.verificar(codigos.get(i)).orElseThrow().alunoId());
+        }
+    }
+}
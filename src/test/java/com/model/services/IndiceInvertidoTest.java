@@ -0,0 +1,77 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para IndiceInvertido")
+class IndiceInvertidoTest {
+
+    private IndiceInvertido indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceInvertido();
+        indice.indexar(1, Map.of("workshop", 3.0, "spring", 3.0, "java", 1.0));
+        indice.indexar(2, Map.of("palestra", 3.0, "java", 3.0));
+        indice.indexar(3, Map.of("hackathon", 3.0, "inovacao", 2.0));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pelo peso do termo em cada documento")
+    void deveOrdenarPeloPesoDoTermo() {
+        // Act
+        List<Integer> resultado = indice.buscar(List.of("java"), 10);
+
+        // Assert
+        assertEquals(List.of(2, 1), resultado);
+    }
+
+    @Test
+    @DisplayName("Deve exigir todos os termos da consulta")
+    void deveExigirTodosOsTermos() {
+        // Act & Assert
+        assertEquals(List.of(1), indice.buscar(List.of("java", "spring"), 10));
+        assertTrue(indice.buscar(List.of("java", "hackathon"), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve tratar o último termo como prefixo")
+    void deveTratarUltimoTermoComoPrefixo() {
+        // Act & Assert
+        assertEquals(List.of(3), indice.buscar(List.of("inov"), 10));
+        assertTrue(indice.buscar(List.of("inov", "hackathon"), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve substituir os termos ao reindexar e esquecê-los ao remover")
+    void deveSubstituirAoReindexarEEsquecerAoRemover() {
+        // Act
+        indice.indexar(1, Map.of("workshop", 3.0, "kotlin", 3.0));
+        indice.remover(3);
+
+        // Assert
+        assertEquals(List.of(2), indice.buscar(List.of("java"), 10));
+        assertEquals(List.of(1), indice.buscar(List.of("kotlin"), 10));
+        assertTrue(indice.buscar(List.of("hackathon"), 10).isEmpty());
+        assertEquals(2, indice.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite e desempatar pelo menor id")
+    void deveRespeitarLimiteEDesempatarPeloMenorId() {
+        // Arrange
+        indice.indexar(4, Map.of("palestra", 3.0, "java", 3.0));
+
+        // Act
+        List<Integer> resultado = indice.buscar(List.of("palestra"), 1);
+
+        // Assert
+        assertEquals(List.of(2), resultado);
+    }
+}
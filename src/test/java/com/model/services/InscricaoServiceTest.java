@@ -4,12 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Aluno;
 import com.model.domain.Curso;
 import com.model.domain.Evento;
 import com.model.domain.Inscricao;
+import com.model.dto.ResumoInscricao;
 import com.model.repository.AlunoRepository;
 import com.model.repository.EventoRepository;
 import com.model.repository.InscricaoRepository;
@@ -40,6 +48,12 @@ class InscricaoServiceTest {
     @Mock
     private AlunoRepository alunoRepository;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private InscricaoPipeline inscricaoPipeline;
+
     @InjectMocks
     private InscricaoService inscricaoService;
 
@@ -49,6 +63,9 @@ class InscricaoServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
         aluno = new Aluno();
         aluno.setId(1);
         aluno.setNome("João Silva");
@@ -79,52 +96,74 @@ class InscricaoServiceTest {
     @DisplayName("Deve listar inscrições por evento")
     void deveListarInscricoesPorEvento() {
         // Arrange
-        List<Inscricao> inscricoes = Arrays.asList(inscricao);
-        when(inscricaoRepository.findByEventoId(1)).thenReturn(inscricoes);
+        List<ResumoInscricao> inscricoes = List.of(
+            new ResumoInscricao(1, 1, "João Silva", 1, "Workshop Spring Boot", new Date(), null));
+        when(inscricaoRepository.findResumosPorEventoApos(1, 0, PageRequest.of(0, 51))).thenReturn(inscricoes);
 
         // Act
-        List<Inscricao> resultado = inscricaoService.listarPorEvento(1);
+        List<ResumoInscricao> resultado = inscricaoService.listarPorEvento(1, null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(inscricaoRepository, times(1)).findByEventoId(1);
+        verify(inscricaoRepository, times(1)).findResumosPorEventoApos(1, 0, PageRequest.of(0, 51));
     }
 
     @Test
     @DisplayName("Deve listar inscrições por aluno")
     void deveListarInscricoesPorAluno() {
         // Arrange
-        List<Inscricao> inscricoes = Arrays.asList(inscricao);
-        when(inscricaoRepository.findByAlunoId(1)).thenReturn(inscricoes);
+        List<ResumoInscricao> inscricoes = List.of(
+            new ResumoInscricao(1, 1, "João Silva", 1, "Workshop Spring Boot", new Date(), null));
+        when(inscricaoRepository.findResumosPorAlunoApos(1, 0, PageRequest.of(0, 51))).thenReturn(inscricoes);
 
         // Act
-        List<Inscricao> resultado = inscricaoService.listarPorAluno(1);
+        List<ResumoInscricao> resultado = inscricaoService.listarPorAluno(1, null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(inscricaoRepository, times(1)).findByAlunoId(1);
+        verify(inscricaoRepository, times(1)).findResumosPorAlunoApos(1, 0, PageRequest.of(0, 51));
     }
 
     @Test
     @DisplayName("Deve registrar inscrição com sucesso")
     void deveRegistrarInscricaoComSucesso() {
         // Arrange
-        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
-        when(alunoRepository.findById(1)).thenReturn(Optional.of(aluno));
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
         when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(false);
-        when(inscricaoRepository.save(any(Inscricao.class))).thenReturn(inscricao);
+        when(eventoRepository.reservarVaga(1)).thenReturn(1);
+        when(inscricaoRepository.saveAndFlush(any(Inscricao.class))).thenReturn(inscricao);
 
         // Act
         Inscricao resultado = inscricaoService.registrar(1, 1);
 
         // Assert
         assertNotNull(resultado);
-        verify(eventoRepository, times(1)).findById(1);
-        verify(alunoRepository, times(1)).findById(1);
+        verify(eventoRepository, times(1)).findComCursosById(1);
+        verify(alunoRepository, times(1)).findComCursosById(1);
         verify(inscricaoRepository, times(1)).existsByEventoIdAndAlunoId(1, 1);
-        verify(inscricaoRepository, times(1)).save(any(Inscricao.class));
+        verify(eventoRepository, times(1)).reservarVaga(1);
+        verify(inscricaoRepository, times(1)).saveAndFlush(any(Inscricao.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao registrar inscrição em evento lotado")
+    void deveLancarExcecaoAoRegistrarInscricaoEmEventoLotado() {
+        // Arrange
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
+        when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(false);
+        when(eventoRepository.reservarVaga(1)).thenReturn(0);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> inscricaoService.registrar(1, 1)
+        );
+        assertEquals("Evento sem vagas disponíveis", exception.getReason());
+        verify(inscricaoRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -136,7 +175,7 @@ class InscricaoServiceTest {
             () -> inscricaoService.registrar(null, 1)
         );
         assertEquals("ID do evento não pode ser nulo", exception.getReason());
-        verify(inscricaoRepository, never()).save(any());
+        verify(inscricaoRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -148,15 +187,15 @@ class InscricaoServiceTest {
             () -> inscricaoService.registrar(1, null)
         );
         assertEquals("ID do aluno não pode ser nulo", exception.getReason());
-        verify(inscricaoRepository, never()).save(any());
+        verify(inscricaoRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao registrar inscrição duplicada")
     void deveLancarExcecaoAoRegistrarInscricaoDuplicada() {
         // Arrange
-        when(eventoRepository.findById(1)).thenReturn(Optional.of(evento));
-        when(alunoRepository.findById(1)).thenReturn(Optional.of(aluno));
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
         when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(true);
 
         // Act & Assert
@@ -165,15 +204,116 @@ class InscricaoServiceTest {
             () -> inscricaoService.registrar(1, 1)
         );
         assertEquals("Aluno já inscrito neste evento", exception.getReason());
-        verify(inscricaoRepository, never()).save(any());
+        verify(inscricaoRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar conflito quando inscrição concorrente violar índice único")
+    void deveRetornarConflitoQuandoInscricaoConcorrenteViolarIndiceUnico() {
+        // Arrange
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
+        when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(false);
+        when(eventoRepository.reservarVaga(1)).thenReturn(1);
+        when(inscricaoRepository.saveAndFlush(any(Inscricao.class)))
+            .thenThrow(violacao("ux_inscricao_evento_aluno"));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> inscricaoService.registrar(1, 1)
+        );
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertEquals("Aluno já inscrito neste evento", exception.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve repassar violação de integridade que não seja do índice único de inscrição")
+    void deveRepassarOutraViolacaoDeIntegridade() {
+        // Arrange
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
+        when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(false);
+        when(eventoRepository.reservarVaga(1)).thenReturn(1);
+        DataIntegrityViolationException violacao = violacao("inscricoes_evento_id_fkey");
+        when(inscricaoRepository.saveAndFlush(any(Inscricao.class))).thenThrow(violacao);
+
+        // Act & Assert
+        DataIntegrityViolationException exception = assertThrows(
+            DataIntegrityViolationException.class,
+            () -> inscricaoService.registrar(1, 1)
+        );
+        assertSame(violacao, exception);
+    }
+
+    private static DataIntegrityViolationException violacao(String restricao) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", new SQLException(), restricao));
+    }
+
+    @Test
+    @DisplayName("Deve repetir inscrição após falha transitória de concorrência")
+    void deveRepetirInscricaoAposFalhaTransitoriaDeConcorrencia() {
+        // Arrange
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
+        when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(false);
+        when(eventoRepository.reservarVaga(1))
+            .thenThrow(new CannotAcquireLockException("lock timeout"))
+            .thenReturn(1);
+        when(inscricaoRepository.saveAndFlush(any(Inscricao.class))).thenReturn(inscricao);
+
+        // Act
+        Inscricao resultado = inscricaoService.registrar(1, 1);
+
+        // Assert
+        assertNotNull(resultado);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(inscricaoRepository, times(1)).saveAndFlush(any(Inscricao.class));
+    }
+
+    @Test
+    @DisplayName("Deve desistir após esgotar tentativas de inscrição")
+    void deveDesistirAposEsgotarTentativasDeInscricao() {
+        // Arrange
+        when(eventoRepository.findComCursosById(1)).thenReturn(Optional.of(evento));
+        when(alunoRepository.findComCursosById(1)).thenReturn(Optional.of(aluno));
+        when(inscricaoRepository.existsByEventoIdAndAlunoId(1, 1)).thenReturn(false);
+        when(eventoRepository.reservarVaga(1)).thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> inscricaoService.registrar(1, 1)
+        );
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        verify(transactionTemplate, times(5)).execute(any());
+        verify(inscricaoRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve delegar a inscrição ao pipeline quando a estratégia estiver ativa")
+    void deveDelegarInscricaoAoPipelineQuandoEstrategiaEstiverAtiva() {
+        // Arrange
+        when(inscricaoPipeline.isAtivo()).thenReturn(true);
+        when(inscricaoPipeline.registrar(1, 1)).thenReturn(inscricao);
+
+        // Act
+        Inscricao resultado = inscricaoService.registrar(1, 1);
+
+        // Assert
+        assertSame(inscricao, resultado);
+        verify(transactionTemplate, never()).execute(any());
     }
 
     @Test
     @DisplayName("Deve atualizar presença com sucesso")
     void deveAtualizarPresencaComSucesso() {
         // Arrange
+        inscricao.setPresenca(true);
+        when(inscricaoRepository.findEventoIdById(1)).thenReturn(Optional.of(1));
+        when(inscricaoRepository.confirmarPresenca(1)).thenReturn(1);
         when(inscricaoRepository.findById(1)).thenReturn(Optional.of(inscricao));
-        when(inscricaoRepository.save(any(Inscricao.class))).thenReturn(inscricao);
 
         // Act
         Inscricao resultado = inscricaoService.atualizarPresenca(1, true);
@@ -181,8 +321,54 @@ class InscricaoServiceTest {
         // Assert
         assertNotNull(resultado);
         assertEquals(true, resultado.getPresenca());
-        verify(inscricaoRepository, times(1)).findById(1);
-        verify(inscricaoRepository, times(1)).save(inscricao);
+        verify(eventoRepository, times(1)).ajustarPresentes(1, 1);
+        verify(inscricaoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar confirmação de presença já confirmada")
+    void deveIgnorarConfirmacaoDePresencaJaConfirmada() {
+        // Arrange
+        when(inscricaoRepository.findEventoIdById(1)).thenReturn(Optional.of(1));
+        when(inscricaoRepository.confirmarPresenca(1)).thenReturn(0);
+        when(inscricaoRepository.findById(1)).thenReturn(Optional.of(inscricao));
+
+        // Act
+        inscricaoService.atualizarPresenca(1, true);
+
+        // Assert
+        verify(eventoRepository, never()).ajustarPresentes(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve descontar presença retirada")
+    void deveDescontarPresencaRetirada() {
+        // Arrange
+        when(inscricaoRepository.findEventoIdById(1)).thenReturn(Optional.of(1));
+        when(inscricaoRepository.retirarPresenca(1, false)).thenReturn(1);
+        when(inscricaoRepository.findById(1)).thenReturn(Optional.of(inscricao));
+
+        // Act
+        inscricaoService.atualizarPresenca(1, false);
+
+        // Assert
+        verify(eventoRepository, times(1)).ajustarPresentes(1, -1);
+        verify(inscricaoRepository, never()).definirPresenca(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar presença de inscrição inexistente")
+    void deveLancarExcecaoAoAtualizarPresencaDeInscricaoInexistente() {
+        // Arrange
+        when(inscricaoRepository.findEventoIdById(999)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> inscricaoService.atualizarPresenca(999, true)
+        );
+        assertEquals("Inscrição não encontrada", exception.getReason());
+        verify(inscricaoRepository, never()).confirmarPresenca(any());
     }
 
     @Test
@@ -194,19 +380,21 @@ class InscricaoServiceTest {
             () -> inscricaoService.atualizarPresenca(null, true)
         );
         assertEquals("ID da inscrição não pode ser nulo", exception.getReason());
-        verify(inscricaoRepository, never()).save(any());
+        verify(inscricaoRepository, never()).findEventoIdById(any());
     }
 
     @Test
     @DisplayName("Deve remover inscrição com sucesso")
     void deveRemoverInscricaoComSucesso() {
         // Arrange
+        when(inscricaoRepository.findEventoIdById(1)).thenReturn(Optional.of(1));
         doNothing().when(inscricaoRepository).deleteById(1);
 
         // Act
         inscricaoService.remover(1);
 
         // Assert
+        verify(eventoRepository, times(1)).liberarVaga(1);
         verify(inscricaoRepository, times(1)).deleteById(1);
     }
 
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -16,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.model.domain.Palestrante;
+import com.model.dto.ResumoPalestrante;
 import com.model.repository.PalestranteRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +29,9 @@ class PalestranteServiceTest {
     @Mock
     private PalestranteRepository palestranteRepository;
 
+    @Mock
+    private BuscaEventosService buscaEventosService;
+
     @InjectMocks
     private PalestranteService palestranteService;
 
@@ -56,17 +60,17 @@ class PalestranteServiceTest {
     @DisplayName("Deve listar todos os palestrantes")
     void deveListarTodosOsPalestrantes() {
         // Arrange
-        List<Palestrante> palestrantes = Arrays.asList(palestrante);
-        when(palestranteRepository.findAll()).thenReturn(palestrantes);
+        List<ResumoPalestrante> palestrantes = List.of(ResumoPalestrante.de(palestrante));
+        when(palestranteRepository.findResumosApos(0, PageRequest.of(0, 51))).thenReturn(palestrantes);
 
         // Act
-        List<Palestrante> resultado = palestranteService.listarTodos();
+        List<ResumoPalestrante> resultado = palestranteService.listar(null, null).itens();
 
         // Assert
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Maria Santos", resultado.get(0).getNome());
-        verify(palestranteRepository, times(1)).findAll();
+        assertEquals("Maria Santos", resultado.get(0).nome());
+        verify(palestranteRepository, times(1)).findResumosApos(0, PageRequest.of(0, 51));
     }
 
     @Test
@@ -144,6 +148,7 @@ class PalestranteServiceTest {
         assertNotNull(resultado);
         verify(palestranteRepository, times(1)).findById(1);
         verify(palestranteRepository, times(1)).save(palestrante);
+        verify(buscaEventosService, times(1)).reindexarPalestrante(1);
     }
 
     @Test
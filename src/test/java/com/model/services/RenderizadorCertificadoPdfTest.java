@@ -0,0 +1,83 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.Charset;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.model.domain.Aluno;
+import com.model.domain.Certificado;
+import com.model.domain.Evento;
+import com.model.domain.Palestrante;
+
+@DisplayName("Testes para RenderizadorCertificadoPdf")
+class RenderizadorCertificadoPdfTest {
+
+    private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+
+    private RenderizadorCertificadoPdf renderizador;
+    private Certificado certificado;
+
+    @BeforeEach
+    void setUp() {
+        renderizador = new RenderizadorCertificadoPdf();
+
+        Aluno aluno = new Aluno();
+        aluno.setId(1);
+        aluno.setNome("João (Joca) Silva");
+
+        Evento evento = new Evento();
+        evento.setId(1);
+        evento.setNome("Semana Acadêmica");
+        evento.setCargaHoraria(8);
+
+        Palestrante palestrante = new Palestrante();
+        palestrante.setNome("Maria Santos");
+
+        certificado = new Certificado();
+        certificado.setAluno(aluno);
+        certificado.setEvento(evento);
+        certificado.setPalestrante(palestrante);
+        certificado.setNomeInstituicao("UNINCOR");
+        certificado.setHashCertificado("k1.1.1.3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+
+    @Test
+    @DisplayName("Deve renderizar PDF com os dados do certificado")
+    void deveRenderizarPdfComDadosDoCertificado() {
+        // Act
+        String pdf = new String(renderizador.renderizar(certificado), WIN_ANSI);
+
+        // Assert
+        assertTrue(pdf.startsWith("%PDF-1.4\n"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertTrue(pdf.contains("(João \\(Joca\\) Silva)"));
+        assertTrue(pdf.contains("carga horária de 8 horas"));
+        assertTrue(pdf.contains("Maria Santos"));
+        assertTrue(pdf.contains("Código de verificação: k1.1.1.3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar tabela xref apontando para o início de cada objeto")
+    void deveGerarTabelaXrefValida() {
+        // Act
+        String pdf = new String(renderizador.renderizar(certificado), WIN_ANSI);
+
+        // Assert
+        int startxref = Integer.parseInt(pdf.substring(pdf.indexOf("startxref\n") + 10, pdf.indexOf("\n%%EOF")));
+        assertTrue(pdf.startsWith("xref\n", startxref));
+
+        Matcher entradas = Pattern.compile("(\\d{10}) 00000 n ").matcher(pdf);
+        int objeto = 1;
+        while (entradas.find()) {
+            assertTrue(pdf.startsWith(objeto + " 0 obj", Integer.parseInt(entradas.group(1))));
+            objeto++;
+        }
+        assertEquals(7, objeto);
+    }
+}
@@ -0,0 +1,49 @@
+package com.model.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para TokenizadorBusca")
+class TokenizadorBuscaTest {
+
+    @Test
+    @DisplayName("Deve remover acentos, caixa e palavras vazias")
+    void deveRemoverAcentosCaixaEPalavrasVazias() {
+        // Act
+        List<String> termos = TokenizadorBusca.termos("Introdução à Computação de Alto Desempenho");
+
+        // Assert
+        assertEquals(List.of("introducao", "computacao", "alto", "desempenho"), termos);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir plurais ao singular")
+    void deveReduzirPluraisAoSingular() {
+        // Act & Assert
+        assertEquals(List.of("inovacao", "canal", "jovem", "professor", "evento"),
+            TokenizadorBusca.termos("Inovações canais jovens professores eventos"));
+        assertEquals(TokenizadorBusca.termos("Palestra"), TokenizadorBusca.termos("palestras"));
+    }
+
+    @Test
+    @DisplayName("Deve manter números e descartar letras soltas")
+    void deveManterNumerosEDescartarLetrasSoltas() {
+        // Act
+        List<String> termos = TokenizadorBusca.termos("Java 21 - módulo B, 2025/2");
+
+        // Assert
+        assertEquals(List.of("java", "21", "modulo", "2025", "2"), termos);
+    }
+
+    @Test
+    @DisplayName("Deve devolver lista vazia para texto nulo")
+    void deveDevolverListaVaziaParaTextoNulo() {
+        // Act & Assert
+        assertTrue(TokenizadorBusca.termos(null).isEmpty());
+        assertTrue(TokenizadorBusca.termos("  de  a ").isEmpty());
+    }
+}